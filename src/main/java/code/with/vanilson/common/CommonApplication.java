@@ -1,10 +1,12 @@
 package code.with.vanilson.common;
 
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
 import static org.springframework.boot.SpringApplication.run;
 
-@SpringBootApplication
+// The reactive car API owns its R2DBC pool: a ConnectionFactory bean would make the JDBC DataSource back off
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class CommonApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,29 @@
+package code.with.vanilson.common.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bulkhead
+ * <p>
+ * Runs the annotated method on the threads of a named bulkhead configured under {@code app.bulkhead.pools}.
+ * Methods returning a {@link java.util.concurrent.CompletionStage} free the calling thread at once; any other
+ * method blocks its caller until the bulkhead has run it.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-01
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    /**
+     * @return the name of the bulkhead, a key of {@code app.bulkhead.pools}.
+     */
+    String value();
+}
@@ -0,0 +1,53 @@
+package code.with.vanilson.common.bulkhead;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * BulkheadAspect
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-01
+ */
+@Aspect
+public class BulkheadAspect {
+
+    private final BulkheadRegistry registry;
+
+    public BulkheadAspect(BulkheadRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("@annotation(bulkhead)")
+    @SuppressWarnings("unchecked")
+    public Object around(ProceedingJoinPoint joinPoint, Bulkhead bulkhead) throws Throwable {
+        var executor = registry.get(bulkhead.value());
+        var future = executor.submit(() -> {
+            try {
+                return joinPoint.proceed();
+            } catch (Exception | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        var returnType = ((MethodSignature) joinPoint.getSignature()).getReturnType();
+        if (CompletionStage.class.isAssignableFrom(returnType)) {
+            return future.thenCompose(result -> (CompletionStage<Object>) result);
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            throw ex.getCause();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package code.with.vanilson.common.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * BulkheadConfig
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-01
+ */
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+@ConditionalOnProperty(prefix = "app.bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(BulkheadProperties properties, ObjectProvider<DataSource> dataSource,
+                                             MeterRegistry registry) {
+        return new BulkheadRegistry(properties, dataSource, registry);
+    }
+
+    @Bean
+    public BulkheadAspect bulkheadAspect(BulkheadRegistry bulkheadRegistry) {
+        return new BulkheadAspect(bulkheadRegistry);
+    }
+}
@@ -0,0 +1,137 @@
+package code.with.vanilson.common.bulkhead;
+
+import code.with.vanilson.common.exceptions.ResourceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * BulkheadExecutor
+ * <p>
+ * The threads and queue of one bulkhead. Calls carry the request attributes and the MDC of the submitting
+ * thread, so link building and trace ids keep working on the bulkhead threads. A call that finds every thread
+ * busy and the queue full is rejected with {@code 503 Service Unavailable}.
+ * <pre>
+ * bulkhead.active{bulkhead}
+ * bulkhead.queued{bulkhead}
+ * bulkhead.rejected{bulkhead}
+ * bulkhead.queue.wait{bulkhead}
+ * bulkhead.execution{bulkhead}
+ * </pre>
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-01
+ */
+public class BulkheadExecutor {
+
+    public static final String BULKHEAD_FULL = "request.bulkhead_full";
+
+    private final String name;
+    private final long retryAfterSeconds;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+    private final Timer queueWait;
+    private final Timer execution;
+
+    public BulkheadExecutor(String name, BulkheadProperties.Pool pool, long retryAfterSeconds,
+                            MeterRegistry registry) {
+        this.name = name;
+        this.retryAfterSeconds = retryAfterSeconds;
+        BlockingQueue<Runnable> queue = pool.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(pool.getQueueCapacity())
+                : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(pool.getMaxThreads(), pool.getMaxThreads(),
+                pool.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS, queue,
+                new CustomizableThreadFactory("bulkhead-" + name + "-"));
+        executor.allowCoreThreadTimeOut(true);
+        Gauge.builder("bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Calls running on the bulkhead threads")
+                .tag("bulkhead", name)
+                .register(registry);
+        Gauge.builder("bulkhead.queued", queue, BlockingQueue::size)
+                .description("Calls waiting for a bulkhead thread")
+                .tag("bulkhead", name)
+                .register(registry);
+        this.rejected = Counter.builder("bulkhead.rejected")
+                .description("Calls rejected because the bulkhead was full")
+                .tag("bulkhead", name)
+                .register(registry);
+        this.queueWait = Timer.builder("bulkhead.queue.wait")
+                .description("Time calls waited for a bulkhead thread")
+                .tag("bulkhead", name)
+                .register(registry);
+        this.execution = Timer.builder("bulkhead.execution")
+                .description("Time calls ran on a bulkhead thread")
+                .tag("bulkhead", name)
+                .register(registry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * @throws ResourceUnavailableException when the bulkhead is full.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> call) {
+        var future = new CompletableFuture<T>();
+        var requestAttributes = detach(RequestContextHolder.getRequestAttributes());
+        var mdc = MDC.getCopyOfContextMap();
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try {
+                    future.complete(call.call());
+                } catch (Throwable ex) {
+                    future.completeExceptionally(ex);
+                } finally {
+                    execution.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    RequestContextHolder.resetRequestAttributes();
+                    MDC.clear();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw ResourceUnavailableException.of(retryAfterSeconds, BULKHEAD_FULL, name, retryAfterSeconds);
+        }
+        return future;
+    }
+
+    // The submitting dispatch marks its attributes inactive when it returns, give the call its own view
+    private static RequestAttributes detach(RequestAttributes attributes) {
+        return attributes instanceof ServletRequestAttributes servlet
+                ? new ServletRequestAttributes(servlet.getRequest(), servlet.getResponse())
+                : attributes;
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+}
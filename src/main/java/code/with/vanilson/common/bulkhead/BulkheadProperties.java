@@ -0,0 +1,35 @@
+package code.with.vanilson.common.bulkhead;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * BulkheadProperties
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-01
+ */
+@Data
+@ConfigurationProperties(prefix = "app.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+    // Connections of the pool no bulkhead may use, left for interactive traffic on the request threads
+    private int reservedConnections = 4;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private Map<String, Pool> pools = new LinkedHashMap<>();
+
+    @Data
+    public static class Pool {
+        // Threads of the bulkhead, each holds at most one connection so this is also its connection partition
+        private int maxThreads = 2;
+        // Calls waiting for a thread before new ones are rejected, 0 to never wait
+        private int queueCapacity = 10;
+        private Duration keepAlive = Duration.ofSeconds(60);
+    }
+}
@@ -0,0 +1,80 @@
+package code.with.vanilson.common.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * BulkheadRegistry
+ * <p>
+ * Creates the bulkheads configured under {@code app.bulkhead.pools}. A bulkhead thread holds at most one
+ * connection at a time, so its thread count is also its share of the connection pool; at startup the shares
+ * of every bulkhead plus {@code reserved-connections} are checked against the Hikari pool size, guaranteeing
+ * that bulk work can never take the connections interactive requests need.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-01
+ */
+@Slf4j
+public class BulkheadRegistry implements DisposableBean {
+
+    private final Map<String, BulkheadExecutor> bulkheads = new LinkedHashMap<>();
+
+    public BulkheadRegistry(BulkheadProperties properties, ObjectProvider<DataSource> dataSource,
+                            MeterRegistry registry) {
+        long retryAfter = Math.max(1, properties.getRetryAfter().toSeconds());
+        properties.getPools().forEach((name, pool) ->
+                bulkheads.put(name, new BulkheadExecutor(name, pool, retryAfter, registry)));
+        validatePartitions(properties, dataSource.getIfAvailable());
+    }
+
+    /**
+     * @throws IllegalArgumentException when no bulkhead has that name.
+     */
+    public BulkheadExecutor get(String name) {
+        var bulkhead = bulkheads.get(name);
+        if (bulkhead == null) {
+            throw new IllegalArgumentException("No bulkhead named " + name + " under app.bulkhead.pools");
+        }
+        return bulkhead;
+    }
+
+    @Override
+    public void destroy() {
+        bulkheads.values().forEach(BulkheadExecutor::shutdown);
+    }
+
+    private void validatePartitions(BulkheadProperties properties, DataSource dataSource) {
+        var hikari = unwrap(dataSource);
+        if (hikari == null) {
+            return;
+        }
+        int partitioned = bulkheads.values().stream().mapToInt(BulkheadExecutor::getMaxThreads).sum();
+        int required = partitioned + properties.getReservedConnections();
+        if (required > hikari.getMaximumPoolSize()) {
+            throw new IllegalStateException("Bulkheads use " + partitioned + " connections and "
+                    + properties.getReservedConnections() + " are reserved, but the pool only has "
+                    + hikari.getMaximumPoolSize());
+        }
+        log.info("Bulkheads {} use {} of {} pooled connections", bulkheads.keySet(), partitioned,
+                hikari.getMaximumPoolSize());
+    }
+
+    private static HikariDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class)
+                    : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package code.with.vanilson.common.cache;
+
+import code.with.vanilson.common.car.Car;
+
+/**
+ * CachedCar
+ * <p>
+ * A detached {@link Car} snapshot together with the wall-clock time it was read from the database.
+ * The snapshot is shared between readers and must never be modified.
+ *
+ * @param car      the cached car state
+ * @param storedAt epoch millis at which the state was loaded from the database
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-21
+ */
+public record CachedCar(Car car, long storedAt) {
+}
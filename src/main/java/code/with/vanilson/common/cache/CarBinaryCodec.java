@@ -0,0 +1,133 @@
+package code.with.vanilson.common.cache;
+
+import code.with.vanilson.common.car.Car;
+import code.with.vanilson.common.money.Money;
+
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CarBinaryCodec
+ * <p>
+ * Compact, self-describing binary encoding of a {@link Car}:
+ * <pre>
+ * id:long | year:int | kilometres:int | priceScale:byte | priceUnscaled:long | 4 x (length:short | utf8 bytes)
+ * </pre>
+ * The price is in {@link Money#DEFAULT_CURRENCY}, as in the price column. A negative price scale or string length marks
+ * a null value. Decoding reads with absolute offsets only,
+ * so a single buffer can be decoded from many threads at once.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-21
+ */
+public final class CarBinaryCodec {
+
+    /**
+     * Bumped whenever the layout above changes, persisted images written with another version are discarded.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int FIXED_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES + Byte.BYTES + Long.BYTES;
+    private static final byte NULL_SCALE = -1;
+    private static final short NULL_LENGTH = -1;
+
+    private CarBinaryCodec() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    public static byte[] encode(Car car) {
+        byte[] brandName = utf8(car.getBrandName());
+        byte[] modelName = utf8(car.getModelName());
+        byte[] registrationNumber = utf8(car.getRegistrationNumber());
+        byte[] carType = utf8(car.getCarType());
+        int size = FIXED_SIZE + sizeOf(brandName) + sizeOf(modelName) + sizeOf(registrationNumber) + sizeOf(carType);
+
+        var buffer = ByteBuffer.allocate(size);
+        buffer.putLong(car.getId());
+        buffer.putInt(car.getYear());
+        buffer.putInt(car.getKilometres());
+        writePrice(buffer, car.getPrice());
+        writeString(buffer, brandName);
+        writeString(buffer, modelName);
+        writeString(buffer, registrationNumber);
+        writeString(buffer, carType);
+        return buffer.array();
+    }
+
+    public static Car decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes), 0);
+    }
+
+    public static Car decode(ByteBuffer buffer, int offset) {
+        var car = new Car();
+        car.setId(buffer.getLong(offset));
+        car.setYear(buffer.getInt(offset + 8));
+        car.setKilometres(buffer.getInt(offset + 12));
+        byte scale = buffer.get(offset + 16);
+        car.setPrice(scale == NULL_SCALE ? null
+                : Money.of(buffer.getLong(offset + 17), scale, Money.DEFAULT_CURRENCY, RoundingMode.UNNECESSARY));
+
+        int position = offset + FIXED_SIZE;
+        car.setBrandName(readString(buffer, position));
+        position += sizeAt(buffer, position);
+        car.setModelName(readString(buffer, position));
+        position += sizeAt(buffer, position);
+        car.setRegistrationNumber(readString(buffer, position));
+        position += sizeAt(buffer, position);
+        car.setCarType(readString(buffer, position));
+        return car;
+    }
+
+    private static void writePrice(ByteBuffer buffer, Money price) {
+        if (price == null) {
+            buffer.put(NULL_SCALE);
+            buffer.putLong(0L);
+            return;
+        }
+        if (!price.currency().equals(Money.DEFAULT_CURRENCY)) {
+            throw new IllegalArgumentException("Car price not in " + Money.DEFAULT_CURRENCY + ": " + price);
+        }
+        buffer.put((byte) price.scale());
+        buffer.putLong(price.minorUnits());
+    }
+
+    private static void writeString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putShort(NULL_LENGTH);
+            return;
+        }
+        buffer.putShort((short) value.length);
+        buffer.put(value);
+    }
+
+    private static String readString(ByteBuffer buffer, int offset) {
+        short length = buffer.getShort(offset);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        var bytes = new byte[length];
+        buffer.get(offset + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int sizeAt(ByteBuffer buffer, int offset) {
+        return Short.BYTES + Math.max(0, buffer.getShort(offset));
+    }
+
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Car attribute too long to encode: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    private static int sizeOf(byte[] value) {
+        return Short.BYTES + (value == null ? 0 : value.length);
+    }
+}
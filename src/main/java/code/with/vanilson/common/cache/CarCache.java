@@ -0,0 +1,70 @@
+package code.with.vanilson.common.cache;
+
+import code.with.vanilson.common.car.Car;
+
+import java.util.Optional;
+
+/**
+ * CarCache
+ * <p>
+ * Read-through cache of car state sitting in front of {@code CarRepository}.
+ * <p>
+ * Every eviction advances the invalidation sequence of the car. Loaders read the {@link #sequence} before going
+ * to the database and hand it to {@link #put}, which drops the car when an eviction happened in between: the
+ * row they read may predate the change that caused it, and caching it would undo the eviction.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-21
+ */
+public interface CarCache {
+
+    /**
+     * Cache used when {@code app.cache.car.enabled} is false, every lookup goes to the database.
+     */
+    CarCache NONE = new CarCache() {
+        @Override
+        public Optional<CachedCar> get(long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public long sequence(long id) {
+            return 0L;
+        }
+
+        @Override
+        public void put(Car car, long sequence) {
+            // nothing to cache
+        }
+
+        @Override
+        public void evict(long id) {
+            // nothing to evict
+        }
+
+        @Override
+        public void clear() {
+            // nothing to clear
+        }
+    };
+
+    Optional<CachedCar> get(long id);
+
+    /**
+     * @return the invalidation sequence of the car, to be read before loading it from the database.
+     */
+    long sequence(long id);
+
+    /**
+     * Caches a car loaded after {@link #sequence} returned {@code sequence}, unless it was evicted since.
+     */
+    void put(Car car, long sequence);
+
+    void evict(long id);
+
+    /**
+     * Evicts every car, for when invalidations may have been missed and no entry can be trusted.
+     */
+    void clear();
+}
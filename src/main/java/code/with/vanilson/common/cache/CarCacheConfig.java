@@ -0,0 +1,37 @@
+package code.with.vanilson.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * CarCacheConfig
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-21
+ */
+@Configuration
+@EnableConfigurationProperties(CarCacheProperties.class)
+public class CarCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "app.cache.car", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public TwoTierCarCache carCache(CarCacheProperties properties, MeterRegistry registry) throws IOException {
+        var l2 = new MappedCarStore(
+                properties.getL2File(),
+                Math.toIntExact(properties.getL2Capacity().toBytes()),
+                properties.getWatermark());
+        return new TwoTierCarCache(properties, l2, registry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.car", name = "enabled", havingValue = "false")
+    public CarCache noCarCache() {
+        return CarCache.NONE;
+    }
+}
@@ -0,0 +1,33 @@
+package code.with.vanilson.common.cache;
+
+import code.with.vanilson.common.car.CarChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * CarCacheInvalidator
+ * <p>
+ * Drops a car from the local {@link CarCache} once the transaction that changed it has committed.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-21
+ */
+@Component
+@Slf4j
+public class CarCacheInvalidator {
+
+    private final CarCache carCache;
+
+    public CarCacheInvalidator(CarCache carCache) {
+        this.carCache = carCache;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCarChanged(CarChangedEvent event) {
+        log.debug("Evicting car {} after {}", event.id(), event.type());
+        carCache.evict(event.id());
+    }
+}
@@ -0,0 +1,55 @@
+package code.with.vanilson.common.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * CarCacheProperties
+ * <p>
+ * Settings of the two-tier car cache, bound from {@code app.cache.car}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-21
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.car")
+public class CarCacheProperties {
+
+    private boolean enabled = true;
+    // On-heap tier
+    private long l1MaxEntries = 10_000;
+    private Duration l1ExpireAfterAccess = Duration.ofMinutes(30);
+    // Memory-mapped tier, kept across restarts
+    private Path l2File = Path.of("data", "car-cache.l2");
+    private DataSize l2Capacity = DataSize.ofMegabytes(64);
+    // Stale-while-revalidate: entries younger than freshFor are served as is, older ones up to
+    // maxStaleness are served immediately while a background refresh runs, beyond that the database is hit
+    private Duration freshFor = Duration.ofSeconds(30);
+    private Duration maxStaleness = Duration.ofMinutes(15);
+    private int revalidationConcurrency = 4;
+    // Changing the watermark (e.g. on a schema migration) invalidates the persisted image
+    private String watermark = "V1";
+    private Invalidation invalidation = new Invalidation();
+
+    @Data
+    public static class Invalidation {
+        // Broadcast car changes to the caches of the other replicas
+        private boolean enabled = true;
+        private Transport transport = Transport.IN_MEMORY;
+        private String channel = "car_invalidation";
+        // Changes are coalesced and sent at most once per interval, or earlier once a batch is full
+        private Duration flushInterval = Duration.ofMillis(50);
+        private int maxBatchSize = 256;
+        private Duration pollTimeout = Duration.ofMillis(500);
+    }
+
+    public enum Transport {
+        IN_MEMORY,
+        POSTGRES
+    }
+}
@@ -0,0 +1,197 @@
+package code.with.vanilson.common.cache;
+
+import code.with.vanilson.common.car.Car;
+import code.with.vanilson.common.car.CarChangedEvent;
+import code.with.vanilson.common.car.CarRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CarInvalidationBus
+ * <p>
+ * Broadcasts committed car changes to the {@link CarCache} of every other replica. Changed ids are
+ * coalesced in a set, so a car updated many times within one flush interval is sent once, and flushed
+ * in batches of at most {@code max-batch-size} ids per message:
+ * <pre>
+ * nodeId;sentAtEpochMillis;id,id,id
+ * </pre>
+ * Receivers skip their own messages (the local cache is already handled by {@link CarCacheInvalidator}),
+ * evict the listed ids and record the propagation latency from the flush that sent them, which includes clock
+ * skew between nodes. The ids are evicted from the Hibernate entity region as well, and the car query region is
+ * cleared: the next load goes through {@code CarRepository}, which would otherwise answer it with the old car.
+ * When the transport reports that messages may have been lost, every cached car is evicted.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-23
+ */
+@Slf4j
+public class CarInvalidationBus implements Closeable {
+
+    private static final char FIELD_SEPARATOR = ';';
+    private static final char ID_SEPARATOR = ',';
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final InvalidationTransport transport;
+    private final CarCache carCache;
+    private final Cache hibernateCache;
+    private final int maxBatchSize;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    // One flush at a time, a caller of flush() must find every id taken before it already sent
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService flusher;
+    private final Timer propagation;
+    private final Counter sentIds;
+    private final Counter receivedIds;
+    private final Counter failedFlushes;
+
+    /**
+     * @param hibernateCache the second-level cache of the servlet stack, {@code null} when there is none
+     */
+    public CarInvalidationBus(InvalidationTransport transport, CarCache carCache, Cache hibernateCache,
+                              CarCacheProperties.Invalidation properties, MeterRegistry registry) {
+        this.transport = transport;
+        this.carCache = carCache;
+        this.hibernateCache = hibernateCache;
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.propagation = Timer.builder("car.cache.invalidation.propagation")
+                .description("Time from a car invalidation being sent by one node to its eviction on another")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.sentIds = Counter.builder("car.cache.invalidation.ids").tag("direction", "sent").register(registry);
+        this.receivedIds = Counter.builder("car.cache.invalidation.ids").tag("direction", "received")
+                .register(registry);
+        this.failedFlushes = Counter.builder("car.cache.invalidation.flush.failures")
+                .description("Batches of car invalidations that could not be sent and were queued again")
+                .register(registry);
+        transport.subscribe(this::receive);
+        transport.onMessagesLost(this::invalidateAll);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("car-invalidation-"));
+        long interval = properties.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCarChanged(CarChangedEvent event) {
+        if (event.type() == CarChangedEvent.Type.CREATED) {
+            // Nobody can have cached a car that did not exist yet
+            return;
+        }
+        pending.add(event.id());
+        if (pending.size() >= maxBatchSize) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Sends every pending id now, in as many messages as the batch size requires. When a message cannot be
+     * sent its ids go back to the pending set for the next flush and the failure is rethrown.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            Iterator<Long> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                var message = new StringBuilder(64 + maxBatchSize * 8)
+                        .append(nodeId).append(FIELD_SEPARATOR)
+                        .append(System.currentTimeMillis()).append(FIELD_SEPARATOR);
+                var batch = new ArrayList<Long>(Math.min(maxBatchSize, pending.size()));
+                while (iterator.hasNext() && batch.size() < maxBatchSize) {
+                    if (!batch.isEmpty()) {
+                        message.append(ID_SEPARATOR);
+                    }
+                    Long id = iterator.next();
+                    message.append(id);
+                    iterator.remove();
+                    batch.add(id);
+                }
+                try {
+                    transport.send(message.toString());
+                } catch (RuntimeException ex) {
+                    // Other replicas would serve these cars stale until max-staleness, try again next flush
+                    pending.addAll(batch);
+                    failedFlushes.increment();
+                    throw ex;
+                }
+                sentIds.increment(batch.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    void receive(String payload) {
+        int nodeEnd = payload.indexOf(FIELD_SEPARATOR);
+        int sentAtEnd = payload.indexOf(FIELD_SEPARATOR, nodeEnd + 1);
+        if (nodeEnd < 0 || sentAtEnd < 0) {
+            log.warn("Ignoring malformed car invalidation message: {}", payload);
+            return;
+        }
+        if (payload.regionMatches(0, nodeId, 0, nodeEnd) && nodeEnd == nodeId.length()) {
+            return;
+        }
+        long sentAt = Long.parseLong(payload, nodeEnd + 1, sentAtEnd, 10);
+        int start = sentAtEnd + 1;
+        while (start < payload.length()) {
+            int end = payload.indexOf(ID_SEPARATOR, start);
+            if (end < 0) {
+                end = payload.length();
+            }
+            long id = Long.parseLong(payload, start, end, 10);
+            carCache.evict(id);
+            if (hibernateCache != null) {
+                hibernateCache.evictEntityData(Car.class, id);
+            }
+            receivedIds.increment();
+            start = end + 1;
+        }
+        if (hibernateCache != null) {
+            hibernateCache.evictQueryRegion(CarRepository.QUERY_CACHE_REGION);
+        }
+        propagation.record(Math.max(0, System.currentTimeMillis() - sentAt), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Whatever was sent while messages were being lost is unknown, so nothing cached can be trusted any more.
+     */
+    void invalidateAll() {
+        log.warn("Car invalidations may have been lost, evicting every cached car");
+        carCache.clear();
+        if (hibernateCache != null) {
+            hibernateCache.evictEntityData(Car.class);
+            hibernateCache.evictQueryRegion(CarRepository.QUERY_CACHE_REGION);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Could not broadcast car invalidations: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        flushQuietly();
+        transport.close();
+    }
+}
@@ -0,0 +1,44 @@
+package code.with.vanilson.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * CarInvalidationConfig
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-23
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.cache.car.invalidation", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class CarInvalidationConfig {
+
+    @Bean(destroyMethod = "close")
+    public InvalidationTransport invalidationTransport(CarCacheProperties properties, DataSource dataSource) {
+        var invalidation = properties.getInvalidation();
+        return switch (invalidation.getTransport()) {
+            case IN_MEMORY -> new InMemoryInvalidationTransport();
+            case POSTGRES -> new PostgresInvalidationTransport(
+                    dataSource, invalidation.getChannel(), invalidation.getPollTimeout());
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    public CarInvalidationBus carInvalidationBus(InvalidationTransport invalidationTransport, CarCache carCache,
+                                                 ObjectProvider<EntityManagerFactory> entityManagerFactory,
+                                                 CarCacheProperties properties, MeterRegistry registry) {
+        var emf = entityManagerFactory.getIfAvailable();
+        var hibernateCache = emf != null ? emf.getCache().unwrap(Cache.class) : null;
+        return new CarInvalidationBus(invalidationTransport, carCache, hibernateCache, properties.getInvalidation(),
+                registry);
+    }
+}
@@ -0,0 +1,105 @@
+package code.with.vanilson.common.cache;
+
+import code.with.vanilson.common.car.CarRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CarRevalidator
+ * <p>
+ * Refreshes stale {@link CarCache} entries in the background. At most
+ * {@code app.cache.car.revalidation-concurrency} refreshes run at once and a car is never refreshed twice
+ * concurrently; requests arriving while the limit is reached keep being served the stale value and simply
+ * do not schedule another refresh. A failed refresh (database down) leaves the stale entry in place, and a
+ * refresh overtaken by an eviction is dropped, see {@link CarCache#sequence}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-22
+ */
+@Component
+@Slf4j
+public class CarRevalidator implements DisposableBean {
+
+    private static final String REVALIDATIONS = "car.cache.revalidations";
+
+    private final CarRepository carRepository;
+    private final CarCache carCache;
+    private final Semaphore permits;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor;
+    private final Counter succeeded;
+    private final Counter failed;
+    private final Counter skipped;
+
+    public CarRevalidator(CarRepository carRepository, CarCache carCache, CarCacheProperties properties,
+                          MeterRegistry registry) {
+        this.carRepository = carRepository;
+        this.carCache = carCache;
+        int concurrency = properties.getRevalidationConcurrency();
+        this.permits = new Semaphore(concurrency);
+        // Never queues: the permit check guarantees a free worker for every submitted refresh
+        this.executor = new ThreadPoolExecutor(0, concurrency, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("car-revalidate-"));
+        this.succeeded = Counter.builder(REVALIDATIONS).tag("result", "success").register(registry);
+        this.failed = Counter.builder(REVALIDATIONS).tag("result", "failure").register(registry);
+        this.skipped = Counter.builder(REVALIDATIONS).tag("result", "skipped").register(registry);
+    }
+
+    /**
+     * Schedules a refresh of the given car unless one is already running or the concurrency limit is reached.
+     */
+    public void revalidate(long id) {
+        if (!inFlight.add(id)) {
+            return;
+        }
+        if (!permits.tryAcquire()) {
+            inFlight.remove(id);
+            skipped.increment();
+            return;
+        }
+        try {
+            executor.execute(() -> refresh(id));
+        } catch (RuntimeException ex) {
+            release(id);
+            throw ex;
+        }
+    }
+
+    private void refresh(long id) {
+        try {
+            // Read before the row: a refresh overtaken by an update's eviction must not mark old data fresh
+            long sequence = carCache.sequence(id);
+            carRepository.findCarById(id).ifPresentOrElse(car -> carCache.put(car, sequence),
+                    () -> carCache.evict(id));
+            succeeded.increment();
+        } catch (RuntimeException ex) {
+            failed.increment();
+            log.warn("Could not revalidate car {}, still serving the cached value: {}", id, ex.getMessage());
+        } finally {
+            release(id);
+        }
+    }
+
+    private void release(long id) {
+        inFlight.remove(id);
+        permits.release();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
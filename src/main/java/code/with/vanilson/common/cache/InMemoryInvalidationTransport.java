@@ -0,0 +1,35 @@
+package code.with.vanilson.common.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * InMemoryInvalidationTransport
+ * <p>
+ * {@link InvalidationTransport} delivering synchronously to subscribers in the same JVM. Used by single
+ * node deployments and by tests, where several buses share one instance to stand in for several nodes.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-23
+ */
+public class InMemoryInvalidationTransport implements InvalidationTransport {
+
+    private final List<Consumer<String>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(String payload) {
+        subscribers.forEach(subscriber -> subscriber.accept(payload));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public void close() {
+        subscribers.clear();
+    }
+}
@@ -0,0 +1,35 @@
+package code.with.vanilson.common.cache;
+
+import java.io.Closeable;
+import java.util.function.Consumer;
+
+/**
+ * InvalidationTransport
+ * <p>
+ * Fan-out channel used by {@link CarInvalidationBus}: every message sent is delivered to the subscribers
+ * of every node, the sending node included.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-23
+ */
+public interface InvalidationTransport extends Closeable {
+
+    /**
+     * @throws RuntimeException when the message could not be handed to the channel, so the caller can retry it.
+     */
+    void send(String payload);
+
+    void subscribe(Consumer<String> subscriber);
+
+    /**
+     * Registers a callback run when messages may have been lost, e.g. after the listener reconnected. Transports
+     * that cannot lose messages never run it.
+     */
+    default void onMessagesLost(Runnable callback) {
+        // nothing is ever lost
+    }
+
+    @Override
+    void close();
+}
@@ -0,0 +1,263 @@
+package code.with.vanilson.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * MappedCarStore
+ * <p>
+ * Off-heap, memory-mapped append log of {@link CarBinaryCodec encoded} cars that survives restarts.
+ * <pre>
+ * header  : magic:int | formatVersion:int | watermark:long | writePosition:int
+ * record  : length:int | type:byte | id:long | storedAt:long | car bytes (live records only)
+ * </pre>
+ * The in-heap index ({@code id -> record offset}) is rebuilt by scanning the log on open. An image whose
+ * magic, format version or watermark does not match the running application is discarded, so a schema
+ * or mapping change never resurrects stale state; so is an image with a record that does not fit the log or
+ * does not decode, as left behind by a crash mid-compaction. When the file is full the live records are compacted
+ * in place; if they still do not fit the store is cleared.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-21
+ */
+@Slf4j
+public class MappedCarStore implements Closeable {
+
+    private static final int MAGIC = 0x43415253; // "CARS"
+    private static final int WRITE_POSITION_OFFSET = 16;
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Byte.BYTES + Long.BYTES + Long.BYTES;
+    private static final byte LIVE = 1;
+    private static final byte TOMBSTONE = 2;
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final Map<Long, Integer> index = new ConcurrentHashMap<>();
+    // Plain lock rather than synchronized: writers must not pin a virtual carrier thread
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int writePosition;
+
+    public MappedCarStore(Path file, int capacity, String watermark) throws IOException {
+        if (capacity <= HEADER_SIZE) {
+            throw new IllegalArgumentException("L2 capacity must be larger than " + HEADER_SIZE + " bytes");
+        }
+        this.file = file;
+        this.capacity = capacity;
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (var channel = FileChannel.open(file, CREATE, READ, WRITE)) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        // Fault the image into memory up front so the first reads after a restart are not page faults
+        buffer.load();
+        open(fingerprint(watermark));
+    }
+
+    public CachedCar get(long id) {
+        lock.readLock().lock();
+        try {
+            Integer offset = index.get(id);
+            if (offset == null) {
+                return null;
+            }
+            long storedAt = buffer.getLong(offset + Integer.BYTES + Byte.BYTES + Long.BYTES);
+            return new CachedCar(CarBinaryCodec.decode(buffer, offset + RECORD_HEADER_SIZE), storedAt);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(long id, byte[] encodedCar, long storedAt) {
+        lock.writeLock().lock();
+        try {
+            int offset = append(LIVE, id, storedAt, encodedCar);
+            if (offset >= 0) {
+                index.put(id, offset);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            if (index.remove(id) != null) {
+                append(TOMBSTONE, id, 0L, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            setWritePosition(HEADER_SIZE);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void open(long fingerprint) {
+        boolean compatible = buffer.getInt(0) == MAGIC
+                && buffer.getInt(4) == CarBinaryCodec.FORMAT_VERSION
+                && buffer.getLong(8) == fingerprint;
+        int persistedPosition = buffer.getInt(WRITE_POSITION_OFFSET);
+        if (!compatible || persistedPosition < HEADER_SIZE || persistedPosition > capacity) {
+            log.info("Discarding car cache image {}: missing or written for another version", file);
+            reset(fingerprint);
+            return;
+        }
+        writePosition = persistedPosition;
+        if (!scan()) {
+            // Torn write or a crash mid-compaction, nothing in the image can be trusted
+            log.warn("Discarding car cache image {}: corrupt record log", file);
+            index.clear();
+            reset(fingerprint);
+            return;
+        }
+        log.info("Restored {} cars from car cache image {}", index.size(), file);
+    }
+
+    /**
+     * Rebuilds the index from the record log, validating every record on the way.
+     *
+     * @return false as soon as a record does not fit the log or its car does not decode.
+     */
+    private boolean scan() {
+        int position = HEADER_SIZE;
+        while (position < writePosition) {
+            if (writePosition - position < RECORD_HEADER_SIZE) {
+                return false;
+            }
+            int length = buffer.getInt(position);
+            if (length < RECORD_HEADER_SIZE - Integer.BYTES || length > writePosition - position - Integer.BYTES) {
+                return false;
+            }
+            byte type = buffer.get(position + Integer.BYTES);
+            long id = buffer.getLong(position + Integer.BYTES + Byte.BYTES);
+            if (type == LIVE) {
+                try {
+                    // Re-encoding must give back exactly the record, a decode reading past it proves nothing
+                    var car = CarBinaryCodec.decode(buffer, position + RECORD_HEADER_SIZE);
+                    if (CarBinaryCodec.encode(car).length != Integer.BYTES + length - RECORD_HEADER_SIZE) {
+                        return false;
+                    }
+                } catch (RuntimeException ex) {
+                    return false;
+                }
+                index.put(id, position);
+            } else if (type == TOMBSTONE && length == RECORD_HEADER_SIZE - Integer.BYTES) {
+                index.remove(id);
+            } else {
+                return false;
+            }
+            position += Integer.BYTES + length;
+        }
+        return true;
+    }
+
+    private void reset(long fingerprint) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, CarBinaryCodec.FORMAT_VERSION);
+        buffer.putLong(8, fingerprint);
+        setWritePosition(HEADER_SIZE);
+    }
+
+    private int append(byte type, long id, long storedAt, byte[] encodedCar) {
+        int length = RECORD_HEADER_SIZE + (encodedCar == null ? 0 : encodedCar.length);
+        if (writePosition + length > capacity && !compact(length)) {
+            return -1;
+        }
+        int offset = writePosition;
+        buffer.putInt(offset, length - Integer.BYTES);
+        buffer.put(offset + Integer.BYTES, type);
+        buffer.putLong(offset + Integer.BYTES + Byte.BYTES, id);
+        buffer.putLong(offset + Integer.BYTES + Byte.BYTES + Long.BYTES, storedAt);
+        if (encodedCar != null) {
+            buffer.put(offset + RECORD_HEADER_SIZE, encodedCar);
+        }
+        // Publish the record only once it is fully written, a crash mid-record leaves it unreachable
+        setWritePosition(offset + length);
+        return offset;
+    }
+
+    private boolean compact(int required) {
+        var live = new ArrayList<Map.Entry<Long, byte[]>>(index.size());
+        index.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .forEach(entry -> {
+                    int offset = entry.getValue();
+                    var record = new byte[Integer.BYTES + buffer.getInt(offset)];
+                    buffer.get(offset, record);
+                    live.add(Map.entry(entry.getKey(), record));
+                });
+        index.clear();
+        int position = HEADER_SIZE;
+        for (var entry : live) {
+            if (position + entry.getValue().length > capacity - required) {
+                log.warn("Car cache image {} is full, dropping {} cached cars", file, live.size());
+                index.clear();
+                position = HEADER_SIZE;
+                break;
+            }
+            buffer.put(position, entry.getValue());
+            index.put(entry.getKey(), position);
+            position += entry.getValue().length;
+        }
+        setWritePosition(position);
+        return position + required <= capacity;
+    }
+
+    private void setWritePosition(int position) {
+        writePosition = position;
+        buffer.putInt(WRITE_POSITION_OFFSET, position);
+    }
+
+    /**
+     * FNV-1a hash of the configured watermark, stored in the header to recognise foreign images.
+     */
+    static long fingerprint(String watermark) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : watermark.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
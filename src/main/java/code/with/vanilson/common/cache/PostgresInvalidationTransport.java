@@ -0,0 +1,171 @@
+package code.with.vanilson.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * PostgresInvalidationTransport
+ * <p>
+ * {@link InvalidationTransport} on top of Postgres {@code LISTEN/NOTIFY}, so replicas need nothing but the
+ * database they already share. Sending borrows a pooled connection for a single {@code pg_notify}; receiving
+ * keeps one pooled connection {@code LISTEN}ing on a daemon thread and reconnects with a back-off when it
+ * is lost; notifications sent in between are gone, so every reconnect is reported through
+ * {@link #onMessagesLost}. The connection is {@code UNLISTEN}ed before it goes back to the pool. Notifications
+ * are only delivered after the sending transaction commits and are capped at 8000 bytes, which
+ * {@link CarInvalidationBus} batching stays well below.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-23
+ */
+@Slf4j
+public class PostgresInvalidationTransport implements InvalidationTransport {
+
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final DataSource dataSource;
+    private final String channel;
+    private final int pollTimeoutMillis;
+    private final List<Consumer<String>> subscribers = new CopyOnWriteArrayList<>();
+    private final List<Runnable> lossCallbacks = new CopyOnWriteArrayList<>();
+    // No synchronized in a class doing JDBC, see PinningHazardTest
+    private final ReentrantLock listenerLock = new ReentrantLock();
+    private volatile boolean running = true;
+    private Thread listener;
+
+    public PostgresInvalidationTransport(DataSource dataSource, String channel, Duration pollTimeout) {
+        if (!CHANNEL.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid LISTEN/NOTIFY channel name: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.channel = channel;
+        this.pollTimeoutMillis = Math.toIntExact(pollTimeout.toMillis());
+    }
+
+    @Override
+    public void send(String payload) {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, channel);
+            statement.setString(2, payload);
+            statement.execute();
+        } catch (SQLException ex) {
+            throw new DataAccessResourceFailureException("Could not publish car invalidation on channel " + channel,
+                    ex);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> subscriber) {
+        listenerLock.lock();
+        try {
+            subscribers.add(subscriber);
+            if (listener == null) {
+                listener = new Thread(this::listen, "car-invalidation-listener");
+                listener.setDaemon(true);
+                listener.start();
+            }
+        } finally {
+            listenerLock.unlock();
+        }
+    }
+
+    @Override
+    public void onMessagesLost(Runnable callback) {
+        lossCallbacks.add(callback);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen() {
+        long backoffMillis = 100;
+        boolean reconnecting = false;
+        while (running) {
+            try (var connection = dataSource.getConnection()) {
+                try {
+                    try (var statement = connection.createStatement()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                    log.info("Listening for car invalidations on channel {}", channel);
+                    backoffMillis = 100;
+                    if (reconnecting) {
+                        lossCallbacks.forEach(PostgresInvalidationTransport::runQuietly);
+                    }
+                    reconnecting = true;
+                    receive(connection.unwrap(PGConnection.class));
+                } finally {
+                    unlisten(connection);
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Car invalidation listener lost its connection, retrying in {} ms: {}",
+                        backoffMillis, ex.getMessage());
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void receive(PGConnection pgConnection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+            if (notifications == null) {
+                continue;
+            }
+            for (var notification : notifications) {
+                for (var subscriber : subscribers) {
+                    // A bad message or subscriber must not cost the connection and the messages behind it
+                    try {
+                        subscriber.accept(notification.getParameter());
+                    } catch (RuntimeException ex) {
+                        log.warn("Could not handle car invalidation {}: {}", notification.getParameter(),
+                                ex.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    // The pool hands the connection to somebody else next, who must not receive our notifications
+    private void unlisten(Connection connection) {
+        try (var statement = connection.createStatement()) {
+            statement.execute("UNLISTEN *");
+        } catch (SQLException ex) {
+            log.debug("Could not UNLISTEN channel {}: {}", channel, ex.getMessage());
+        }
+    }
+
+    private static void runQuietly(Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException ex) {
+            log.warn("Could not handle lost car invalidations: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package code.with.vanilson.common.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * SecondLevelCacheMetrics
+ * <p>
+ * Publishes a hit ratio gauge per configured second-level cache region. Raw hit/miss/put counters are
+ * already exported by {@code hibernate-micrometer}; the ratio saves every dashboard from recomputing it.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-20
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    public static final String HIT_RATIO = "hibernate.second.level.cache.hit.ratio";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SecondLevelCacheProperties properties;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory,
+                                   SecondLevelCacheProperties properties) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = properties;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        properties.getRegions().keySet().forEach(region -> Gauge
+                .builder(HIT_RATIO, statistics, stats -> hitRatio(stats, region))
+                .tag("region", region)
+                .description("Hits over lookups for a Hibernate second-level cache region")
+                .register(registry));
+    }
+
+    static double hitRatio(Statistics statistics, String region) {
+        var regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long hits = regionStatistics.getHitCount();
+        long lookups = hits + regionStatistics.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+}
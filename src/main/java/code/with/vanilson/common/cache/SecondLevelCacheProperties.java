@@ -0,0 +1,33 @@
+package code.with.vanilson.common.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SecondLevelCacheProperties
+ * <p>
+ * Sizing of the Hibernate second-level cache regions, bound from {@code app.cache.second-level}.
+ * Every configured region is created up front in the JCache {@code CacheManager} handed to Hibernate.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-20
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.second-level")
+public class SecondLevelCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+        // Maximum number of entries kept before the least valuable ones are evicted
+        private long maxEntries = 1_000;
+        // Time to live after the entry was written, no expiry when unset
+        private Duration expireAfterWrite;
+    }
+}
@@ -0,0 +1,120 @@
+package code.with.vanilson.common.cache;
+
+import code.with.vanilson.common.car.Car;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.io.Closeable;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * TwoTierCarCache
+ * <p>
+ * {@link CarCache} with a bounded on-heap L1 in front of a {@link MappedCarStore} L2. Misses in L1 are
+ * promoted from L2; writes go to both tiers. Both tiers hold the state decoded from the same bytes, so
+ * a car read after a restart is indistinguishable from one read before it.
+ * <p>
+ * Invalidation sequences live in a fixed table of striped counters; cars sharing a stripe only cause each
+ * other's puts to be dropped now and then, never a stale entry to be kept.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-21
+ */
+public class TwoTierCarCache implements CarCache, Closeable {
+
+    public static final String CACHE_NAME = "cars";
+    private static final int SEQUENCE_STRIPES = 4096;
+
+    private final Cache<Long, CachedCar> l1;
+    private final MappedCarStore l2;
+    private final AtomicLongArray sequences = new AtomicLongArray(SEQUENCE_STRIPES);
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public TwoTierCarCache(CarCacheProperties properties, MappedCarStore l2, MeterRegistry registry) {
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(properties.getL1MaxEntries())
+                .expireAfterAccess(properties.getL1ExpireAfterAccess())
+                .recordStats()
+                .build();
+        this.l2 = l2;
+        CaffeineCacheMetrics.monitor(registry, l1, CACHE_NAME, "tier", "l1");
+        this.l2Hits = Counter.builder("car.cache.l2.requests").tag("result", "hit").register(registry);
+        this.l2Misses = Counter.builder("car.cache.l2.requests").tag("result", "miss").register(registry);
+        registry.gauge("car.cache.l2.size", l2, MappedCarStore::size);
+    }
+
+    @Override
+    public Optional<CachedCar> get(long id) {
+        var cached = l1.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        cached = l2.get(id);
+        if (cached == null) {
+            l2Misses.increment();
+            return Optional.empty();
+        }
+        l2Hits.increment();
+        l1.put(id, cached);
+        return Optional.of(cached);
+    }
+
+    @Override
+    public long sequence(long id) {
+        return sequences.get(stripe(id));
+    }
+
+    @Override
+    public void put(Car car, long sequence) {
+        long id = car.getId();
+        if (sequence(id) != sequence) {
+            return;
+        }
+        long storedAt = System.currentTimeMillis();
+        byte[] encoded = CarBinaryCodec.encode(car);
+        l2.put(id, encoded, storedAt);
+        // L1 keeps a detached copy, never the (possibly managed) entity handed in
+        l1.put(id, new CachedCar(CarBinaryCodec.decode(encoded), storedAt));
+        // An eviction that slipped in between the check and the writes may have missed them, undo them
+        if (sequence(id) != sequence) {
+            remove(id);
+        }
+    }
+
+    @Override
+    public void evict(long id) {
+        // Advance first: a put that passes its check after this point is caught by its re-check
+        sequences.incrementAndGet(stripe(id));
+        remove(id);
+    }
+
+    @Override
+    public void clear() {
+        for (int stripe = 0; stripe < SEQUENCE_STRIPES; stripe++) {
+            sequences.incrementAndGet(stripe);
+        }
+        l1.invalidateAll();
+        l2.clear();
+    }
+
+    private void remove(long id) {
+        l1.invalidate(id);
+        l2.remove(id);
+    }
+
+    private static int stripe(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & (SEQUENCE_STRIPES - 1);
+    }
+
+    @Override
+    public void close() {
+        l2.close();
+    }
+}
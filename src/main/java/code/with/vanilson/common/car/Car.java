@@ -1,14 +1,17 @@
 package code.with.vanilson.common.car;
 
+import code.with.vanilson.common.money.Money;
+import code.with.vanilson.common.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.math.BigDecimal;
 
 /**
  * Car
@@ -19,6 +22,8 @@ import java.math.BigDecimal;
  */
 @Entity
 @Table(name = "cars")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Car.CACHE_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,6 +31,7 @@ import java.math.BigDecimal;
 public class Car implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
+    public static final String CACHE_REGION = "cars";
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,10 +48,11 @@ public class Car implements Serializable {
     @Column(nullable = false, name = "kms")
     private int kilometres;
     @Column(nullable = false, precision = 6, scale = 2)
-    private BigDecimal price;
+    @Convert(converter = MoneyConverter.class)
+    private Money price;
 
     public Car(String brandName, String modelName, String registrationNumber, String carType, int year, int kilometres,
-               BigDecimal price) {
+               Money price) {
         this.brandName = brandName;
         this.modelName = modelName;
         this.registrationNumber = registrationNumber;
@@ -0,0 +1,22 @@
+package code.with.vanilson.common.car;
+
+/**
+ * CarChangedEvent
+ * <p>
+ * Published by {@link CarService} whenever a car is written, so caches holding that car can drop it
+ * once the surrounding transaction has committed.
+ *
+ * @param id   the id of the car that changed
+ * @param type what happened to the car
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-21
+ */
+public record CarChangedEvent(long id, Type type) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
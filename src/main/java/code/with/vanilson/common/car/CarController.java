@@ -1,5 +1,6 @@
 package code.with.vanilson.common.car;
 
+import code.with.vanilson.common.bulkhead.Bulkhead;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -10,7 +11,12 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import static code.with.vanilson.common.https.ResponseHeaderConstant.AGE;
+import static code.with.vanilson.common.https.ResponseHeaderConstant.WARNING;
+import static code.with.vanilson.common.https.ResponseHeaderConstant.WARNING_RESPONSE_IS_STALE;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 import static org.springframework.http.HttpMethod.HEAD;
@@ -29,14 +35,17 @@ import static org.springframework.http.HttpMethod.HEAD;
 public class CarController {
 
     public static final String CARS = "cars";
+    public static final String EXPORT_BULKHEAD = "export";
     private final CarService carService;
 
     public CarController(CarService carService) {
         this.carService = carService;
     }
 
+    // Listing every car is bulk work, kept off the threads and connections of single-car lookups
     @GetMapping
-    public ResponseEntity<List<CarResponse>> getAllCars() {
+    @Bulkhead(EXPORT_BULKHEAD)
+    public CompletableFuture<ResponseEntity<List<CarResponse>>> getAllCars() {
         log.info("Retrieving all cars");
         var carResponses = carService.findAllCars();
 
@@ -44,25 +53,32 @@ public class CarController {
         carResponses.forEach(carResponse -> {
             carResponse.add(linkTo(methodOn(CarController.class).getCarById(Integer.parseInt(
                     String.valueOf(carResponse.getId())))).withSelfRel());
-            carResponse.add(linkTo(methodOn(CarController.class).getAllCars()).withRel(CARS));
+            carResponse.add(linkTo(CarController.class).withRel(CARS));
         });
 
-        return ResponseEntity
+        return CompletableFuture.completedFuture(ResponseEntity
                 .ok()
                 .allow(HEAD)
-                .body(carResponses);
+                .body(carResponses));
     }
 
     @GetMapping(value = "/{id}")
     public ResponseEntity<CarResponse> getCarById(@PathVariable("id") int id) {
         log.info("Retrieving car with id {}", id);
-        var carResponse = carService.findCarById(id);
+        var lookup = carService.lookupCarById(id);
+        var carResponse = lookup.car();
         // Add HATEOAS links
         carResponse.add(linkTo(methodOn(CarController.class)
                 .getCarById(Integer.parseInt(
                         String.valueOf(carResponse.getId()))))
                 .withSelfRel());
-        carResponse.add(linkTo(methodOn(CarController.class).getAllCars()).withRel(CARS));
+        carResponse.add(linkTo(CarController.class).withRel(CARS));
+        if (lookup.stale()) {
+            return ResponseEntity.ok()
+                    .header(AGE, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(lookup.ageMillis())))
+                    .header(WARNING, WARNING_RESPONSE_IS_STALE)
+                    .body(carResponse);
+        }
         return ResponseEntity.ok(carResponse);
     }
 
@@ -77,7 +93,7 @@ public class CarController {
                 .getCarById(Integer.parseInt(
                         String.valueOf(carResponse.getId()))))
                 .withSelfRel());
-        carResponse.add(linkTo(methodOn(CarController.class).getAllCars()).withRel(CARS));
+        carResponse.add(linkTo(CarController.class).withRel(CARS));
 
         URI locationURI = uriComponentsBuilder
                 .path("/api/cars/" + carResponse.getRegistrationNumber())
@@ -101,9 +117,7 @@ public class CarController {
                         String.valueOf(carResponseUpdate.getId()))))
                 .withSelfRel());
 
-        carResponseUpdate.add(linkTo(methodOn(CarController.class)
-                .getAllCars())
-                .withRel(CARS));
+        carResponseUpdate.add(linkTo(CarController.class).withRel(CARS));
 
         return ResponseEntity.ok()
                 .body(carResponseUpdate);
@@ -115,8 +129,8 @@ public class CarController {
         log.info("Deleting car with id {}", id);
         // Add HATEOAS link to the list of all fines
         // Create a base URL for listing fines
-        String allFinesUrl = linkTo(methodOn(CarController.class)
-                .getAllCars())
+        // getAllCars() answers asynchronously, its link comes from the class mapping
+        String allFinesUrl = linkTo(CarController.class)
                 .toUri()
                 .toString();
 
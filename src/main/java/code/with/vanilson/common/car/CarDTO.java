@@ -1,13 +1,12 @@
 package code.with.vanilson.common.car;
 
+import code.with.vanilson.common.money.Money;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 /**
  * CarDTO
  *
@@ -40,6 +39,6 @@ public class CarDTO {
     private int kilometres;
 
     @DecimalMin(value = "0.0", message = "Price must be a positive number")
-    private BigDecimal price;
+    private Money price;
 
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package code.with.vanilson.common.car;
+
+import code.with.vanilson.common.exceptions.handle.ErrorCodeContributor;
+import code.with.vanilson.common.exceptions.handle.ErrorCodeRegistry;
+import org.springframework.stereotype.Component;
+
+import static code.with.vanilson.common.https.ErrorCodes.CAR_INVALID_DATA;
+
+/**
+ * CarErrorCodes
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-27
+ */
+@Component
+public class CarErrorCodes implements ErrorCodeContributor {
+
+    @Override
+    public void contribute(ErrorCodeRegistry.Registrar registrar) {
+        registrar.register("/api/cars", CAR_INVALID_DATA);
+    }
+}
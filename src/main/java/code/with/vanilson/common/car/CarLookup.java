@@ -0,0 +1,16 @@
+package code.with.vanilson.common.car;
+
+/**
+ * CarLookup
+ * <p>
+ * Result of {@link CarService#lookupCarById(long)}: the car plus how old the served state is.
+ *
+ * @param car        the car, always a fresh instance the caller may decorate
+ * @param ageMillis  time since the state was read from the database, 0 when it was just loaded
+ * @param stale      whether the state is past its freshness window and being refreshed in the background
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-22
+ */
+public record CarLookup(CarResponse car, long ageMillis, boolean stale) {
+}
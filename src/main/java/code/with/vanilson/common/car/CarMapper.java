@@ -1,6 +1,5 @@
 package code.with.vanilson.common.car;
 
-import code.with.vanilson.common.exceptions.ResourceBadRequestException;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -19,10 +18,10 @@ public class CarMapper {
     }
 
     // create a method called mapToResponse and has parameter Car object.
-    protected static CarResponse toResponse(Car car) {
+    public static CarResponse toResponse(Car car) {
         if (null == car) {
             log.error("Car is null{}", car);
-            throw new ResourceBadRequestException("car.null_data");
+            throw CarService.NULL_CAR_DATA;
         }
         return CarResponse.builder()
                 .id(car.getId())
@@ -36,10 +35,10 @@ public class CarMapper {
                 .build();
     }
 
-    protected static Car toModel(CarRequest request) {
+    public static Car toModel(CarRequest request) {
         if (null == request) {
             log.error("request is null{}", request);
-            throw new ResourceBadRequestException("car.null_data");
+            throw CarService.NULL_CAR_DATA;
         }
         var car = new Car();
         car.setBrandName(request.getBrandName());
@@ -1,8 +1,18 @@
 package code.with.vanilson.common.car;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * CarRepository
@@ -12,5 +22,29 @@ import java.util.Optional;
  * @since 2024-09-14
  */
 public interface CarRepository extends JpaRepository<Car, Integer> {
+    String QUERY_CACHE_REGION = "car-queries";
+
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     Optional<Car> findCarById(long id);
-}
\ No newline at end of file
+
+    @Override
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    List<Car> findAll();
+
+    List<Car> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Every car in id order, read through a cursor: must be consumed, and closed, inside a transaction. Rows are
+     * projected straight into responses so nothing accumulates in the persistence context.
+     */
+    @Query("select new code.with.vanilson.common.car.CarResponse(c.id, c.brandName, c.modelName, "
+            + "c.registrationNumber, c.carType, c.year, c.kilometres, c.price) from Car c order by c.id")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "256"))
+    Stream<CarResponse> streamAllCars();
+}
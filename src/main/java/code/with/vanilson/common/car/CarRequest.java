@@ -1,13 +1,13 @@
 package code.with.vanilson.common.car;
 
+import code.with.vanilson.common.money.InCurrency;
+import code.with.vanilson.common.money.Money;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 /**
  * CarRequest
  *
@@ -40,5 +40,6 @@ public class CarRequest {
     private int kilometres;
 
     @DecimalMin(value = "0.0", message = "Price must be a positive number")
-    private BigDecimal price;
+    @InCurrency(message = "Price must be in EUR")
+    private Money price;
 }
\ No newline at end of file
@@ -1,13 +1,12 @@
 package code.with.vanilson.common.car;
 
+import code.with.vanilson.common.money.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.hateoas.RepresentationModel;
 
-import java.math.BigDecimal;
-
 /**
  * CarResponse
  *
@@ -27,5 +26,5 @@ public class CarResponse extends RepresentationModel<CarResponse> {
     private String carType;
     private int year;
     private int kilometres;
-    private BigDecimal price;
+    private Money price;
 }
\ No newline at end of file
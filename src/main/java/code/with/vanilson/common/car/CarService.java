@@ -1,16 +1,20 @@
 package code.with.vanilson.common.car;
 
+import code.with.vanilson.common.cache.CarCache;
+import code.with.vanilson.common.cache.CarCacheProperties;
+import code.with.vanilson.common.cache.CarRevalidator;
 import code.with.vanilson.common.exceptions.ResourceBadRequestException;
 import code.with.vanilson.common.exceptions.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
-import static code.with.vanilson.common.utils.MessageProvider.getMessage;
 
 /**
  * CarService
@@ -24,10 +28,22 @@ import static code.with.vanilson.common.utils.MessageProvider.getMessage;
 @Slf4j
 public class CarService {
     public static final String CAR_NOT_FOUND = "car.not_found";
+    static final ResourceBadRequestException NULL_CAR_DATA = ResourceBadRequestException.shared("car.null_data");
     private final CarRepository carRepository;
-
-    public CarService(CarRepository carRepository) {
+    private final CarCache carCache;
+    private final CarRevalidator carRevalidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long freshForMillis;
+    private final long maxStalenessMillis;
+
+    public CarService(CarRepository carRepository, CarCache carCache, CarRevalidator carRevalidator,
+                      CarCacheProperties cacheProperties, ApplicationEventPublisher eventPublisher) {
         this.carRepository = carRepository;
+        this.carCache = carCache;
+        this.carRevalidator = carRevalidator;
+        this.eventPublisher = eventPublisher;
+        this.freshForMillis = cacheProperties.getFreshFor().toMillis();
+        this.maxStalenessMillis = cacheProperties.getMaxStaleness().toMillis();
     }
 
     @Transactional(readOnly = true)
@@ -39,17 +55,58 @@ public class CarService {
                 .toList();
     }
 
+    /**
+     * @return the cars among {@code ids} that exist, in no particular order.
+     */
     @Transactional(readOnly = true)
-    public CarResponse findCarById(long id) {
-        validateCarId(id);
+    public List<CarResponse> findCarsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
         return carRepository
-                .findCarById(id)
+                .findByIdIn(ids)
+                .stream()
                 .map(CarMapper::toResponse)
-                .orElseThrow(() -> {
-                    var errorMessage = MessageFormat.format(getMessage(CAR_NOT_FOUND), id);
-                    return new ResourceNotFoundException(errorMessage);
-                });
+                .toList();
+    }
 
+    /**
+     * Hands every car, in id order, to {@code action} while reading them from a database cursor. The transaction
+     * and its connection are held until the last car has been handed over, so {@code action} may block to apply
+     * backpressure but should not take long.
+     */
+    @Transactional(readOnly = true)
+    public void forEachCar(Consumer<CarResponse> action) {
+        try (var cars = carRepository.streamAllCars()) {
+            cars.forEach(action);
+        }
+    }
+
+    public CarResponse findCarById(long id) {
+        return lookupCarById(id).car();
+    }
+
+    /**
+     * Finds a car, serving cached state with stale-while-revalidate semantics: fresh entries are returned
+     * as is, stale entries within {@code max-staleness} are returned immediately while a bounded background
+     * refresh runs, so reads keep working while the database is slow or failing over. Anything older is
+     * loaded synchronously.
+     */
+    // Not transactional on purpose: a cache hit must not borrow a database connection
+    public CarLookup lookupCarById(long id) {
+        validateCarId(id);
+        var cached = carCache.get(id).orElse(null);
+        if (cached != null) {
+            long age = System.currentTimeMillis() - cached.storedAt();
+            if (age <= freshForMillis) {
+                return new CarLookup(CarMapper.toResponse(cached.car()), age, false);
+            }
+            if (age <= maxStalenessMillis) {
+                carRevalidator.revalidate(id);
+                return new CarLookup(CarMapper.toResponse(cached.car()), age, true);
+            }
+        }
+        return new CarLookup(loadCar(id), 0L, false);
     }
 
     @Transactional
@@ -57,11 +114,12 @@ public class CarService {
     public CarResponse createCar(CarRequest request) {
         if (null == request) {
             log.error("Request is null");
-            throw new ResourceBadRequestException("car.null_data");
+            throw NULL_CAR_DATA;
         }
         var savedCar = CarMapper.toModel(request);
         var response = carRepository.save(savedCar);
         log.info("Saved car: {}", response);
+        eventPublisher.publishEvent(new CarChangedEvent(response.getId(), CarChangedEvent.Type.CREATED));
         return CarMapper.toResponse(response);
     }
 
@@ -69,36 +127,46 @@ public class CarService {
     public CarResponse updateCar(long id, CarRequest request) {
         if (null == request) {
             log.error("request is null {}", (Object) null);
-            throw new ResourceBadRequestException("car.null_data");
+            throw NULL_CAR_DATA;
         }
         validateCarId(id);
         var existingCar = buildCarFromRequestAndId(id, request);
         var response = carRepository.save(existingCar);
         log.info("Updated car: {}", response);
+        eventPublisher.publishEvent(new CarChangedEvent(id, CarChangedEvent.Type.UPDATED));
         return CarMapper.toResponse(response);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public void deleteACarById(long id) {
         validateCarId(id);
-        var deletedCar = carRepository.findCarById(id);
-        log.info("Deleting car: " + deletedCar);
-        deletedCar.ifPresent(carRepository::delete);
-        throw new ResourceNotFoundException(CAR_NOT_FOUND);
-
+        var deletedCar = carRepository.findCarById(id)
+                .orElseThrow(() -> ResourceNotFoundException.of(CAR_NOT_FOUND, id));
+        log.info("Deleting car: {}", deletedCar);
+        carRepository.delete(deletedCar);
+        eventPublisher.publishEvent(new CarChangedEvent(id, CarChangedEvent.Type.DELETED));
     }
 
     private static void validateCarId(long id) {
         if (id <= 0) {
-            var errorMessage = getMessage("car.invalid_data", id);
             log.error("The Car id provide is less than or equal to zero {} ", id);
-            throw new ResourceBadRequestException(errorMessage);
+            throw ResourceBadRequestException.of("car.invalid_data", id);
         }
     }
 
+    private CarResponse loadCar(long id) {
+        // Read before the row, so a put overtaken by a concurrent update's eviction is dropped
+        long sequence = carCache.sequence(id);
+        var car = carRepository
+                .findCarById(id)
+                .orElseThrow(() -> ResourceNotFoundException.of(CAR_NOT_FOUND, id));
+        carCache.put(car, sequence);
+        return CarMapper.toResponse(car);
+    }
+
     private Car buildCarFromRequestAndId(long id, CarRequest request) {
         var existingCar = carRepository.findCarById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(CAR_NOT_FOUND));
+                .orElseThrow(() -> ResourceNotFoundException.of(CAR_NOT_FOUND, id));
 
         // Update the fields of the existing car object without creating a new one
         existingCar.setBrandName(request.getBrandName());
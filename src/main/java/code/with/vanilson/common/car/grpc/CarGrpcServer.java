@@ -0,0 +1,93 @@
+package code.with.vanilson.common.car.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CarGrpcServer
+ * <p>
+ * Runs the gRPC services on their own port, started and stopped with the context. Calls run on a fixed pool of
+ * {@code app.grpc.threads}: {@code List} holds a database connection for as long as the client reads, so the
+ * number of concurrent calls is also the number of connections gRPC may take from the pool.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-04
+ */
+@Slf4j
+public class CarGrpcServer implements SmartLifecycle {
+
+    private final GrpcProperties properties;
+    private final BindableService[] services;
+    private volatile Server server;
+    private volatile ExecutorService executor;
+
+    public CarGrpcServer(GrpcProperties properties, BindableService... services) {
+        this.properties = properties;
+        this.services = services;
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newFixedThreadPool(properties.getThreads(), new CustomizableThreadFactory("grpc-cars-"));
+        var builder = ServerBuilder.forPort(properties.getPort()).executor(executor);
+        for (var service : services) {
+            builder.addService(service);
+        }
+        try {
+            server = builder.build().start();
+        } catch (IOException ex) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Cannot start the gRPC server on port " + properties.getPort(), ex);
+        }
+        log.info("gRPC car service listening on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        var running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!awaitTermination(running, properties.getShutdownTimeout())) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return the port actually bound, useful when configured with port 0.
+     */
+    public int getPort() {
+        var running = server;
+        return running != null ? running.getPort() : properties.getPort();
+    }
+
+    private static boolean awaitTermination(Server server, Duration timeout) throws InterruptedException {
+        return server.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,167 @@
+package code.with.vanilson.common.car.grpc;
+
+import code.with.vanilson.common.car.CarResponse;
+import code.with.vanilson.common.car.CarService;
+import code.with.vanilson.common.exceptions.ResourceBadRequestException;
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import static code.with.vanilson.common.https.ErrorCodes.INVALID_INPUT_DATA;
+
+/**
+ * CarGrpcService
+ * <p>
+ * gRPC face of {@link CarService} for internal callers: the same lookups as {@code /api/cars} without link building
+ * or JSON. {@code List} streams from a database cursor and only reads the next row once gRPC flow control says
+ * the client can take it, so a slow consumer holds one connection and a bounded buffer rather than the whole
+ * fleet in memory.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-04
+ */
+@Slf4j
+public class CarGrpcService extends CarsGrpc.CarsImplBase {
+
+    private static final long MAX_READY_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final CarService carService;
+    private final Validator validator;
+    private final int maxBatchSize;
+    private final long streamStallTimeoutNanos;
+
+    public CarGrpcService(CarService carService, Validator validator, int maxBatchSize, Duration streamStallTimeout) {
+        this.carService = carService;
+        this.validator = validator;
+        this.maxBatchSize = maxBatchSize;
+        this.streamStallTimeoutNanos = streamStallTimeout.toNanos();
+    }
+
+    @Override
+    public void get(CarProtos.GetCarRequest request, StreamObserver<CarProtos.Car> responseObserver) {
+        unary(responseObserver, () -> CarProtoMapper.toProto(carService.findCarById(request.getId())));
+    }
+
+    @Override
+    public void getMany(CarProtos.GetManyCarsRequest request,
+                        StreamObserver<CarProtos.GetManyCarsResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            if (request.getIdsCount() > maxBatchSize) {
+                throw new ResourceBadRequestException(
+                        "At most " + maxBatchSize + " cars per call, got " + request.getIdsCount());
+            }
+            var ids = new LinkedHashSet<Long>(request.getIdsList());
+            ids.forEach(CarGrpcService::validateCarId);
+            var found = new HashMap<Long, CarResponse>();
+            carService.findCarsByIds(ids).forEach(car -> found.put(car.getId(), car));
+
+            var response = CarProtos.GetManyCarsResponse.newBuilder();
+            for (var id : request.getIdsList()) {
+                var car = found.get(id);
+                if (car != null) {
+                    response.addCars(CarProtoMapper.toProto(car));
+                } else {
+                    response.addMissingIds(id);
+                }
+            }
+            return response.build();
+        });
+    }
+
+    @Override
+    public void list(CarProtos.ListCarsRequest request, StreamObserver<CarProtos.Car> responseObserver) {
+        var call = (ServerCallStreamObserver<CarProtos.Car>) responseObserver;
+        var context = Context.current();
+        try {
+            carService.forEachCar(car -> {
+                awaitReady(call, context);
+                call.onNext(CarProtoMapper.toProto(car));
+            });
+            call.onCompleted();
+        } catch (RuntimeException ex) {
+            fail(call, ex);
+        }
+    }
+
+    @Override
+    public void create(CarProtos.CarRequest request, StreamObserver<CarProtos.Car> responseObserver) {
+        unary(responseObserver, () -> {
+            var carRequest = CarProtoMapper.toRequest(request);
+            var violations = validator.validate(carRequest);
+            if (!violations.isEmpty()) {
+                log.error("Invalid car request {}: {}", carRequest, violations);
+                throw new ResourceBadRequestException(INVALID_INPUT_DATA);
+            }
+            return CarProtoMapper.toProto(carService.createCar(carRequest));
+        });
+    }
+
+    /**
+     * Waits until the transport can take another message. Readiness is polled: the on-ready callback of a call is
+     * serialised behind this very method and would never run while it waits. Cancellation and deadlines are seen
+     * through the call context, which gRPC cancels straight from the transport.
+     */
+    private void awaitReady(ServerCallStreamObserver<?> call, Context context) {
+        long stalledSince = 0L;
+        long parkNanos = 1_000L;
+        while (true) {
+            if (context.isCancelled()) {
+                throw Status.CANCELLED.withDescription("Client cancelled the car stream")
+                        .withCause(context.cancellationCause())
+                        .asRuntimeException();
+            }
+            if (call.isReady()) {
+                return;
+            }
+            long now = System.nanoTime();
+            if (stalledSince == 0L) {
+                stalledSince = now;
+            } else if (now - stalledSince > streamStallTimeoutNanos) {
+                throw Status.DEADLINE_EXCEEDED.withDescription("Client stopped reading the car stream")
+                        .asRuntimeException();
+            }
+            LockSupport.parkNanos(parkNanos);
+            parkNanos = Math.min(parkNanos * 2, MAX_READY_PARK_NANOS);
+        }
+    }
+
+    private static <T> void unary(StreamObserver<T> responseObserver, Supplier<T> call) {
+        T response;
+        try {
+            response = call.get();
+        } catch (RuntimeException ex) {
+            fail(responseObserver, ex);
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    private static void fail(StreamObserver<?> responseObserver, RuntimeException ex) {
+        var statusException = GrpcStatuses.toStatusException(ex);
+        if (statusException.getStatus().getCode() == Status.Code.INTERNAL) {
+            log.error("gRPC car call failed", ex);
+        }
+        if (responseObserver instanceof ServerCallStreamObserver<?> call && call.isCancelled()) {
+            return;
+        }
+        responseObserver.onError(statusException);
+    }
+
+    private static void validateCarId(long id) {
+        if (id <= 0) {
+            throw ResourceBadRequestException.of("car.invalid_data", id);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package code.with.vanilson.common.car.grpc;
+
+import code.with.vanilson.common.car.CarRequest;
+import code.with.vanilson.common.car.CarResponse;
+import code.with.vanilson.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.common.money.Money;
+
+/**
+ * CarProtoMapper
+ * <p>
+ * Converts between the REST models of a car and their protobuf messages. Proto3 strings are never null, an absent
+ * text field arrives as {@code ""} and is handed on as {@code null} so validation treats it as missing.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-04
+ */
+public final class CarProtoMapper {
+
+    private CarProtoMapper() {
+        // no constructor
+    }
+
+    public static CarProtos.Car toProto(CarResponse car) {
+        var builder = CarProtos.Car.newBuilder()
+                .setId(car.getId())
+                .setYear(car.getYear())
+                .setKilometres(car.getKilometres());
+        if (car.getBrandName() != null) {
+            builder.setBrandName(car.getBrandName());
+        }
+        if (car.getModelName() != null) {
+            builder.setModelName(car.getModelName());
+        }
+        if (car.getRegistrationNumber() != null) {
+            builder.setRegistrationNumber(car.getRegistrationNumber());
+        }
+        if (car.getCarType() != null) {
+            builder.setCarType(car.getCarType());
+        }
+        if (car.getPrice() != null) {
+            builder.setPrice(car.getPrice().toPlainString());
+        }
+        return builder.build();
+    }
+
+    public static CarRequest toRequest(CarProtos.CarRequest request) {
+        return CarRequest.builder()
+                .brandName(emptyToNull(request.getBrandName()))
+                .modelName(emptyToNull(request.getModelName()))
+                .registrationNumber(emptyToNull(request.getRegistrationNumber()))
+                .carType(emptyToNull(request.getCarType()))
+                .year(request.getYear())
+                .kilometres(request.getKilometres())
+                .price(price(request.getPrice()))
+                .build();
+    }
+
+    private static Money price(String price) {
+        if (price.isEmpty()) {
+            return null;
+        }
+        try {
+            return Money.parse(price);
+        } catch (NumberFormatException ex) {
+            throw new ResourceBadRequestException("Price is not a decimal number: " + price);
+        } catch (ArithmeticException ex) {
+            throw new ResourceBadRequestException("Price is not an amount in " + Money.DEFAULT_CURRENCY + ": " + price);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
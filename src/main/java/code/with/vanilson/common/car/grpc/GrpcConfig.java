@@ -0,0 +1,32 @@
+package code.with.vanilson.common.car.grpc;
+
+import code.with.vanilson.common.car.CarService;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * GrpcConfig
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-04
+ */
+@Configuration
+@EnableConfigurationProperties(GrpcProperties.class)
+@ConditionalOnProperty(prefix = "app.grpc", name = "enabled", havingValue = "true")
+public class GrpcConfig {
+
+    @Bean
+    public CarGrpcService carGrpcService(CarService carService, Validator validator, GrpcProperties properties) {
+        return new CarGrpcService(carService, validator, properties.getMaxBatchSize(),
+                properties.getStreamStallTimeout());
+    }
+
+    @Bean
+    public CarGrpcServer carGrpcServer(GrpcProperties properties, CarGrpcService carGrpcService) {
+        return new CarGrpcServer(properties, carGrpcService);
+    }
+}
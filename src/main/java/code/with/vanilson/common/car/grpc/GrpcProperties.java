@@ -0,0 +1,29 @@
+package code.with.vanilson.common.car.grpc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * GrpcProperties
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-04
+ */
+@Data
+@ConfigurationProperties(prefix = "app.grpc")
+public class GrpcProperties {
+
+    private boolean enabled = false;
+    // 0 for a random port
+    private int port = 9090;
+    // Calls served at once; each may hold a database connection, count them against the Hikari pool
+    private int threads = 4;
+    // Largest number of ids a single GetMany may ask for
+    private int maxBatchSize = 500;
+    // How long List waits for a client that stopped reading before giving up on the stream
+    private Duration streamStallTimeout = Duration.ofSeconds(30);
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,101 @@
+package code.with.vanilson.common.car.grpc;
+
+import code.with.vanilson.common.exceptions.ResourceAlreadyExistsException;
+import code.with.vanilson.common.exceptions.ResourceConflictException;
+import code.with.vanilson.common.exceptions.ResourceException;
+import code.with.vanilson.common.exceptions.ResourceTooManyRequestsException;
+import code.with.vanilson.common.exceptions.ResourceUnavailableException;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GrpcStatuses
+ * <p>
+ * Translates the {@code Resource*Exception} hierarchy into gRPC statuses. The HTTP status every exception already
+ * declares through {@link ResponseStatus} is the source of truth, mapped the way gRPC gateways map them back; the
+ * few cases where HTTP is coarser than gRPC are decided by type. Shed requests carry
+ * {@code grpc-retry-pushback-ms}, which the gRPC retry policy of the caller honours like a {@code Retry-After}.
+ * <p>
+ * Only {@code Resource*Exception} messages, written for clients, become the status description. Anything else may
+ * carry SQL or constraint names, and {@code INTERNAL} always gets a generic description; the detail stays in the
+ * server log.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-04
+ */
+public final class GrpcStatuses {
+
+    static final Metadata.Key<String> RETRY_PUSHBACK =
+            Metadata.Key.of("grpc-retry-pushback-ms", Metadata.ASCII_STRING_MARSHALLER);
+    static final String INTERNAL_DESCRIPTION = "Internal server error";
+
+    private static final ClassValue<Status> BY_TYPE = new ClassValue<>() {
+        @Override
+        protected Status computeValue(Class<?> type) {
+            if (ResourceAlreadyExistsException.class.isAssignableFrom(type)) {
+                return Status.ALREADY_EXISTS;
+            }
+            if (ResourceConflictException.class.isAssignableFrom(type)) {
+                return Status.ABORTED;
+            }
+            var responseStatus = AnnotatedElementUtils.findMergedAnnotation(type, ResponseStatus.class);
+            return responseStatus != null ? fromHttp(responseStatus.code()) : Status.INTERNAL;
+        }
+    };
+
+    private GrpcStatuses() {
+        // utility class
+    }
+
+    public static StatusRuntimeException toStatusException(Throwable ex) {
+        if (ex instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        var status = BY_TYPE.get(ex.getClass());
+        status = status.withDescription(description(status, ex)).withCause(ex);
+        long retryAfterSeconds = retryAfterSeconds(ex);
+        if (retryAfterSeconds <= 0) {
+            return status.asRuntimeException();
+        }
+        var trailers = new Metadata();
+        trailers.put(RETRY_PUSHBACK, Long.toString(TimeUnit.SECONDS.toMillis(retryAfterSeconds)));
+        return status.asRuntimeException(trailers);
+    }
+
+    static Status fromHttp(HttpStatus status) {
+        return switch (status) {
+            case BAD_REQUEST, UNPROCESSABLE_ENTITY -> Status.INVALID_ARGUMENT;
+            case UNAUTHORIZED -> Status.UNAUTHENTICATED;
+            case FORBIDDEN -> Status.PERMISSION_DENIED;
+            case NOT_FOUND -> Status.NOT_FOUND;
+            case CONFLICT -> Status.ABORTED;
+            case GONE, PRECONDITION_FAILED -> Status.FAILED_PRECONDITION;
+            case TOO_MANY_REQUESTS -> Status.RESOURCE_EXHAUSTED;
+            case NOT_IMPLEMENTED -> Status.UNIMPLEMENTED;
+            case SERVICE_UNAVAILABLE, BAD_GATEWAY -> Status.UNAVAILABLE;
+            case GATEWAY_TIMEOUT -> Status.DEADLINE_EXCEEDED;
+            default -> Status.INTERNAL;
+        };
+    }
+
+    private static String description(Status status, Throwable ex) {
+        if (status.getCode() == Status.Code.INTERNAL) {
+            return INTERNAL_DESCRIPTION;
+        }
+        return ex instanceof ResourceException ? ex.getMessage() : null;
+    }
+
+    private static long retryAfterSeconds(Throwable ex) {
+        if (ex instanceof ResourceTooManyRequestsException tooMany) {
+            return tooMany.getRetryAfterSeconds();
+        }
+        return ex instanceof ResourceUnavailableException unavailable ? unavailable.getRetryAfterSeconds() : 0L;
+    }
+}
@@ -0,0 +1,72 @@
+package code.with.vanilson.common.car.reactive;
+
+import code.with.vanilson.common.exceptions.handle.ErrorCodeRegistry;
+import code.with.vanilson.common.exceptions.handle.ErrorMetrics;
+import code.with.vanilson.common.utils.CoarseClock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ReactiveCarConfig
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-03
+ */
+@Configuration
+@EnableConfigurationProperties(ReactiveCarProperties.class)
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+public class ReactiveCarConfig {
+
+    // The pool stays private to the repository: a ConnectionFactory bean would switch off the JDBC DataSource
+    @Bean
+    public ReactiveCarRepository reactiveCarRepository(ReactiveCarProperties properties) {
+        var options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (properties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        var pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive-cars")
+                .initialSize(0)
+                .maxSize(properties.getMaxConnections())
+                .maxAcquireTime(properties.getMaxAcquireTime())
+                .build());
+        return new ReactiveCarRepository(pool, properties.getFetchSize());
+    }
+
+    @Bean
+    public ReactiveCarHandler reactiveCarHandler(ReactiveCarRepository reactiveCarRepository, Validator validator,
+                                                 ApplicationEventPublisher eventPublisher,
+                                                 ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        var emf = entityManagerFactory.getIfAvailable();
+        var hibernateCache = emf != null ? emf.getCache().unwrap(Cache.class) : null;
+        return new ReactiveCarHandler(reactiveCarRepository, validator, eventPublisher, hibernateCache);
+    }
+
+    @Bean
+    public ReactiveErrorHandler reactiveErrorHandler(ErrorCodeRegistry errorCodeRegistry, ErrorMetrics errorMetrics,
+                                                     ObjectMapper objectMapper, CoarseClock coarseClock) {
+        return new ReactiveErrorHandler(errorCodeRegistry, errorMetrics, objectMapper, coarseClock);
+    }
+
+    @Bean
+    public ReactiveCarServer reactiveCarServer(ReactiveCarProperties properties, ReactiveCarHandler reactiveCarHandler,
+                                               ReactiveErrorHandler reactiveErrorHandler, ObjectMapper objectMapper) {
+        return new ReactiveCarServer(properties.getPort(), reactiveCarHandler, reactiveErrorHandler, objectMapper);
+    }
+}
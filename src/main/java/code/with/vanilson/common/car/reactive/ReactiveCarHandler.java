@@ -0,0 +1,198 @@
+package code.with.vanilson.common.car.reactive;
+
+import code.with.vanilson.common.car.Car;
+import code.with.vanilson.common.car.CarChangedEvent;
+import code.with.vanilson.common.car.CarMapper;
+import code.with.vanilson.common.car.CarRepository;
+import code.with.vanilson.common.car.CarRequest;
+import code.with.vanilson.common.car.CarResponse;
+import code.with.vanilson.common.car.CarService;
+import code.with.vanilson.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.common.exceptions.ResourceNotFoundException;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+import static code.with.vanilson.common.car.CarController.CARS;
+import static code.with.vanilson.common.https.ErrorCodes.INVALID_INPUT_DATA;
+import static org.springframework.web.reactive.function.server.RequestPredicates.DELETE;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.PUT;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * ReactiveCarHandler
+ * <p>
+ * The {@code /api/cars} contract of {@link code.with.vanilson.common.car.CarController} on WebFlux: same paths,
+ * same {@link CarResponse} bodies and links, same error bodies. The list is written as it is read; ask for
+ * {@code application/x-ndjson} to get one car per line instead of a JSON array.
+ * <p>
+ * Writes go straight to the table, so they evict what the servlet stack caches of the car (the car cache through
+ * {@link CarChangedEvent}, the Hibernate entity and query regions directly).
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-03
+ */
+@Slf4j
+public class ReactiveCarHandler {
+
+    static final String BASE_PATH = "/api/cars";
+
+    private final ReactiveCarRepository repository;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache hibernateCache;
+
+    /**
+     * @param hibernateCache the second-level cache of the servlet stack, {@code null} when there is none
+     */
+    public ReactiveCarHandler(ReactiveCarRepository repository, Validator validator,
+                              ApplicationEventPublisher eventPublisher, Cache hibernateCache) {
+        this.repository = repository;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.hibernateCache = hibernateCache;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return route(GET(BASE_PATH), this::getAllCars)
+                .andRoute(GET(BASE_PATH + "/{id}"), this::getCarById)
+                .andRoute(POST(BASE_PATH), this::addCar)
+                .andRoute(PUT(BASE_PATH + "/update-car/{id}"), this::updateCar)
+                .andRoute(DELETE(BASE_PATH + "/delete-car/{id}"), this::deleteCar);
+    }
+
+    public Mono<ServerResponse> getAllCars(ServerRequest request) {
+        var cars = carsUri(request);
+        var mediaType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        var body = repository.findAll().map(car -> withLinks(CarMapper.toResponse(car), cars));
+        return ServerResponse.ok()
+                .contentType(mediaType)
+                .body(body, CarResponse.class);
+    }
+
+    public Mono<ServerResponse> getCarById(ServerRequest request) {
+        long id = validId(request);
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .flatMap(car -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(withLinks(CarMapper.toResponse(car), carsUri(request))));
+    }
+
+    public Mono<ServerResponse> addCar(ServerRequest request) {
+        return request.bodyToMono(CarRequest.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is missing")))
+                .map(this::validate)
+                .flatMap(carRequest -> repository.save(CarMapper.toModel(carRequest)))
+                .flatMap(car -> {
+                    changed(car.getId(), CarChangedEvent.Type.CREATED);
+                    var location = UriComponentsBuilder.fromUri(request.uri())
+                            .replacePath(BASE_PATH + "/" + car.getRegistrationNumber())
+                            .replaceQuery(null)
+                            .build()
+                            .toUri();
+                    return ServerResponse.created(location)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(withLinks(CarMapper.toResponse(car), carsUri(request)));
+                });
+    }
+
+    public Mono<ServerResponse> updateCar(ServerRequest request) {
+        long id = validId(request);
+        return request.bodyToMono(CarRequest.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is missing")))
+                .map(this::validate)
+                .flatMap(carRequest -> {
+                    Car car = CarMapper.toModel(carRequest);
+                    car.setId(id);
+                    return repository.update(car);
+                })
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .flatMap(car -> {
+                    changed(id, CarChangedEvent.Type.UPDATED);
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(withLinks(CarMapper.toResponse(car), carsUri(request)));
+                });
+    }
+
+    public Mono<ServerResponse> deleteCar(ServerRequest request) {
+        long id = validId(request);
+        return repository.deleteById(id)
+                .flatMap(deleted -> {
+                    if (!deleted) {
+                        return Mono.error(notFound(id));
+                    }
+                    changed(id, CarChangedEvent.Type.DELETED);
+                    return ServerResponse.noContent()
+                            .header(HttpHeaders.LINK, carsUri(request).toString())
+                            .build();
+                });
+    }
+
+    private CarRequest validate(CarRequest carRequest) {
+        var violations = validator.validate(carRequest);
+        if (!violations.isEmpty()) {
+            log.error("Invalid car request {}: {}", carRequest, violations);
+            throw new ResourceBadRequestException(INVALID_INPUT_DATA);
+        }
+        return carRequest;
+    }
+
+    private void changed(long id, CarChangedEvent.Type type) {
+        if (hibernateCache != null) {
+            hibernateCache.evictEntityData(Car.class, id);
+            hibernateCache.evictQueryRegion(CarRepository.QUERY_CACHE_REGION);
+        }
+        eventPublisher.publishEvent(new CarChangedEvent(id, type));
+    }
+
+    private static long validId(ServerRequest request) {
+        long id;
+        try {
+            id = Long.parseLong(request.pathVariable("id"));
+        } catch (NumberFormatException ex) {
+            throw new ServerWebInputException("Car id must be a number");
+        }
+        if (id <= 0) {
+            log.error("The Car id provide is less than or equal to zero {} ", id);
+            throw ResourceBadRequestException.of("car.invalid_data", id);
+        }
+        return id;
+    }
+
+    private static ResourceNotFoundException notFound(long id) {
+        return ResourceNotFoundException.of(CarService.CAR_NOT_FOUND, id);
+    }
+
+    private static URI carsUri(ServerRequest request) {
+        return UriComponentsBuilder.fromUri(request.uri())
+                .replacePath(BASE_PATH)
+                .replaceQuery(null)
+                .build()
+                .toUri();
+    }
+
+    private static CarResponse withLinks(CarResponse carResponse, URI cars) {
+        carResponse.add(Link.of(cars + "/" + carResponse.getId()).withSelfRel());
+        carResponse.add(Link.of(cars.toString()).withRel(CARS));
+        return carResponse;
+    }
+}
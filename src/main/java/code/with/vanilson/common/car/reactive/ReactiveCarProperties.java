@@ -0,0 +1,30 @@
+package code.with.vanilson.common.car.reactive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * ReactiveCarProperties
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-03
+ */
+@Data
+@ConfigurationProperties(prefix = "app.reactive")
+public class ReactiveCarProperties {
+
+    private boolean enabled = false;
+    // Port of the reactive server, 0 for a random one; the servlet stack keeps server.port
+    private int port = 8082;
+    private String url = "r2dbc:postgresql://localhost:5432/common_db";
+    private String username;
+    private String password;
+    // R2DBC connections, on top of the Hikari pool: size both against the database max_connections
+    private int maxConnections = 10;
+    private Duration maxAcquireTime = Duration.ofSeconds(5);
+    // Rows per round trip while streaming a list, bounds what is buffered ahead of a slow client
+    private int fetchSize = 256;
+}
@@ -0,0 +1,133 @@
+package code.with.vanilson.common.car.reactive;
+
+import code.with.vanilson.common.car.Car;
+import code.with.vanilson.common.money.MoneyConverter;
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * ReactiveCarRepository
+ * <p>
+ * Non-blocking access to the {@code cars} table of {@link Car} over R2DBC. Kept as plain SQL on a
+ * {@link DatabaseClient} rather than a Spring Data repository interface: with JPA and Data JDBC already scanning
+ * this application, a third repository store would have every module claiming the same interfaces.
+ * <p>
+ * {@link #findAll()} is demand driven: rows are fetched {@code fetchSize} at a time as the subscriber asks for
+ * them, so a slow client holds one connection and one batch of rows, never the whole table.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-03
+ */
+public class ReactiveCarRepository implements DisposableBean {
+
+    private static final String COLUMNS = "id, brand_name, model_name, reg_no, car_type, yr, kms, price";
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+    // The price column as JPA maps it
+    private static final MoneyConverter MONEY = new MoneyConverter();
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient client;
+    private final int fetchSize;
+
+    public ReactiveCarRepository(ConnectionFactory connectionFactory, int fetchSize) {
+        this.connectionFactory = connectionFactory;
+        this.client = DatabaseClient.create(connectionFactory);
+        this.fetchSize = fetchSize;
+    }
+
+    public Flux<Car> findAll() {
+        return client.sql("SELECT " + COLUMNS + " FROM cars ORDER BY id")
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveCarRepository::toCar)
+                .all();
+    }
+
+    public Mono<Car> findById(long id) {
+        return client.sql("SELECT " + COLUMNS + " FROM cars WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveCarRepository::toCar)
+                .one();
+    }
+
+    public Mono<Car> save(Car car) {
+        return bindColumns(client.sql("INSERT INTO cars (brand_name, model_name, reg_no, car_type, yr, kms, price) "
+                + "VALUES (:brandName, :modelName, :registrationNumber, :carType, :year, :kilometres, :price)"), car)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    car.setId(id);
+                    return car;
+                });
+    }
+
+    /**
+     * @return the car as stored, or empty when no car has its id.
+     */
+    public Mono<Car> update(Car car) {
+        return bindColumns(client.sql("UPDATE cars SET brand_name = :brandName, model_name = :modelName, "
+                + "reg_no = :registrationNumber, car_type = :carType, yr = :year, kms = :kilometres, price = :price "
+                + "WHERE id = :id"), car)
+                .bind("id", car.getId())
+                .fetch()
+                .rowsUpdated()
+                .filter(rows -> rows > 0)
+                .map(rows -> car);
+    }
+
+    /**
+     * @return whether a car was deleted.
+     */
+    public Mono<Boolean> deleteById(long id) {
+        return client.sql("DELETE FROM cars WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof Closeable closeable) {
+            Mono.from(closeable.close()).block(CLOSE_TIMEOUT);
+        }
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec, Car car) {
+        spec = bind(spec, "brandName", car.getBrandName(), String.class);
+        spec = bind(spec, "modelName", car.getModelName(), String.class);
+        spec = bind(spec, "registrationNumber", car.getRegistrationNumber(), String.class);
+        spec = bind(spec, "carType", car.getCarType(), String.class);
+        spec = bind(spec, "price", MONEY.convertToDatabaseColumn(car.getPrice()), BigDecimal.class);
+        return spec.bind("year", car.getYear())
+                .bind("kilometres", car.getKilometres());
+    }
+
+    // Unlike JDBC, R2DBC refuses a null bind value, the type of the null has to be spelled out
+    private static <T> DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                              T value, Class<T> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    private static Car toCar(Readable row) {
+        return Car.builder()
+                .id(row.get("id", Long.class))
+                .brandName(row.get("brand_name", String.class))
+                .modelName(row.get("model_name", String.class))
+                .registrationNumber(row.get("reg_no", String.class))
+                .carType(row.get("car_type", String.class))
+                .year(row.get("yr", Integer.class))
+                .kilometres(row.get("kms", Integer.class))
+                .price(MONEY.convertToEntityAttribute(row.get("price", BigDecimal.class)))
+                .build();
+    }
+}
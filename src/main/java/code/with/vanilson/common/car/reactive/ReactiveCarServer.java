@@ -0,0 +1,101 @@
+package code.with.vanilson.common.car.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+
+/**
+ * ReactiveCarServer
+ * <p>
+ * Serves {@link ReactiveCarHandler} on its own Reactor Netty server. The application stays a servlet application,
+ * so WebFlux is not auto-configured; this server is started and stopped with the context instead. Responses are
+ * rendered with a HAL-aware copy of the application {@link ObjectMapper}, so bodies match the servlet stack.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-03
+ */
+@Slf4j
+public class ReactiveCarServer implements SmartLifecycle {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final int port;
+    private final HttpHandler httpHandler;
+    private volatile DisposableServer server;
+
+    public ReactiveCarServer(int port, ReactiveCarHandler handler, ReactiveErrorHandler errorHandler,
+                             ObjectMapper objectMapper) {
+        this.port = port;
+        this.httpHandler = httpHandler(handler, errorHandler, objectMapper);
+    }
+
+    static HttpHandler httpHandler(ReactiveCarHandler handler, ReactiveErrorHandler errorHandler,
+                                   ObjectMapper objectMapper) {
+        var mapper = objectMapper.copy().registerModule(new Jackson2HalModule());
+        mapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        var mediaTypes = new MediaType[]{MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON,
+                new MediaType("application", "*+json")};
+        // empty() rather than builder(): the default status handler would answer errors before ours does
+        var strategies = HandlerStrategies.empty()
+                .codecs(codecs -> {
+                    codecs.registerDefaults(true);
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(mapper, mediaTypes));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(mapper, mediaTypes));
+                })
+                .webFilter((exchange, chain) -> {
+                    exchange.getAttributes().put(ReactiveErrorHandler.REQUEST_START, System.nanoTime());
+                    return chain.filter(exchange);
+                })
+                .exceptionHandler(errorHandler)
+                .build();
+        return RouterFunctions.toHttpHandler(handler.routes(), strategies);
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive car API listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        var running = server;
+        if (running != null) {
+            running.disposeNow(SHUTDOWN_TIMEOUT);
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return the port actually bound, useful when configured with port 0.
+     */
+    public int getPort() {
+        var running = server;
+        return running != null ? running.port() : port;
+    }
+}
@@ -0,0 +1,150 @@
+package code.with.vanilson.common.car.reactive;
+
+import code.with.vanilson.common.exceptions.ErrorResponse;
+import code.with.vanilson.common.exceptions.ResourceException;
+import code.with.vanilson.common.exceptions.ResourceTooManyRequestsException;
+import code.with.vanilson.common.exceptions.ResourceUnavailableException;
+import code.with.vanilson.common.exceptions.handle.ErrorCodeRegistry;
+import code.with.vanilson.common.exceptions.handle.ErrorMetrics;
+import code.with.vanilson.common.https.trace.TraceContext;
+import code.with.vanilson.common.utils.CoarseClock;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.TimeZoneAwareLocaleContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+import java.time.ZoneId;
+
+import static code.with.vanilson.common.https.ErrorCodes.UNEXPECTED_ERROR;
+import static code.with.vanilson.common.https.ErrorCodes.UNKNOWN_ERROR;
+import static code.with.vanilson.common.https.RequestHeaderConstant.DATE;
+import static code.with.vanilson.common.https.RequestHeaderConstant.RETRY_AFTER;
+import static code.with.vanilson.common.https.RequestHeaderConstant.TIME_ZONE;
+import static code.with.vanilson.common.https.RequestHeaderConstant.TRACEPARENT;
+
+/**
+ * ReactiveErrorHandler
+ * <p>
+ * The reactive counterpart of {@link code.with.vanilson.common.exceptions.handle.GlobalExceptionHandler}: renders
+ * the same {@link ErrorResponse} body, resolves the error code from the matched route through the same
+ * {@link ErrorCodeRegistry} and records the same error metrics.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-03
+ */
+@Slf4j
+public class ReactiveErrorHandler implements WebExceptionHandler {
+
+    static final String REQUEST_START = ReactiveErrorHandler.class.getName() + ".start";
+
+    private final ErrorCodeRegistry errorCodeRegistry;
+    private final ErrorMetrics errorMetrics;
+    private final ObjectMapper objectMapper;
+    private final CoarseClock clock;
+
+    public ReactiveErrorHandler(ErrorCodeRegistry errorCodeRegistry, ErrorMetrics errorMetrics,
+                                ObjectMapper objectMapper, CoarseClock clock) {
+        this.errorCodeRegistry = errorCodeRegistry;
+        this.errorMetrics = errorMetrics;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        var response = exchange.getResponse();
+        if (response.isCommitted()) {
+            // Failed half way through a streamed list, the status is gone: all we can do is cut the connection
+            log.error("Error after the response was committed on {}", exchange.getRequest().getPath(), ex);
+            return Mono.error(ex);
+        }
+        var status = resolveStatus(ex);
+        var pattern = exchange.getAttribute(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE);
+        var route = pattern instanceof PathPattern pathPattern ? pathPattern.getPatternString() : null;
+        Long start = exchange.getAttribute(REQUEST_START);
+        errorMetrics.record(ex, status.value(), route, start != null ? start : 0L);
+        if (status.is5xxServerError()) {
+            log.error("Request {} failed", exchange.getRequest().getPath(), ex);
+        }
+
+        var zone = zone(exchange);
+        var errorResponse = new ErrorResponse(
+                message(ex, status, exchange),
+                status.name(),
+                zone.getId(),
+                status.value(),
+                exchange.getRequest().getPath().value(),
+                clock.now(zone),
+                route != null ? errorCodeRegistry.codeForTemplate(route) : UNKNOWN_ERROR,
+                traceId(exchange)
+        );
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(DATE, clock.httpDate());
+        long retryAfter = retryAfterSeconds(ex);
+        if (retryAfter > 0) {
+            response.getHeaders().set(RETRY_AFTER, Long.toString(retryAfter));
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static HttpStatus resolveStatus(Throwable ex) {
+        if (ex instanceof org.springframework.web.ErrorResponse errorResponse) {
+            var status = HttpStatus.resolve(errorResponse.getStatusCode().value());
+            return status != null ? status : HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+        var responseStatus = AnnotatedElementUtils.findMergedAnnotation(ex.getClass(), ResponseStatus.class);
+        return responseStatus != null ? responseStatus.code() : HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    private static String message(Throwable ex, HttpStatus status, ServerWebExchange exchange) {
+        if (ex instanceof org.springframework.web.ErrorResponse errorResponse
+                && errorResponse.getBody().getDetail() != null) {
+            return errorResponse.getBody().getDetail();
+        }
+        if (ex instanceof ResourceException resourceException) {
+            // Accept-Language, the JVM default when the client sent none
+            return resourceException.getMessage(exchange.getLocaleContext().getLocale());
+        }
+        // Any other server error may carry SQL, hosts or class names, it is only logged
+        return status.is5xxServerError() ? UNEXPECTED_ERROR : ex.getMessage();
+    }
+
+    // Time-Zone header, then the locale context, then the zone of the clock, as on the servlet stack
+    private ZoneId zone(ServerWebExchange exchange) {
+        var zoneId = exchange.getRequest().getHeaders().getFirst(TIME_ZONE);
+        if (zoneId == null && exchange.getLocaleContext() instanceof TimeZoneAwareLocaleContext context
+                && context.getTimeZone() != null) {
+            return context.getTimeZone().toZoneId();
+        }
+        return clock.zone(zoneId);
+    }
+
+    private static long retryAfterSeconds(Throwable ex) {
+        if (ex instanceof ResourceTooManyRequestsException tooMany) {
+            return tooMany.getRetryAfterSeconds();
+        }
+        return ex instanceof ResourceUnavailableException unavailable ? unavailable.getRetryAfterSeconds() : 0L;
+    }
+
+    private static String traceId(ServerWebExchange exchange) {
+        var context = TraceContext.parse(exchange.getRequest().getHeaders().getFirst(TRACEPARENT));
+        return (context != null ? context : TraceContext.newRoot()).traceId();
+    }
+}
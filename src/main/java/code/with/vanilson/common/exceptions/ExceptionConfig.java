@@ -0,0 +1,25 @@
+package code.with.vanilson.common.exceptions;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ExceptionConfig
+ * <p>
+ * Applies {@code app.exceptions.stackless} to the {@link ResourceException} family at startup.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-25
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ExceptionProperties.class)
+public class ExceptionConfig {
+
+    public ExceptionConfig(ExceptionProperties properties) {
+        ResourceException.setStackless(properties.isStackless());
+        log.info("Resource exceptions stackless mode: {}", properties.isStackless());
+    }
+}
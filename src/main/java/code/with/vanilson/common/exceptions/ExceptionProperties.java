@@ -0,0 +1,19 @@
+package code.with.vanilson.common.exceptions;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * ExceptionProperties
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-25
+ */
+@Data
+@ConfigurationProperties(prefix = "app.exceptions")
+public class ExceptionProperties {
+
+    // Skip stack trace capture for client-side Resource*Exception, server-side errors always keep theirs
+    private boolean stackless = true;
+}
@@ -11,8 +11,19 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * @since 2024-07-05
  */
 @ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR, reason = "Internal server error")
-public class InternalServerErrorException extends RuntimeException {
+public class InternalServerErrorException extends ResourceException {
     public InternalServerErrorException(String message) {
-        super(message);
+        super(message, true, true);
+    }
+
+    private InternalServerErrorException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs, true, true);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static InternalServerErrorException of(String messageKey, Object... args) {
+        return new InternalServerErrorException(messageKey, args);
     }
 }
\ No newline at end of file
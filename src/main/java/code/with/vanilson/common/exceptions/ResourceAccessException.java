@@ -11,8 +11,19 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * @since 2024-08-20
  */
 @ResponseStatus(HttpStatus.FORBIDDEN)
-public class ResourceAccessException extends RuntimeException {
+public class ResourceAccessException extends ResourceException {
     public ResourceAccessException(String message) {
         super(message);
     }
+
+    private ResourceAccessException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceAccessException of(String messageKey, Object... args) {
+        return new ResourceAccessException(messageKey, args);
+    }
 }
@@ -7,8 +7,19 @@ package code.with.vanilson.common.exceptions;
  * @version 1.0
  * @since 2024-07-05
  */
-public class ResourceAlreadyExistsException extends RuntimeException {
+public class ResourceAlreadyExistsException extends ResourceException {
     public ResourceAlreadyExistsException(String message) {
         super(message);
     }
+
+    private ResourceAlreadyExistsException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceAlreadyExistsException of(String messageKey, Object... args) {
+        return new ResourceAlreadyExistsException(messageKey, args);
+    }
 }
\ No newline at end of file
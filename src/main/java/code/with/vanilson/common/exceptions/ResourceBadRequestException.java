@@ -11,8 +11,32 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * @since 2024-07-05
  */
 @ResponseStatus(value = HttpStatus.BAD_REQUEST)
-public class ResourceBadRequestException extends RuntimeException {
+public class ResourceBadRequestException extends ResourceException {
     public ResourceBadRequestException(String message) {
         super(message);
     }
+
+    private ResourceBadRequestException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs);
+    }
+
+    private ResourceBadRequestException(String messageKey, boolean enableSuppression, boolean writableStackTrace) {
+        super(messageKey, null, enableSuppression, writableStackTrace);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceBadRequestException of(String messageKey, Object... args) {
+        return new ResourceBadRequestException(messageKey, args);
+    }
+
+    /**
+     * Pre-allocated, immutable instance for parameter-free messages, given by their catalog key (text that is not a
+     * key is used as is). It carries no stack trace and no suppressed exceptions, so it can be kept in a constant and
+     * thrown from any thread.
+     */
+    public static ResourceBadRequestException shared(String messageKey) {
+        return new ResourceBadRequestException(messageKey, false, false);
+    }
 }
\ No newline at end of file
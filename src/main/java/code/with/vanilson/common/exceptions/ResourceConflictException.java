@@ -11,8 +11,19 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * @since 2024-08-20
  */
 @ResponseStatus(HttpStatus.CONFLICT)
-public class ResourceConflictException extends RuntimeException {
+public class ResourceConflictException extends ResourceException {
     public ResourceConflictException(String message) {
         super(message);
     }
+
+    private ResourceConflictException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceConflictException of(String messageKey, Object... args) {
+        return new ResourceConflictException(messageKey, args);
+    }
 }
\ No newline at end of file
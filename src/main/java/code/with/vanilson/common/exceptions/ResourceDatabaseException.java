@@ -11,8 +11,19 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * @since 2024-07-05
  */
 @ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR, reason = "Database error")
-public class ResourceDatabaseException extends RuntimeException {
+public class ResourceDatabaseException extends ResourceException {
     public ResourceDatabaseException(String message) {
-        super(message);
+        super(message, true, true);
+    }
+
+    private ResourceDatabaseException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs, true, true);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceDatabaseException of(String messageKey, Object... args) {
+        return new ResourceDatabaseException(messageKey, args);
     }
 }
\ No newline at end of file
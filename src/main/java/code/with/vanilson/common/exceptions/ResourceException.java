@@ -0,0 +1,122 @@
+package code.with.vanilson.common.exceptions;
+
+import code.with.vanilson.common.utils.MessageCatalog;
+
+import java.util.Locale;
+
+/**
+ * ResourceException
+ * <p>
+ * Common parent of the {@code Resource*Exception} family. These exceptions are thrown on ordinary control flow
+ * (unknown ids, invalid payloads, shed requests), so capturing a stack trace on every throw is mostly wasted work:
+ * the handler only ever renders the message. When stackless mode is on, client-side errors skip
+ * {@link #fillInStackTrace()} entirely; server-side errors always keep their trace because that is the one case
+ * somebody will read it. The exception is {@link ResourceUnavailableException}: a 503 sheds load, it is thrown
+ * when the server is busiest and says nothing a trace would explain, so it is treated as a client-side error.
+ * <p>
+ * Stackless mode defaults to the {@value #STACKLESS_PROPERTY} system property so the library behaves the same with
+ * or without Spring; inside the application it is driven by {@code app.exceptions.stackless}.
+ * <p>
+ * For the same reason the message can be given as a {@link MessageCatalog} key and its arguments, see the
+ * {@code of(..)} factories: nothing is formatted when the exception is thrown, only when somebody reads the message,
+ * and {@link #getMessage(Locale)} renders it in the language of the client.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-25
+ */
+public abstract class ResourceException extends RuntimeException {
+
+    public static final String STACKLESS_PROPERTY = "code.with.vanilson.common.exceptions.stackless";
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private static volatile boolean stackless = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+    private final String messageKey;
+    private final Object[] messageArgs;
+    // Rendered in the default locale on first read; a racy single check, every thread renders the same string
+    private String defaultMessage;
+
+    /**
+     * Client-side error: the stack trace is captured only when stackless mode is off.
+     */
+    protected ResourceException(String message) {
+        this(message, true, !stackless);
+    }
+
+    /**
+     * Full control over suppression and stack capture, for server-side errors that must always keep their trace
+     * and for the immutable, pre-allocated instances created through {@code shared(..)}.
+     */
+    protected ResourceException(String message, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, null, enableSuppression, writableStackTrace);
+        this.messageKey = null;
+        this.messageArgs = NO_ARGS;
+    }
+
+    /**
+     * Client-side error whose message is the {@link MessageCatalog} entry {@code messageKey}, rendered when read.
+     */
+    protected ResourceException(String messageKey, Object[] messageArgs) {
+        this(messageKey, messageArgs, true, !stackless);
+    }
+
+    protected ResourceException(String messageKey, Object[] messageArgs, boolean enableSuppression,
+                                boolean writableStackTrace) {
+        super(null, null, enableSuppression, writableStackTrace);
+        this.messageKey = messageKey;
+        this.messageArgs = messageArgs != null ? messageArgs : NO_ARGS;
+    }
+
+    /**
+     * @return the catalog key of the message, null when the exception was given a ready-made message.
+     */
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    /**
+     * @return a copy of the arguments of the message key.
+     */
+    public Object[] getMessageArgs() {
+        return messageArgs.clone();
+    }
+
+    /**
+     * @return the message in the default locale of the JVM.
+     */
+    @Override
+    public String getMessage() {
+        if (messageKey == null) {
+            return super.getMessage();
+        }
+        var message = defaultMessage;
+        if (message == null) {
+            message = render(Locale.getDefault());
+            defaultMessage = message;
+        }
+        return message;
+    }
+
+    /**
+     * @return the message in {@code locale}, or in the base language when there is no translation for it. A
+     * ready-made message is returned as is.
+     */
+    public String getMessage(Locale locale) {
+        return messageKey != null ? render(locale) : super.getMessage();
+    }
+
+    private String render(Locale locale) {
+        var message = MessageCatalog.shared().format(messageKey, locale, messageArgs);
+        return message != null ? message : messageKey;
+    }
+
+    public static boolean isStackless() {
+        return stackless;
+    }
+
+    public static void setStackless(boolean enabled) {
+        stackless = enabled;
+    }
+}
@@ -9,8 +9,19 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * @since 2024-08-20
  */
 @ResponseStatus(HttpStatus.GONE)
-public class ResourceExpiredException extends RuntimeException {
+public class ResourceExpiredException extends ResourceException {
     public ResourceExpiredException(String message) {
         super(message);
     }
+
+    private ResourceExpiredException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceExpiredException of(String messageKey, Object... args) {
+        return new ResourceExpiredException(messageKey, args);
+    }
 }
\ No newline at end of file
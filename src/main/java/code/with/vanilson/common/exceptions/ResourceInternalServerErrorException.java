@@ -11,8 +11,19 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * @since 2024-08-29
  */
 @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-public class ResourceInternalServerErrorException extends RuntimeException{
+public class ResourceInternalServerErrorException extends ResourceException {
     public ResourceInternalServerErrorException(String message) {
-        super(message);
+        super(message, true, true);
+    }
+
+    private ResourceInternalServerErrorException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs, true, true);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceInternalServerErrorException of(String messageKey, Object... args) {
+        return new ResourceInternalServerErrorException(messageKey, args);
     }
 }
\ No newline at end of file
@@ -10,8 +10,19 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  */
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
-public class ResourceInvalidException extends RuntimeException {
+public class ResourceInvalidException extends ResourceException {
     public ResourceInvalidException(String message) {
         super(message);
     }
+
+    private ResourceInvalidException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceInvalidException of(String messageKey, Object... args) {
+        return new ResourceInvalidException(messageKey, args);
+    }
 }
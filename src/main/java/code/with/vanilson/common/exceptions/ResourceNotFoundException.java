@@ -11,8 +11,32 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * @since 2024-07-05
  */
 @ResponseStatus(value = HttpStatus.NOT_FOUND)
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends ResourceException {
     public ResourceNotFoundException(String message) {
         super(message);
     }
+
+    private ResourceNotFoundException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs);
+    }
+
+    private ResourceNotFoundException(String messageKey, boolean enableSuppression, boolean writableStackTrace) {
+        super(messageKey, null, enableSuppression, writableStackTrace);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceNotFoundException of(String messageKey, Object... args) {
+        return new ResourceNotFoundException(messageKey, args);
+    }
+
+    /**
+     * Pre-allocated, immutable instance for parameter-free messages, given by their catalog key (text that is not a
+     * key is used as is). It carries no stack trace and no suppressed exceptions, so it can be kept in a constant and
+     * thrown from any thread.
+     */
+    public static ResourceNotFoundException shared(String messageKey) {
+        return new ResourceNotFoundException(messageKey, false, false);
+    }
 }
\ No newline at end of file
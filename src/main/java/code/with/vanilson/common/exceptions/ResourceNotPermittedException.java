@@ -11,8 +11,19 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * @since 2024-08-20
  */
 @ResponseStatus(HttpStatus.FORBIDDEN)
-public class ResourceNotPermittedException extends RuntimeException {
+public class ResourceNotPermittedException extends ResourceException {
     public ResourceNotPermittedException(String message) {
         super(message);
     }
+
+    private ResourceNotPermittedException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceNotPermittedException of(String messageKey, Object... args) {
+        return new ResourceNotPermittedException(messageKey, args);
+    }
 }
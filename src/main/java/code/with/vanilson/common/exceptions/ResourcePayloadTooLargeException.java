@@ -0,0 +1,29 @@
+package code.with.vanilson.common.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * ResourcePayloadTooLargeException
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-21
+ */
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class ResourcePayloadTooLargeException extends ResourceException {
+    public ResourcePayloadTooLargeException(String message) {
+        super(message);
+    }
+
+    private ResourcePayloadTooLargeException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourcePayloadTooLargeException of(String messageKey, Object... args) {
+        return new ResourcePayloadTooLargeException(messageKey, args);
+    }
+}
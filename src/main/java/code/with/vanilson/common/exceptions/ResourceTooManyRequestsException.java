@@ -0,0 +1,36 @@
+package code.with.vanilson.common.exceptions;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * ResourceTooManyRequestsException
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-29
+ */
+@Getter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class ResourceTooManyRequestsException extends ResourceException {
+    // Seconds the client should wait before trying again, sent as Retry-After
+    private final long retryAfterSeconds;
+
+    public ResourceTooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    private ResourceTooManyRequestsException(long retryAfterSeconds, String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceTooManyRequestsException of(long retryAfterSeconds, String messageKey, Object... args) {
+        return new ResourceTooManyRequestsException(retryAfterSeconds, messageKey, args);
+    }
+}
@@ -1,18 +1,43 @@
 package code.with.vanilson.common.exceptions;
 
+import lombok.Getter;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 /**
  * ResourceUnavailableException
+ * <p>
+ * Answers shed and overloaded requests. Stackless like the client-side errors on purpose, see
+ * {@link ResourceException}: it is thrown in bulk exactly when the server can least afford the stack walks.
  *
  * @author vamuhong
  * @version 1.0
  * @since 2024-08-20
  */
+@Getter
 @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
-public class ResourceUnavailableException extends RuntimeException {
+public class ResourceUnavailableException extends ResourceException {
+    // Seconds the client should wait before trying again, sent as Retry-After when positive
+    private final long retryAfterSeconds;
+
     public ResourceUnavailableException(String message) {
+        this(message, 0);
+    }
+
+    public ResourceUnavailableException(String message, long retryAfterSeconds) {
         super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    private ResourceUnavailableException(long retryAfterSeconds, String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceUnavailableException of(long retryAfterSeconds, String messageKey, Object... args) {
+        return new ResourceUnavailableException(retryAfterSeconds, messageKey, args);
     }
 }
@@ -11,8 +11,19 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * @since 2024-07-05
  */
 @ResponseStatus(value = HttpStatus.UNPROCESSABLE_ENTITY, reason = "Validation failed")
-public class ResourceValidationException extends RuntimeException {
+public class ResourceValidationException extends ResourceException {
     public ResourceValidationException(String message) {
         super(message);
     }
+
+    private ResourceValidationException(String messageKey, Object[] messageArgs) {
+        super(messageKey, messageArgs);
+    }
+
+    /**
+     * Message given by its catalog key, formatted only when read, see {@link ResourceException}.
+     */
+    public static ResourceValidationException of(String messageKey, Object... args) {
+        return new ResourceValidationException(messageKey, args);
+    }
 }
\ No newline at end of file
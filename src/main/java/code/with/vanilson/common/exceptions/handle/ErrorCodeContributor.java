@@ -0,0 +1,16 @@
+package code.with.vanilson.common.exceptions.handle;
+
+/**
+ * ErrorCodeContributor
+ * <p>
+ * Implemented by each module, as a bean, to register the error codes of the routes it owns.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-27
+ */
+@FunctionalInterface
+public interface ErrorCodeContributor {
+
+    void contribute(ErrorCodeRegistry.Registrar registrar);
+}
@@ -0,0 +1,110 @@
+package code.with.vanilson.common.exceptions.handle;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static code.with.vanilson.common.https.ErrorCodes.UNKNOWN_ERROR;
+
+/**
+ * ErrorCodeRegistry
+ * <p>
+ * Maps the route template Spring matched for a request (e.g. {@code /api/cars/{id}}) to the error code reported
+ * in {@link code.with.vanilson.common.exceptions.ErrorResponse}. Modules register route prefixes through
+ * {@link ErrorCodeContributor} beans; once every handler mapping is known, the code of each route template is
+ * resolved against the longest registered prefix and kept in a lookup table, so an error costs a single map
+ * lookup however many resources there are. Templates that only show up later are resolved once and cached.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-27
+ */
+@Slf4j
+@Component
+public class ErrorCodeRegistry implements SmartInitializingSingleton {
+
+    private final List<Map.Entry<String, String>> prefixes;
+    private final ObjectProvider<RequestMappingInfoHandlerMapping> handlerMappings;
+    private final Map<String, String> codesByTemplate = new ConcurrentHashMap<>();
+
+    public ErrorCodeRegistry(List<ErrorCodeContributor> contributors,
+                             ObjectProvider<RequestMappingInfoHandlerMapping> handlerMappings) {
+        var registrations = new HashMap<String, String>();
+        contributors.forEach(contributor -> contributor.contribute(new Registrar() {
+            @Override
+            public Registrar register(String routePrefix, String code) {
+                var prefix = normalise(routePrefix);
+                var previous = registrations.putIfAbsent(prefix, code);
+                if (previous != null && !previous.equals(code)) {
+                    throw new IllegalStateException(
+                            "Route prefix " + prefix + " is already mapped to error code " + previous);
+                }
+                return this;
+            }
+        }));
+        // Longest prefix first, so the most specific registration wins
+        this.prefixes = registrations.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, String> entry) -> entry.getKey().length())
+                        .reversed())
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+        this.handlerMappings = handlerMappings;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        handlerMappings.orderedStream()
+                .flatMap(mapping -> mapping.getHandlerMethods().keySet().stream())
+                .flatMap(info -> info.getPatternValues().stream())
+                .forEach(this::codeForTemplate);
+        log.info("Precomputed error codes for {} route templates", codesByTemplate.size());
+    }
+
+    /**
+     * @return the error code of the route that served the request, {@code UNKNOWN_ERROR} when no route matched.
+     */
+    public String codeFor(HttpServletRequest request) {
+        var template = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return template instanceof String routeTemplate ? codeForTemplate(routeTemplate) : UNKNOWN_ERROR;
+    }
+
+    public String codeForTemplate(String template) {
+        var code = codesByTemplate.get(template);
+        return code != null ? code : codesByTemplate.computeIfAbsent(template, this::resolve);
+    }
+
+    private String resolve(String template) {
+        for (var prefix : prefixes) {
+            var route = prefix.getKey();
+            if (template.startsWith(route)
+                    && (template.length() == route.length() || template.charAt(route.length()) == '/')) {
+                return prefix.getValue();
+            }
+        }
+        return UNKNOWN_ERROR;
+    }
+
+    private static String normalise(String routePrefix) {
+        return routePrefix.length() > 1 && routePrefix.endsWith("/")
+                ? routePrefix.substring(0, routePrefix.length() - 1)
+                : routePrefix;
+    }
+
+    /**
+     * Registers the error code of every route template equal to, or nested under, a route prefix.
+     */
+    public interface Registrar {
+
+        Registrar register(String routePrefix, String code);
+    }
+}
@@ -0,0 +1,134 @@
+package code.with.vanilson.common.exceptions.handle;
+
+import code.with.vanilson.common.https.trace.TraceFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ErrorMetrics
+ * <p>
+ * Counts every error answered by {@link GlobalExceptionHandler} and times the request that produced it, tagged
+ * with the exception type, the HTTP status and the matched route template:
+ * <pre>
+ * http.server.errors{exception, status, route}
+ * http.server.errors.latency{exception, status, route}
+ * </pre>
+ * Meters are looked up through a {@link ClassValue} per exception type and a map per route template, so after
+ * the first error of a kind, recording allocates nothing. Raw paths are never used as tags; at most
+ * {@value #MAX_EXCEPTION_TYPES} exception types and {@value #MAX_SERIES} series are registered, anything beyond
+ * is recorded as {@code other}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-28
+ */
+@Component
+public class ErrorMetrics {
+
+    static final String OTHER = "other";
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+    private static final int MAX_EXCEPTION_TYPES = 64;
+    private static final int MAX_SERIES = 2_000;
+
+    private final MeterRegistry registry;
+    private final AtomicInteger exceptionTypes = new AtomicInteger();
+    private final AtomicInteger series = new AtomicInteger();
+    private final ExceptionMeters overflow = new ExceptionMeters(OTHER);
+    private final ClassValue<ExceptionMeters> byException = new ClassValue<>() {
+        @Override
+        protected ExceptionMeters computeValue(Class<?> type) {
+            if (exceptionTypes.incrementAndGet() > MAX_EXCEPTION_TYPES) {
+                return overflow;
+            }
+            var name = type.getSimpleName();
+            return new ExceptionMeters(name.isEmpty() ? type.getName() : name);
+        }
+    };
+
+    public ErrorMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void record(Throwable ex, int status, HttpServletRequest request) {
+        var template = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var start = request.getAttribute(TraceFilter.REQUEST_START);
+        record(ex, status, template instanceof String routeTemplate ? routeTemplate : null,
+                start instanceof Long startNanos ? startNanos : 0L);
+    }
+
+    /**
+     * Same as {@link #record(Throwable, int, HttpServletRequest)} for stacks without a servlet request.
+     *
+     * @param route      the matched route template, {@code null} when no route matched
+     * @param startNanos {@link System#nanoTime()} at the start of the request, 0 when unknown
+     */
+    public void record(Throwable ex, int status, String route, long startNanos) {
+        var meters = byException.get(ex.getClass()).meters(route != null ? route : UNKNOWN_ROUTE, status);
+        meters.errors().increment();
+        if (startNanos != 0L) {
+            meters.latency().record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private final class ExceptionMeters {
+        private final String exception;
+        private final ConcurrentHashMap<String, Meters[]> byRoute = new ConcurrentHashMap<>();
+
+        private ExceptionMeters(String exception) {
+            this.exception = exception;
+        }
+
+        Meters meters(String route, int status) {
+            var perStatus = byRoute.get(route);
+            var meters = perStatus != null ? find(perStatus, status) : null;
+            if (meters != null) {
+                return meters;
+            }
+            if (this != overflow && series.incrementAndGet() > MAX_SERIES) {
+                return overflow.meters(OTHER, status);
+            }
+            return find(byRoute.compute(route, (key, existing) -> register(key, status, existing)), status);
+        }
+
+        private Meters[] register(String route, int status, Meters[] existing) {
+            if (existing != null && find(existing, status) != null) {
+                return existing;
+            }
+            var tags = Tags.of("exception", exception, "status", Integer.toString(status), "route", route);
+            var meters = new Meters(status,
+                    Counter.builder("http.server.errors")
+                            .description("Errors answered by the global exception handler")
+                            .tags(tags)
+                            .register(registry),
+                    Timer.builder("http.server.errors.latency")
+                            .description("Time from the start of a request to its error response")
+                            .tags(tags)
+                            .register(registry));
+            var updated = existing == null ? new Meters[1] : Arrays.copyOf(existing, existing.length + 1);
+            updated[updated.length - 1] = meters;
+            return updated;
+        }
+
+        private static Meters find(Meters[] perStatus, int status) {
+            for (var meters : perStatus) {
+                if (meters.status() == status) {
+                    return meters;
+                }
+            }
+            return null;
+        }
+    }
+
+    private record Meters(int status, Counter errors, Timer latency) {
+    }
+}
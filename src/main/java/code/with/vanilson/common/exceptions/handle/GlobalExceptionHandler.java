@@ -2,23 +2,34 @@ package code.with.vanilson.common.exceptions.handle;
 
 import code.with.vanilson.common.exceptions.*;
 import code.with.vanilson.common.https.ErrorDetail;
-import code.with.vanilson.common.utils.TimeZoneUtil;
+import code.with.vanilson.common.https.trace.TraceIds;
+import code.with.vanilson.common.utils.CoarseClock;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
+import java.time.ZoneId;
 import java.util.List;
-import java.util.UUID;
 
 import static code.with.vanilson.common.https.ErrorCodes.CONSTRAINT_VIOLATIONS_OCCURRED;
 import static code.with.vanilson.common.https.ErrorCodes.INVALID_INPUT_DATA;
-import static java.time.LocalDateTime.now;
+import static code.with.vanilson.common.https.ErrorCodes.UNEXPECTED_ERROR;
+import static code.with.vanilson.common.https.RequestHeaderConstant.DATE;
+import static code.with.vanilson.common.https.RequestHeaderConstant.RETRY_AFTER;
+import static code.with.vanilson.common.https.RequestHeaderConstant.TIME_ZONE;
 
 /**
  * GlobalExceptionHandler
@@ -27,7 +38,20 @@ import static java.time.LocalDateTime.now;
  * @version 1.0
  * @since 2024-07-05
  */
+@Slf4j
+@RestControllerAdvice
 public class GlobalExceptionHandler {
+
+    private final ErrorCodeRegistry errorCodeRegistry;
+    private final ErrorMetrics errorMetrics;
+    private final CoarseClock clock;
+
+    public GlobalExceptionHandler(ErrorCodeRegistry errorCodeRegistry, ErrorMetrics errorMetrics, CoarseClock clock) {
+        this.errorCodeRegistry = errorCodeRegistry;
+        this.errorMetrics = errorMetrics;
+        this.clock = clock;
+    }
+
     /**
      * Handles and responds to ResourceNotFoundException exceptions.
      * This exception is thrown when a requested resource is not found in the system.
@@ -41,11 +65,11 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ResponseEntity<ErrorResponse> handleNotFoundException(ResourceNotFoundException ex,
                                                                  HttpServletRequest request) {
-        var path = request.getRequestURI();
         return buildErrorResponse(
-                ex.getMessage(),
+                ex,
+                message(ex, request),
                 HttpStatus.NOT_FOUND,
-                path
+                request
         );
     }
 
@@ -62,12 +86,11 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<ErrorResponse> handleBadRequestException(ResourceBadRequestException ex,
                                                                    HttpServletRequest request) {
-        var path = request.getRequestURI();
-
         return buildErrorResponse(
-                ex.getMessage(),
+                ex,
+                message(ex, request),
                 HttpStatus.BAD_REQUEST,
-                path
+                request
         );
     }
 
@@ -85,12 +108,65 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.CONFLICT)
     public ResponseEntity<ErrorResponse> handleConflictRequestException(ResourceConflictException ex,
                                                                         HttpServletRequest request) {
-        var path = request.getRequestURI();
         return buildErrorResponse(
-                ex.getMessage(),
+                ex,
+                message(ex, request),
                 HttpStatus.CONFLICT,
-                path
+                request
+        );
+    }
+
+    /**
+     * Handles and responds to ResourceTooManyRequestsException exceptions.
+     * This exception is thrown when a client exceeds the rate limits of a route.
+     *
+     * @param ex      The ResourceTooManyRequestsException that occurred.
+     * @param request The HTTP request that triggered the exception.
+     * @return A ResponseEntity containing an ErrorResponse object, an HTTP status of 429 (Too Many Requests)
+     * and a Retry-After header telling the client how many seconds to wait.
+     */
+    @ExceptionHandler(ResourceTooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(ResourceTooManyRequestsException ex,
+                                                                        HttpServletRequest request) {
+        var response = buildErrorResponse(
+                ex,
+                message(ex, request),
+                HttpStatus.TOO_MANY_REQUESTS,
+                request
+        );
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    /**
+     * Handles and responds to ResourceUnavailableException exceptions.
+     * This exception is thrown when the service cannot take the request right now, e.g. when it is shedding load.
+     *
+     * @param ex      The ResourceUnavailableException that occurred.
+     * @param request The HTTP request that triggered the exception.
+     * @return A ResponseEntity containing an ErrorResponse object, an HTTP status of 503 (Service Unavailable)
+     * and, when the exception says when to come back, a Retry-After header.
+     */
+    @ExceptionHandler(ResourceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorResponse> handleUnavailableException(ResourceUnavailableException ex,
+                                                                    HttpServletRequest request) {
+        var response = buildErrorResponse(
+                ex,
+                message(ex, request),
+                HttpStatus.SERVICE_UNAVAILABLE,
+                request
         );
+        if (ex.getRetryAfterSeconds() <= 0) {
+            return response;
+        }
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
     }
 
     /**
@@ -106,12 +182,11 @@ public class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ResponseEntity<ErrorResponse> handleInternalServerException(ResourceInternalServerErrorException ex,
                                                                        HttpServletRequest request) {
-        var path = request.getRequestURI();
-
         return buildErrorResponse(
-                ex.getMessage(),
+                ex,
+                message(ex, request),
                 HttpStatus.INTERNAL_SERVER_ERROR,
-                path
+                request
         );
     }
 
@@ -130,7 +205,6 @@ public class GlobalExceptionHandler {
     @ResponseBody
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex,
                                                                     HttpServletRequest request) {
-        var path = request.getRequestURI();
         List<ErrorDetail> details = ex.getBindingResult().getAllErrors().stream()
                 .map(error -> new ErrorDetail(
                         ((FieldError) error).getField(),
@@ -139,9 +213,10 @@ public class GlobalExceptionHandler {
                 .toList();
 
         return buildErrorResponse(
+                ex,
                 INVALID_INPUT_DATA,
                 HttpStatus.BAD_REQUEST,
-                path
+                request
         );
     }
 
@@ -159,73 +234,116 @@ public class GlobalExceptionHandler {
     @ResponseBody
     public ResponseEntity<ErrorResponse> handleConstraintViolationException(ConstraintViolationException ex,
                                                                             HttpServletRequest request) {
-        var path = request.getRequestURI();
         return buildErrorResponse(
+                ex,
                 CONSTRAINT_VIOLATIONS_OCCURRED,
                 HttpStatus.BAD_REQUEST,
-                path
+                request
         );
     }
 
     /**
      * Handles and responds to general exceptions that are not explicitly caught by other exception handlers.
+     * Spring MVC's own exceptions (unknown route, unsupported method, unreadable body, ...) and exceptions
+     * annotated with {@link ResponseStatus} keep their status; anything else is a 500 (Internal Server Error).
+     * A server error answers with a generic message and is logged instead, so its details never reach the client.
      *
      * @param ex      The exception that occurred.
      * @param request The HTTP request that triggered the exception.
-     * @return A ResponseEntity containing an ErrorResponse object and an HTTP status of 500 (Internal Server Error).
+     * @return A ResponseEntity containing an ErrorResponse object and the resolved HTTP status.
      */
     @ExceptionHandler(Exception.class)
-    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ResponseBody
     public ResponseEntity<ErrorResponse> handleGeneralException(Exception ex, HttpServletRequest request) {
-        var path = request.getRequestURI();
-
+        var status = resolveStatus(ex);
         return buildErrorResponse(
-                ex.getMessage(),
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                path
+                ex,
+                exposesMessage(ex, status) ? message(ex, request) : unexpected(ex, request),
+                status,
+                request
         );
     }
 
     /**
      * Constructs a ResponseEntity containing an ErrorResponse object based on the provided parameters.
      *
+     * @param ex      The exception being answered, recorded in the error metrics.
      * @param message The error message.
      * @param status  The HTTP status of the error response.
-     * @param path    The request URI that triggered the error.
+     * @param request The HTTP request that triggered the error, its matched route decides the error code.
      * @return A ResponseEntity containing an ErrorResponse object and the specified HTTP status.
      */
 
-    private ResponseEntity<ErrorResponse> buildErrorResponse(String message, HttpStatus status, String path) {
-        String traceId = UUID.randomUUID().toString();
+    private ResponseEntity<ErrorResponse> buildErrorResponse(Exception ex, String message, HttpStatus status,
+                                                             HttpServletRequest request) {
+        errorMetrics.record(ex, status.value(), request);
+        String traceId = TraceIds.currentOrNew();
+        ZoneId zone = zone(request);
         ErrorResponse errorResponse = new ErrorResponse(
                 message,
                 status.name(),
-                TimeZoneUtil.getRandomTimeZone(),
+                zone.getId(),
                 status.value(),
-                path,
-                now(),
-                determineErrorCodeFromPath(path),  // Unique code for this error
+                request.getRequestURI(),
+                clock.now(zone),
+                errorCodeRegistry.codeFor(request),  // Unique code for this error
                 traceId
         );
-        return new ResponseEntity<>(errorResponse, status);
+        // Same tick as the timestamp, and the container has no date to format
+        var headers = new HttpHeaders();
+        headers.set(DATE, clock.httpDate());
+        return new ResponseEntity<>(errorResponse, headers, status);
     }
 
     /**
-     * Determines the appropriate error code based on the given request path.
-     *
-     * @param path The request URI that triggered the error.
-     * @return A string representing the error code.
-     * <p>
-     * The error code is determined by analyzing the request path and matching it to a specific resource.
-     * If the path contains "/cars/", the error code "CAR_INVALID_DATA" is returned.
+     * The zone of the error timestamp: the {@code Time-Zone} header, then the time zone of the locale context
+     * when the locale resolver keeps one, then the zone of the clock.
      */
+    private ZoneId zone(HttpServletRequest request) {
+        var zoneId = request.getHeader(TIME_ZONE);
+        if (zoneId == null) {
+            var timeZone = RequestContextUtils.getTimeZone(request);
+            if (timeZone != null) {
+                return timeZone.toZoneId();
+            }
+        }
+        return clock.zone(zoneId);
+    }
 
-    private String determineErrorCodeFromPath(String path) {
-        if (path.contains("/api/cars/")) {
-            return "Invalid car";
-        } else {
-            return "UNKNOWN_ERROR";
+    /**
+     * Renders the message of a {@link ResourceException} in the language of the request ({@code Accept-Language}),
+     * which is the first time a message given by its key is formatted at all.
+     */
+    private static String message(Exception ex, HttpServletRequest request) {
+        if (ex instanceof ResourceException resourceException) {
+            return resourceException.getMessage(RequestContextUtils.getLocale(request));
+        }
+        return ex.getMessage();
+    }
+
+    /**
+     * Only our own exceptions, Spring MVC's and client errors carry a message meant for the client; anything else
+     * failing on the server may carry SQL, hosts or class names.
+     */
+    private static boolean exposesMessage(Exception ex, HttpStatus status) {
+        return ex instanceof ResourceException || ex instanceof org.springframework.web.ErrorResponse
+                || !status.is5xxServerError();
+    }
+
+    private static String unexpected(Exception ex, HttpServletRequest request) {
+        log.error("Unexpected error on {} {}", request.getMethod(), request.getRequestURI(), ex);
+        return UNEXPECTED_ERROR;
+    }
+
+    private static HttpStatus resolveStatus(Exception ex) {
+        if (ex instanceof org.springframework.web.ErrorResponse errorResponse) {
+            var status = HttpStatus.resolve(errorResponse.getStatusCode().value());
+            return status != null ? status : HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+        if (ex instanceof HttpMessageNotReadableException || ex instanceof TypeMismatchException) {
+            return HttpStatus.BAD_REQUEST;
         }
+        var responseStatus = AnnotatedElementUtils.findMergedAnnotation(ex.getClass(), ResponseStatus.class);
+        return responseStatus != null ? responseStatus.code() : HttpStatus.INTERNAL_SERVER_ERROR;
     }
-}
\ No newline at end of file
+}
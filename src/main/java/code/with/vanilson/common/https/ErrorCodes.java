@@ -17,6 +17,8 @@ public class ErrorCodes {
     public static final String INTERNAL_SERVER_ERROR = "INTERNAL_SERVER_ERROR";
     public static final String UNEXPECTED_ERROR = "An unexpected error occurred";
     public static final String BOOK_INVALID_DATA = "BOOK_INVALID_DATA";
+    public static final String CAR_INVALID_DATA = "CAR_INVALID_DATA";
+    public static final String UNKNOWN_ERROR = "UNKNOWN_ERROR";
     public static final String CONSTRAINT_VIOLATIONS_OCCURRED = "Constraint violations occurred.";
     public static final String INVALID_INPUT_DATA = "Invalid input data.";
 
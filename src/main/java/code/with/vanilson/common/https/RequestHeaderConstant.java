@@ -53,6 +53,14 @@ public class RequestHeaderConstant {
     public static final String SET_COOKIE_PATH = "Set-Cookie-Path";
     public static final String SET_COOKIE_SECURE = "Set-Cookie-Secure";
     public static final String SET_COOKIE_DOMAIN = "Set-Cookie-Domain";
+    public static final String TIME_ZONE = "Time-Zone";
+
+    // Idempotency headers
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    // W3C Trace Context
+    public static final String TRACEPARENT = "traceparent";
 
     // Content type values
     public static final String CONTENT_TYPE_JSON = "application/json";
@@ -19,6 +19,11 @@ public class ResponseHeaderConstant {
     public static final String EXPIRES = "Expires";
     public static final String CONTENT_DISPOSITION = "Content-Disposition";
     public static final String CONTENT_LENGTH = "Content-Length";
+    public static final String AGE = "Age";
+    public static final String WARNING = "Warning";
+
+    // Header values
+    public static final String WARNING_RESPONSE_IS_STALE = "110 - \"Response is Stale\"";
 
 
 
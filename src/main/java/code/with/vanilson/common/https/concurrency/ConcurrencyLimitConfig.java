@@ -0,0 +1,39 @@
+package code.with.vanilson.common.https.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+/**
+ * ConcurrencyLimitConfig
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-30
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    // After rate limiting, requests rejected there never take a permit
+    public static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 75;
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimitProperties properties,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+            MeterRegistry registry) {
+        var registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(properties, exceptionResolver, registry));
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+}
@@ -0,0 +1,171 @@
+package code.with.vanilson.common.https.concurrency;
+
+import code.with.vanilson.common.exceptions.ResourceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+/**
+ * ConcurrencyLimitFilter
+ * <p>
+ * Caps the requests in flight for each route class configured under {@code app.concurrency-limit.classes}
+ * with a {@link GradientLimit} that follows the latency the class actually sees. A class matches on path and,
+ * when it lists any, on HTTP method, so a listing class can leave writes to the same path to another class.
+ * Requests over the limit are shed at once with {@code 503 Service Unavailable} and a {@code Retry-After} header
+ * instead of queueing in Tomcat until they time out. Excluded paths, the actuator by default, bypass the limiter
+ * so health checks and metric scrapes keep answering under overload.
+ * <pre>
+ * http.server.concurrency.limit{class}
+ * http.server.concurrency.inflight{class}
+ * http.server.concurrency.shed{class}
+ * </pre>
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-30
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public static final String OVERLOADED = "request.overloaded";
+
+    private final List<PathPattern> excludedPaths;
+    private final List<LimitedClass> classes;
+    private final long retryAfterSeconds;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, HandlerExceptionResolver exceptionResolver,
+                                  MeterRegistry registry) {
+        this.excludedPaths = properties.getExcludedPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.classes = properties.getClasses().stream()
+                .map(routeClass -> new LimitedClass(routeClass, registry))
+                .toList();
+        this.retryAfterSeconds = Math.max(1, properties.getRetryAfter().toSeconds());
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var limited = classes.isEmpty() ? null
+                : match(request.getMethod(), PathContainer.parsePath(request.getRequestURI()));
+        if (limited == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!limited.limit.tryAcquire()) {
+            limited.shed.increment();
+            exceptionResolver.resolveException(request, response, null,
+                    ResourceUnavailableException.of(retryAfterSeconds, OVERLOADED, retryAfterSeconds));
+            return;
+        }
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                // The permit is held until the asynchronous response is written
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limited.limit, start));
+            } else {
+                limited.limit.release(completed ? latency(start, response) : -1);
+            }
+        }
+    }
+
+    private LimitedClass match(String method, PathContainer path) {
+        for (var excluded : excludedPaths) {
+            if (excluded.matches(path)) {
+                return null;
+            }
+        }
+        for (var limited : classes) {
+            if (!limited.methods.isEmpty() && !limited.methods.contains(method)) {
+                continue;
+            }
+            for (var pattern : limited.patterns) {
+                if (pattern.matches(path)) {
+                    return limited;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Failed requests are often fast and would make the route look healthier than it is
+    private static long latency(long start, HttpServletResponse response) {
+        return response.getStatus() >= 500 ? -1 : System.nanoTime() - start;
+    }
+
+    private static final class LimitedClass {
+        private final List<PathPattern> patterns;
+        private final Set<String> methods;
+        private final GradientLimit limit;
+        private final Counter shed;
+
+        private LimitedClass(ConcurrencyLimitProperties.RouteClass routeClass, MeterRegistry registry) {
+            this.patterns = routeClass.getPatterns().stream()
+                    .map(PathPatternParser.defaultInstance::parse)
+                    .toList();
+            this.methods = routeClass.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            this.limit = new GradientLimit(routeClass);
+            Gauge.builder("http.server.concurrency.limit", limit, GradientLimit::limit)
+                    .description("Requests a route class may have in flight")
+                    .tag("class", routeClass.getName())
+                    .register(registry);
+            Gauge.builder("http.server.concurrency.inflight", limit, GradientLimit::inflight)
+                    .description("Requests of a route class in flight")
+                    .tag("class", routeClass.getName())
+                    .register(registry);
+            this.shed = Counter.builder("http.server.concurrency.shed")
+                    .description("Requests rejected because their route class was at its limit")
+                    .tag("class", routeClass.getName())
+                    .register(registry);
+        }
+    }
+
+    private record ReleaseOnComplete(GradientLimit limit, long start) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limit.release(latency(start, (HttpServletResponse) event.getSuppliedResponse()));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // onComplete follows
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onComplete follows
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // not needed
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package code.with.vanilson.common.https.concurrency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ConcurrencyLimitProperties
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-30
+ */
+@Data
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    // Never limited nor shed, health checks and scrapes must keep answering under overload
+    private List<String> excludedPaths = new ArrayList<>(List.of("/actuator/**"));
+    private Duration retryAfter = Duration.ofSeconds(1);
+    // First class with a matching method and pattern wins, unmatched requests are not limited
+    private List<RouteClass> classes = new ArrayList<>();
+
+    @Data
+    public static class RouteClass {
+        private String name;
+        private List<String> patterns = new ArrayList<>();
+        // HTTP methods the class applies to, e.g. GET to keep writes out of a listing class; empty for all
+        private List<String> methods = new ArrayList<>();
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        // How far short-term latency may rise above the long-term baseline before the limit shrinks
+        private double tolerance = 1.5;
+        private double smoothing = 0.2;
+    }
+}
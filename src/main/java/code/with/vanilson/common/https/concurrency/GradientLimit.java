@@ -0,0 +1,105 @@
+package code.with.vanilson.common.https.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GradientLimit
+ * <p>
+ * Concurrency limit that follows observed latency, after the gradient algorithm: a short-term and a long-term
+ * average of request latency are kept, and while the short-term one stays within {@code tolerance} of the
+ * baseline the limit grows by about {@code sqrt(limit)}; once requests start queueing the ratio between the two
+ * drops below one and the limit shrinks proportionally, by at most half per sample. Samples taken while fewer
+ * than half the permits are in use say nothing about capacity and are ignored.
+ * <p>
+ * Admission is a CAS on the in-flight counter; samples are folded in under a lock that is only tried, so a
+ * completion never waits for another one.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-30
+ */
+class GradientLimit {
+
+    private static final double SHORT_WINDOW = 0.2;
+    private static final double LONG_WINDOW = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final ReentrantLock sampleLock = new ReentrantLock();
+    private volatile int limit;
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+
+    GradientLimit(ConcurrencyLimitProperties.RouteClass routeClass) {
+        this.minLimit = Math.max(1, routeClass.getMinLimit());
+        this.maxLimit = Math.max(minLimit, routeClass.getMaxLimit());
+        this.tolerance = routeClass.getTolerance();
+        this.smoothing = routeClass.getSmoothing();
+        this.estimatedLimit = Math.min(maxLimit, Math.max(minLimit, routeClass.getInitialLimit()));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * @return {@code true} when a permit was taken, it must be given back with {@link #release(long)}.
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives a permit back and learns from the latency of the request that held it, {@code -1} to skip learning.
+     */
+    void release(long latencyNanos) {
+        int current = inflight.getAndDecrement();
+        if (latencyNanos >= 0 && sampleLock.tryLock()) {
+            try {
+                onSample(latencyNanos, current);
+            } finally {
+                sampleLock.unlock();
+            }
+        }
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    int inflight() {
+        return inflight.get();
+    }
+
+    private void onSample(long latencyNanos, int inflightAtCompletion) {
+        if (longRtt == 0) {
+            shortRtt = latencyNanos;
+            longRtt = latencyNanos;
+            return;
+        }
+        shortRtt += (latencyNanos - shortRtt) * SHORT_WINDOW;
+        longRtt += (latencyNanos - longRtt) * LONG_WINDOW;
+        if (longRtt / shortRtt > 2) {
+            // Latency dropped well below the baseline, let the baseline catch up faster
+            longRtt *= 0.95;
+        }
+        if (inflightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.min(maxLimit, Math.max(minLimit,
+                estimatedLimit * (1 - smoothing) + newLimit * smoothing));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,70 @@
+package code.with.vanilson.common.https.format;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * BinaryFormatConfig
+ * <p>
+ * Lets clients ask for {@code application/cbor} or {@code application/x-jackson-smile} instead of JSON, for request
+ * and response bodies alike, error responses included. JSON stays first in line, so clients that accept any type
+ * or send no {@code Accept} header are answered as before.
+ * <p>
+ * Spring MVC registers plain CBOR and Smile converters on its own once the Jackson data formats are on the
+ * classpath. Those are replaced here by converters built from the same {@link Jackson2ObjectMapperBuilder} as the
+ * JSON one and with the HAL module, so a car reads the same in every format: {@code spring.jackson.*} settings
+ * apply, dates are written as in JSON and links come out as {@code _links}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-05
+ */
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+    private final LinkRelationProvider linkRelationProvider;
+    private final CurieProvider curieProvider;
+    private final MessageResolver messageResolver;
+
+    public BinaryFormatConfig(Jackson2ObjectMapperBuilder objectMapperBuilder,
+                              LinkRelationProvider linkRelationProvider,
+                              ObjectProvider<CurieProvider> curieProvider,
+                              MessageResolver messageResolver) {
+        this.objectMapperBuilder = objectMapperBuilder;
+        this.linkRelationProvider = linkRelationProvider;
+        this.curieProvider = curieProvider.getIfAvailable(() -> CurieProvider.NONE);
+        this.messageResolver = messageResolver;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(halMapper(new CBORFactory())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(halMapper(new SmileFactory())));
+    }
+
+    private ObjectMapper halMapper(JsonFactory factory) {
+        ObjectMapper mapper = objectMapperBuilder.factory(factory).build();
+        mapper.registerModule(new Jackson2HalModule());
+        mapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                linkRelationProvider, curieProvider, messageResolver));
+        return mapper;
+    }
+}
@@ -0,0 +1,250 @@
+package code.with.vanilson.common.https.idempotency;
+
+import code.with.vanilson.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.common.exceptions.ResourceConflictException;
+import code.with.vanilson.common.exceptions.ResourcePayloadTooLargeException;
+import code.with.vanilson.common.exceptions.ResourceValidationException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static code.with.vanilson.common.https.RequestHeaderConstant.IDEMPOTENCY_KEY;
+import static code.with.vanilson.common.https.RequestHeaderConstant.IDEMPOTENT_REPLAYED;
+import static code.with.vanilson.common.https.ResponseHeaderConstant.LOCATION;
+
+/**
+ * IdempotencyFilter
+ * <p>
+ * Makes {@code POST} requests carrying an {@code Idempotency-Key} header safe to retry. The first request
+ * with a key runs normally and, when it succeeds, its response is stored; retries replay that response
+ * without reaching the controller, and duplicates arriving while the first one is still running wait for
+ * its outcome. Failed requests release the key so the client can try again.
+ * <p>
+ * Keys are scoped by the authenticated principal, or the client address for anonymous callers, so one client
+ * can never be answered with the response stored for another. The claim also records a hash of the request body:
+ * a key reused with a different body is answered with {@code 422 Unprocessable Entity} instead of a replay.
+ * The store only sees a SHA-256 digest of the scoped key, so its length never depends on the client, and bodies
+ * above {@code max-body-size} are answered with {@code 413 Payload Too Large} without being buffered.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-24
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private final IdempotencyStore store;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final Set<String> paths;
+    private final long waitTimeoutMillis;
+    private final int maxKeyLength;
+    private final int maxBodyBytes;
+
+    public IdempotencyFilter(IdempotencyStore store, HandlerExceptionResolver exceptionResolver,
+                             IdempotencyProperties properties) {
+        this.store = store;
+        this.exceptionResolver = exceptionResolver;
+        this.paths = Set.copyOf(properties.getPaths());
+        this.waitTimeoutMillis = properties.getWaitTimeout().toMillis();
+        this.maxKeyLength = properties.getMaxKeyLength();
+        this.maxBodyBytes = Math.toIntExact(properties.getMaxBodySize().toBytes());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY) == null
+                || !paths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY);
+        try {
+            if (key.isBlank() || key.length() > maxKeyLength) {
+                throw new ResourceBadRequestException(
+                        "Idempotency-Key must be between 1 and " + maxKeyLength + " characters");
+            }
+            var body = new CachedBodyRequest(request, maxBodyBytes);
+            var scopedKey = scope(request) + ' ' + request.getRequestURI() + ' ' + key;
+            handle(hash(scopedKey.getBytes(StandardCharsets.UTF_8)), hash(body.body), body, response, chain);
+        } catch (ResourceBadRequestException | ResourceConflictException | ResourceValidationException
+                 | ResourcePayloadTooLargeException ex) {
+            exceptionResolver.resolveException(request, response, null, ex);
+        }
+    }
+
+    private void handle(String scopedKey, String requestHash, HttpServletRequest request,
+                        HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        while (true) {
+            var pending = store.claim(scopedKey, requestHash);
+            if (pending == null) {
+                execute(scopedKey, request, response, chain);
+                return;
+            }
+            var stored = await(pending);
+            if (stored != null) {
+                replay(stored, response);
+                return;
+            }
+            // The first request failed and released the key, compete for it again
+        }
+    }
+
+    private void execute(String scopedKey, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain chain) throws ServletException, IOException {
+        var wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException ex) {
+            store.release(scopedKey);
+            throw ex;
+        }
+        int status = wrapper.getStatus();
+        if (status >= 200 && status < 300) {
+            store.complete(scopedKey, new StoredResponse(status, wrapper.getContentType(),
+                    wrapper.getHeader(LOCATION), wrapper.getContentAsByteArray()));
+        } else {
+            store.release(scopedKey);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> pending) {
+        try {
+            return pending.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new ResourceConflictException("A request with this Idempotency-Key is still being processed");
+        } catch (ExecutionException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResourceConflictException("Interrupted while waiting for the original request");
+        }
+    }
+
+    private static String scope(HttpServletRequest request) {
+        var principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : "addr:" + request.getRemoteAddr();
+    }
+
+    private static String hash(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            // Every JVM ships SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        log.debug("Replaying stored response with status {}", stored.status());
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(LOCATION, stored.location());
+        }
+        response.setHeader(IDEMPOTENT_REPLAYED, Boolean.TRUE.toString());
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    /**
+     * Reads the body up front, so it can be hashed before the claim and still be read by the controller.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, int maxBodyBytes) throws IOException {
+            super(request);
+            if (request.getContentLengthLong() > maxBodyBytes) {
+                throw tooLarge(maxBodyBytes);
+            }
+            // A chunked body has no length to check, read one byte past the limit to notice it is over
+            this.body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+            if (body.length > maxBodyBytes) {
+                throw tooLarge(maxBodyBytes);
+            }
+        }
+
+        private static ResourcePayloadTooLargeException tooLarge(int maxBodyBytes) {
+            return new ResourcePayloadTooLargeException(
+                    "Requests with an Idempotency-Key must not exceed " + maxBodyBytes + " bytes");
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The whole body is already in memory: it is available now and can be read to the end at once
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            var encoding = getCharacterEncoding();
+            var charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package code.with.vanilson.common.https.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IdempotencyProperties
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-24
+ */
+@Data
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+    private Store store = Store.IN_MEMORY;
+    // POST endpoints honouring the Idempotency-Key header
+    private List<String> paths = new ArrayList<>(List.of("/api/cars"));
+    private long maxEntries = 10_000;
+    private Duration ttl = Duration.ofHours(24);
+    // How long a duplicate waits for the first request before answering 409
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    // How long an unfinished claim is kept before it counts as abandoned, longer than any request may run
+    private Duration processingLease = Duration.ofMinutes(10);
+    private int maxKeyLength = 255;
+    // The body is read into memory to be hashed, larger ones are answered with 413
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+
+    public enum Store {
+        IN_MEMORY,
+        JDBC
+    }
+}
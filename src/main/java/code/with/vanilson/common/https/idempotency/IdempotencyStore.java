@@ -0,0 +1,36 @@
+package code.with.vanilson.common.https.idempotency;
+
+import code.with.vanilson.common.exceptions.ResourceValidationException;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * IdempotencyStore
+ * <p>
+ * Keeps the outcome of requests carrying an {@code Idempotency-Key}. A key is first {@link #claim claimed}
+ * by exactly one request; that request then either {@link #complete completes} it with the response to
+ * replay or {@link #release releases} it when it did not succeed, so a retry can run again. The claim records a
+ * hash of the request body; a key reused with a different body is refused rather than answered with a response
+ * that belongs to another request.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-24
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claims the key for the calling request.
+     *
+     * @param key         the scoped idempotency key
+     * @param requestHash hash of the request body
+     * @return {@code null} when the caller now owns the key, otherwise a future of the owner's response.
+     * The future yields {@code null} when the owner released the key and the caller should claim again.
+     * @throws ResourceValidationException when the key was claimed for a request with a different body.
+     */
+    CompletableFuture<StoredResponse> claim(String key, String requestHash);
+
+    void complete(String key, StoredResponse response);
+
+    void release(String key);
+}
@@ -0,0 +1,63 @@
+package code.with.vanilson.common.https.idempotency;
+
+import code.with.vanilson.common.exceptions.ResourceValidationException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * InMemoryIdempotencyStore
+ * <p>
+ * Bounded {@link IdempotencyStore} keeping at most {@code maxEntries} keys for {@code ttl} after they were
+ * claimed. Concurrent duplicates share the owner's future, so they wait for its result instead of running.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-24
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    static final String KEY_REUSED = "Idempotency-Key was already used for a request with a different body";
+
+    private final Cache<String, Claim> claims;
+
+    public InMemoryIdempotencyStore(long maxEntries, Duration ttl) {
+        this.claims = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public CompletableFuture<StoredResponse> claim(String key, String requestHash) {
+        var existing = claims.asMap().putIfAbsent(key, new Claim(requestHash, new CompletableFuture<>()));
+        if (existing == null) {
+            return null;
+        }
+        if (!existing.requestHash().equals(requestHash)) {
+            throw new ResourceValidationException(KEY_REUSED);
+        }
+        return existing.response();
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        var claim = claims.getIfPresent(key);
+        if (claim != null) {
+            claim.response().complete(response);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        var claim = claims.asMap().remove(key);
+        if (claim != null) {
+            claim.response().complete(null);
+        }
+    }
+
+    private record Claim(String requestHash, CompletableFuture<StoredResponse> response) {
+    }
+}
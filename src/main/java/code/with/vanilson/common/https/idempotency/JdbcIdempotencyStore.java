@@ -0,0 +1,168 @@
+package code.with.vanilson.common.https.idempotency;
+
+import code.with.vanilson.common.exceptions.ResourceConflictException;
+import code.with.vanilson.common.exceptions.ResourceValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.Closeable;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JdbcIdempotencyStore
+ * <p>
+ * {@link IdempotencyStore} persisted in the {@code idempotency_keys} table, so keys survive restarts and
+ * are shared by all replicas. The primary key makes the claim atomic across nodes. Duplicates on the same
+ * node wait on the {@link InMemoryIdempotencyStore} future; a duplicate of a request running on another
+ * node polls the table until that request finishes or {@code waitTimeout} elapses. Rows older than the
+ * ttl, and claims still open after {@code processingLease}, are purged in the background. The lease must
+ * outlast any request: a claim purged while its request is still running lets another node run it again.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-24
+ */
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore, Closeable {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InMemoryIdempotencyStore local;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration processingLease;
+    // Token of each claim this node owns, so completing never touches a row somebody else claimed since
+    private final Map<String, String> ownClaims = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService purger;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, long maxEntries, Duration ttl, Duration waitTimeout,
+                                Duration processingLease) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.local = new InMemoryIdempotencyStore(maxEntries, ttl);
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.processingLease = processingLease;
+        this.purger = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("idempotency-purge-"));
+        purger.scheduleWithFixedDelay(this::purge, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public CompletableFuture<StoredResponse> claim(String key, String requestHash) {
+        var pending = local.claim(key, requestHash);
+        if (pending != null) {
+            return pending;
+        }
+        try {
+            var token = UUID.randomUUID().toString();
+            jdbcTemplate.update("""
+                            INSERT INTO idempotency_keys (idempotency_key, request_hash, claim_token, completed,
+                                                          created_at)
+                            VALUES (?, ?, ?, false, ?)""",
+                    key, requestHash, token, Timestamp.from(Instant.now()));
+            ownClaims.put(key, token);
+            return null;
+        } catch (DuplicateKeyException ex) {
+            return CompletableFuture.completedFuture(awaitRemote(key, requestHash));
+        } catch (RuntimeException ex) {
+            local.release(key);
+            throw ex;
+        }
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        int updated = jdbcTemplate.update("""
+                        UPDATE idempotency_keys
+                        SET completed = true, status_code = ?, content_type = ?, location = ?, body = ?
+                        WHERE idempotency_key = ? AND claim_token = ?""",
+                response.status(), response.contentType(), response.location(), response.body(), key,
+                ownClaims.remove(key));
+        if (updated == 0) {
+            // Purged after processing-lease, a retry may already have run the request again
+            log.error("Idempotency claim {} expired before its request completed, the response is not stored", key);
+        }
+        local.complete(key, response);
+    }
+
+    @Override
+    public void release(String key) {
+        try {
+            jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND claim_token = ?"
+                    + " AND completed = false", key, ownClaims.remove(key));
+        } finally {
+            local.release(key);
+        }
+    }
+
+    /**
+     * Waits for the owner on another node; the local claim is handed over to the outcome it produced.
+     */
+    private StoredResponse awaitRemote(String key, String requestHash) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                var rows = jdbcTemplate.query("""
+                                SELECT request_hash, completed, status_code, content_type, location, body
+                                FROM idempotency_keys WHERE idempotency_key = ?""",
+                        (rs, rowNum) -> new RemoteClaim(rs.getString("request_hash"), rs.getBoolean("completed")
+                                ? new StoredResponse(rs.getInt("status_code"), rs.getString("content_type"),
+                                rs.getString("location"), rs.getBytes("body"))
+                                : null),
+                        key);
+                if (rows.isEmpty()) {
+                    // The owner gave up, let the caller claim the key again
+                    local.release(key);
+                    return null;
+                }
+                var claim = rows.get(0);
+                if (!requestHash.equals(claim.requestHash())) {
+                    throw new ResourceValidationException(InMemoryIdempotencyStore.KEY_REUSED);
+                }
+                if (claim.response() != null) {
+                    local.complete(key, claim.response());
+                    return claim.response();
+                }
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            local.release(key);
+            throw ex;
+        }
+        local.release(key);
+        throw new ResourceConflictException("A request with this Idempotency-Key is still being processed");
+    }
+
+    private void purge() {
+        try {
+            var now = Instant.now();
+            int purged = jdbcTemplate.update(
+                    "DELETE FROM idempotency_keys WHERE created_at < ? OR (completed = false AND created_at < ?)",
+                    Timestamp.from(now.minus(ttl)), Timestamp.from(now.minus(processingLease)));
+            log.debug("Purged {} idempotency keys", purged);
+        } catch (RuntimeException ex) {
+            log.warn("Could not purge idempotency keys: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        purger.shutdownNow();
+    }
+
+    private record RemoteClaim(String requestHash, StoredResponse response) {
+    }
+}
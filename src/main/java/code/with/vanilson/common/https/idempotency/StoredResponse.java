@@ -0,0 +1,17 @@
+package code.with.vanilson.common.https.idempotency;
+
+/**
+ * StoredResponse
+ * <p>
+ * The parts of a successful response needed to replay it for a retried request.
+ *
+ * @param status      HTTP status code
+ * @param contentType value of the {@code Content-Type} header, may be null
+ * @param location    value of the {@code Location} header, may be null
+ * @param body        response body bytes
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-24
+ */
+public record StoredResponse(int status, String contentType, String location, byte[] body) {
+}
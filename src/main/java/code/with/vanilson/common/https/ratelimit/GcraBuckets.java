@@ -0,0 +1,57 @@
+package code.with.vanilson.common.https.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * GcraBuckets
+ * <p>
+ * A fixed number of token buckets implemented with the generic cell rate algorithm: each bucket is a single
+ * {@code long}, the theoretical arrival time of the next request, updated with a compare-and-set. A request
+ * spends one permit by pushing that time forward by one emission interval ({@code period / permits}), and is
+ * rejected when that would put it more than {@code burst} intervals ahead of now. Memory is fixed at one
+ * {@code long} per slot, however many clients there are.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-29
+ */
+class GcraBuckets {
+
+    private final AtomicLongArray arrivals;
+    private final int mask;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    // Keeps the clock positive, an empty slot (0) then always holds a full burst
+    private final long origin = System.nanoTime() - 1;
+
+    /**
+     * @param slots number of buckets, rounded up to a power of two.
+     */
+    GcraBuckets(int slots, RateLimitProperties.Limit limit) {
+        this.arrivals = new AtomicLongArray(slots <= 1 ? 1 : Integer.highestOneBit(slots - 1) << 1);
+        this.mask = arrivals.length() - 1;
+        this.intervalNanos = Math.max(1, limit.getPeriod().toNanos() / Math.max(1, limit.getPermits()));
+        this.toleranceNanos = intervalNanos * limit.burstOrPermits();
+    }
+
+    /**
+     * Takes one permit from the bucket {@code hash} maps to.
+     *
+     * @return {@code 0} when the request is allowed, otherwise the nanoseconds until it would be.
+     */
+    long acquire(int hash) {
+        int slot = hash & mask;
+        long now = System.nanoTime() - origin;
+        while (true) {
+            long arrival = arrivals.get(slot);
+            long next = Math.max(arrival, now) + intervalNanos;
+            long wait = next - toleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrivals.compareAndSet(slot, arrival, next)) {
+                return 0;
+            }
+        }
+    }
+}
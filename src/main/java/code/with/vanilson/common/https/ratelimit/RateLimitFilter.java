@@ -0,0 +1,138 @@
+package code.with.vanilson.common.https.ratelimit;
+
+import code.with.vanilson.common.exceptions.ResourceTooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * RateLimitFilter
+ * <p>
+ * Enforces the limits configured under {@code app.rate-limit.routes}: a token bucket per client and route,
+ * and one per route shared by every client. Client buckets live in a fixed {@link GcraBuckets} table, so a
+ * flood of distinct clients costs no memory; clients hashing to the same slot share a bucket. Clients are told
+ * apart by their remote address, or by the right-most entry of {@code client-header} when the application sits
+ * behind a proxy that appends to it. Rejections are
+ * answered with {@code 429 Too Many Requests} and a {@code Retry-After} header through the global exception
+ * handler, and counted in {@code http.server.rate.limit{route, result}}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-29
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String RATE_LIMITED = "request.rate_limited";
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final List<RouteLimiter> routes;
+    private final String clientHeader;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public RateLimitFilter(RateLimitProperties properties, HandlerExceptionResolver exceptionResolver,
+                           MeterRegistry registry) {
+        this.routes = properties.getRoutes().stream()
+                .map(route -> new RouteLimiter(route, properties.getClientSlots(), registry))
+                .toList();
+        this.clientHeader = properties.getClientHeader();
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var route = routes.isEmpty() ? null : match(PathContainer.parsePath(request.getRequestURI()));
+        if (route != null) {
+            long waitNanos = route.acquire(clientKey(request));
+            if (waitNanos > 0) {
+                long retryAfter = Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+                exceptionResolver.resolveException(request, response, null,
+                        ResourceTooManyRequestsException.of(retryAfter, RATE_LIMITED, retryAfter));
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private RouteLimiter match(PathContainer path) {
+        for (var route : routes) {
+            if (route.pattern.matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        var value = clientHeader != null ? request.getHeader(clientHeader) : null;
+        if (value == null || value.isBlank()) {
+            return request.getRemoteAddr();
+        }
+        // Only the last hop was added by the trusted proxy, everything before it is whatever the client sent
+        int comma = value.lastIndexOf(',');
+        return comma < 0 ? value.trim() : value.substring(comma + 1).trim();
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class RouteLimiter {
+        private final PathPattern pattern;
+        private final GcraBuckets perClient;
+        private final GcraBuckets total;
+        private final Counter allowed;
+        private final Counter clientRejected;
+        private final Counter routeRejected;
+
+        private RouteLimiter(RateLimitProperties.Route route, int clientSlots, MeterRegistry registry) {
+            this.pattern = PathPatternParser.defaultInstance.parse(route.getPattern());
+            this.perClient = route.getPerClient() != null ? new GcraBuckets(clientSlots, route.getPerClient()) : null;
+            this.total = route.getTotal() != null ? new GcraBuckets(1, route.getTotal()) : null;
+            this.allowed = counter(registry, route.getPattern(), "allowed");
+            this.clientRejected = counter(registry, route.getPattern(), "client_rejected");
+            this.routeRejected = counter(registry, route.getPattern(), "route_rejected");
+        }
+
+        long acquire(String client) {
+            // The client's own bucket first, an abusive client must not drain the shared one
+            long wait = perClient != null ? perClient.acquire(spread(client.hashCode())) : 0;
+            if (wait > 0) {
+                clientRejected.increment();
+                return wait;
+            }
+            wait = total != null ? total.acquire(0) : 0;
+            if (wait > 0) {
+                routeRejected.increment();
+                return wait;
+            }
+            allowed.increment();
+            return 0;
+        }
+
+        private static Counter counter(MeterRegistry registry, String route, String result) {
+            return Counter.builder("http.server.rate.limit")
+                    .description("Requests checked against the rate limits of a route")
+                    .tag("route", route)
+                    .tag("result", result)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package code.with.vanilson.common.https.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RateLimitProperties
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-29
+ */
+@Data
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // Header appended to by a trusted proxy, e.g. X-Forwarded-For, its right-most entry identifies the client.
+    // Unset by default: clients can write any value into it, so only the remote address is trusted
+    private String clientHeader;
+    // Buckets per route shared by all clients, clients hashing to the same slot share a bucket
+    private int clientSlots = 65_536;
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+        // Path pattern, e.g. /api/cars/**, first matching route wins
+        private String pattern;
+        private Limit perClient;
+        private Limit total;
+    }
+
+    @Data
+    public static class Limit {
+        private long permits;
+        private Duration period = Duration.ofSeconds(1);
+        // Requests allowed at once after a quiet period, defaults to permits
+        private long burst;
+
+        long burstOrPermits() {
+            return burst > 0 ? burst : permits;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package code.with.vanilson.common.https.trace;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * TraceConfig
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-26
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.trace", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TraceConfig {
+
+    // Ahead of every other filter so everything logged while serving the request carries the trace id
+    public static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    @Bean
+    public FilterRegistrationBean<TraceFilter> traceFilter() {
+        var registration = new FilterRegistrationBean<>(new TraceFilter());
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+}
@@ -0,0 +1,76 @@
+package code.with.vanilson.common.https.trace;
+
+/**
+ * TraceContext
+ * <p>
+ * The {@code traceparent} of the request being served: the trace it belongs to, the id of our own span and the
+ * trace flags received from the caller.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-26
+ */
+public record TraceContext(String traceId, String spanId, int flags) {
+
+    public static final String TRACE_ID = "traceId";
+    public static final String SPAN_ID = "spanId";
+    public static final String ATTRIBUTE = TraceContext.class.getName();
+
+    private static final int TRACEPARENT_LENGTH = 55;
+    private static final int SAMPLED = 0x01;
+
+    /**
+     * Starts a new trace, sampled by default.
+     */
+    public static TraceContext newRoot() {
+        return new TraceContext(TraceIds.newTraceId(), TraceIds.newSpanId(), SAMPLED);
+    }
+
+    /**
+     * Parses a {@code traceparent} header, version {@code 00} or any later version as the specification asks.
+     *
+     * @return the caller's context, or {@code null} when the header is absent or malformed.
+     */
+    public static TraceContext parse(String traceparent) {
+        if (traceparent == null || traceparent.length() < TRACEPARENT_LENGTH) {
+            return null;
+        }
+        if (!TraceIds.isHex(traceparent, 0, 2) || traceparent.startsWith("ff")) {
+            return null;
+        }
+        boolean exact = traceparent.length() == TRACEPARENT_LENGTH;
+        if (traceparent.startsWith("00") ? !exact : !exact && traceparent.charAt(TRACEPARENT_LENGTH) != '-') {
+            return null;
+        }
+        if (traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-') {
+            return null;
+        }
+        if (!TraceIds.isHex(traceparent, 3, 35) || TraceIds.isZero(traceparent, 3, 35)
+                || !TraceIds.isHex(traceparent, 36, 52) || TraceIds.isZero(traceparent, 36, 52)
+                || !TraceIds.isHex(traceparent, 53, 55)) {
+            return null;
+        }
+        return new TraceContext(traceparent.substring(3, 35), traceparent.substring(36, 52),
+                Integer.parseInt(traceparent, 53, 55, 16));
+    }
+
+    /**
+     * @return a context for our own span inside this trace.
+     */
+    public TraceContext child() {
+        return new TraceContext(traceId, TraceIds.newSpanId(), flags);
+    }
+
+    public boolean sampled() {
+        return (flags & SAMPLED) != 0;
+    }
+
+    public String traceparent() {
+        var out = new StringBuilder(TRACEPARENT_LENGTH)
+                .append("00-").append(traceId).append('-').append(spanId).append('-');
+        if (flags < 0x10) {
+            out.append('0');
+        }
+        return out.append(Integer.toHexString(flags & 0xFF)).toString();
+    }
+}
@@ -0,0 +1,60 @@
+package code.with.vanilson.common.https.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+import static code.with.vanilson.common.https.RequestHeaderConstant.TRACEPARENT;
+
+/**
+ * TraceFilter
+ * <p>
+ * Joins the caller's trace when a valid {@code traceparent} header is present and starts a new one otherwise.
+ * The ids are put in the MDC for the log pattern and the error handler, kept as a request attribute so async
+ * and error dispatches log under the same ids, and echoed back in the {@code traceparent} response header.
+ * The {@link System#nanoTime()} the request arrived at is kept in {@link #REQUEST_START} for latency metrics.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-26
+ */
+public class TraceFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_START = TraceFilter.class.getName() + ".START";
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var context = (TraceContext) request.getAttribute(TraceContext.ATTRIBUTE);
+        if (context == null) {
+            request.setAttribute(REQUEST_START, System.nanoTime());
+            var parent = TraceContext.parse(request.getHeader(TRACEPARENT));
+            context = parent != null ? parent.child() : TraceContext.newRoot();
+            request.setAttribute(TraceContext.ATTRIBUTE, context);
+            response.setHeader(TRACEPARENT, context.traceparent());
+        }
+        MDC.put(TraceContext.TRACE_ID, context.traceId());
+        MDC.put(TraceContext.SPAN_ID, context.spanId());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(TraceContext.TRACE_ID);
+            MDC.remove(TraceContext.SPAN_ID);
+        }
+    }
+}
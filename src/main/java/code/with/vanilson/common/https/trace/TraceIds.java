@@ -0,0 +1,90 @@
+package code.with.vanilson.common.https.trace;
+
+import org.slf4j.MDC;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * TraceIds
+ * <p>
+ * Lower-case hex trace and span ids as defined by W3C Trace Context. Ids come from {@link ThreadLocalRandom}:
+ * they only need to be unique, not unpredictable, and unlike {@code UUID.randomUUID()} this never touches the
+ * shared {@code SecureRandom}, so error bursts on many threads don't contend on it.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-26
+ */
+public final class TraceIds {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private TraceIds() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @return a 32 character trace id, never all zeros.
+     */
+    public static String newTraceId() {
+        var random = ThreadLocalRandom.current();
+        long high;
+        long low;
+        do {
+            high = random.nextLong();
+            low = random.nextLong();
+        } while ((high | low) == 0);
+        var out = new char[32];
+        writeHex(high, out, 0);
+        writeHex(low, out, 16);
+        return new String(out);
+    }
+
+    /**
+     * @return a 16 character span id, never all zeros.
+     */
+    public static String newSpanId() {
+        var random = ThreadLocalRandom.current();
+        long id;
+        do {
+            id = random.nextLong();
+        } while (id == 0);
+        var out = new char[16];
+        writeHex(id, out, 0);
+        return new String(out);
+    }
+
+    /**
+     * @return the trace id of the request being served on this thread, or a fresh one outside a request.
+     */
+    public static String currentOrNew() {
+        var traceId = MDC.get(TraceContext.TRACE_ID);
+        return traceId != null ? traceId : newTraceId();
+    }
+
+    static void writeHex(long value, char[] out, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            out[offset + i] = HEX[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+
+    static boolean isHex(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isZero(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
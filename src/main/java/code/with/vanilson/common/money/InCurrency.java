@@ -0,0 +1,38 @@
+package code.with.vanilson.common.money;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * InCurrency
+ * <p>
+ * The annotated {@link Money} must be in the given currency, {@link Money#DEFAULT_CURRENCY} when none is given.
+ * Fields stored in a single-currency column need it: the API accepts any currency, the column does not.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-13
+ */
+@Documented
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = InCurrencyValidator.class)
+public @interface InCurrency {
+
+    /**
+     * @return the ISO 4217 code of the currency, empty for {@link Money#DEFAULT_CURRENCY}.
+     */
+    String value() default "";
+
+    String message() default "Amount is not in the expected currency";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,30 @@
+package code.with.vanilson.common.money;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.util.Currency;
+
+/**
+ * InCurrencyValidator
+ * <p>
+ * Checks {@link InCurrency}; a null amount is left to {@code @NotNull}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-13
+ */
+public class InCurrencyValidator implements ConstraintValidator<InCurrency, Money> {
+
+    private Currency currency;
+
+    @Override
+    public void initialize(InCurrency constraint) {
+        currency = constraint.value().isEmpty() ? Money.DEFAULT_CURRENCY : Currency.getInstance(constraint.value());
+    }
+
+    @Override
+    public boolean isValid(Money money, ConstraintValidatorContext context) {
+        return money == null || money.currency().equals(currency);
+    }
+}
@@ -0,0 +1,327 @@
+package code.with.vanilson.common.money;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Money
+ * <p>
+ * An amount of money as a whole number of the currency's minor units (cents for the euro), so arithmetic on it is
+ * exact {@code long} arithmetic: sums and differences are checked for overflow, and the only operation that can
+ * round, {@link #times(long, long, RoundingMode)}, takes a {@link RoundingMode} as {@link BigDecimal} does. Amounts
+ * of different currencies are never mixed.
+ * <p>
+ * Car prices are in {@link #DEFAULT_CURRENCY}, like the {@code DECIMAL(6, 2)} price column. In JSON an amount in
+ * that currency is a plain number, as prices always were; {@link MoneySerializer} has the other cases. The static
+ * forms over {@code long[]} minor units price a whole fleet without creating an object per car.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-13
+ */
+@JsonSerialize(using = MoneySerializer.class)
+@JsonDeserialize(using = MoneyDeserializer.class)
+@Schema(type = "number", format = "decimal", example = "9999.99")
+public record Money(long minorUnits, Currency currency) implements Comparable<Money>, Serializable {
+
+    public static final Currency EUR = Currency.getInstance("EUR");
+    public static final Currency DEFAULT_CURRENCY = EUR;
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    // Powers of ten that fit in a long, POWERS_OF_TEN[18] = 10^18
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    public Money {
+        Objects.requireNonNull(currency, "Currency cannot be null");
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("Currency has no minor unit: " + currency);
+        }
+    }
+
+    /**
+     * @return {@code minorUnits} cents, or the minor units of {@link #DEFAULT_CURRENCY}.
+     */
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits, DEFAULT_CURRENCY);
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * @return the amount {@code unscaled * 10^-scale} in {@code currency}, rounded to its minor unit with
+     * {@code rounding}.
+     * @throws ArithmeticException when the amount does not fit, or when it needs rounding and {@code rounding} is
+     *                             {@link RoundingMode#UNNECESSARY}.
+     */
+    public static Money of(long unscaled, int scale, Currency currency, RoundingMode rounding) {
+        int digits = currency.getDefaultFractionDigits();
+        if (scale == digits || unscaled == 0) {
+            return new Money(unscaled, currency);
+        }
+        if (scale < digits) {
+            return new Money(Math.multiplyExact(unscaled, powerOfTen(digits - scale)), currency);
+        }
+        if (scale - digits >= POWERS_OF_TEN.length) {
+            return of(BigDecimal.valueOf(unscaled, scale), currency, rounding);
+        }
+        return new Money(divide(unscaled, POWERS_OF_TEN[scale - digits], rounding), currency);
+    }
+
+    /**
+     * @return {@code amount} in {@link #DEFAULT_CURRENCY}.
+     * @throws ArithmeticException when it has more decimals than the currency, or does not fit.
+     */
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * @return {@code amount} in {@code currency}, rounded to its minor unit with {@code rounding}.
+     * @throws ArithmeticException when the amount does not fit, or when it needs rounding and {@code rounding} is
+     *                             {@link RoundingMode#UNNECESSARY}.
+     */
+    public static Money of(BigDecimal amount, Currency currency, RoundingMode rounding) {
+        var minorUnits = amount.setScale(currency.getDefaultFractionDigits(), rounding).unscaledValue();
+        return new Money(minorUnits.longValueExact(), currency);
+    }
+
+    /**
+     * @return the amount written as {@link #toPlainString()} does, in {@link #DEFAULT_CURRENCY}.
+     */
+    public static Money parse(CharSequence amount) {
+        return parse(amount, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Reads a decimal amount, such as {@code 9999.99} or {@code -5}, without going through {@link BigDecimal}
+     * unless it has an exponent.
+     *
+     * @throws NumberFormatException when {@code amount} is not a decimal number.
+     * @throws ArithmeticException   when it has more (non-zero) decimals than the currency, or does not fit.
+     */
+    public static Money parse(CharSequence amount, Currency currency) {
+        int length = amount.length();
+        int i = length > 0 && (amount.charAt(0) == '-' || amount.charAt(0) == '+') ? 1 : 0;
+        boolean negative = i == 1 && amount.charAt(0) == '-';
+        long unscaled = 0;
+        int scale = -1;
+        int digits = 0;
+        for (; i < length; i++) {
+            char c = amount.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (scale < currency.getDefaultFractionDigits()) {
+                    // Accumulated negatively, so that Long.MIN_VALUE minor units can be read
+                    unscaled = Math.subtractExact(Math.multiplyExact(unscaled, 10), c - '0');
+                } else if (c != '0') {
+                    throw new ArithmeticException("More decimals than " + currency + " has: " + amount);
+                }
+                scale += scale >= 0 ? 1 : 0;
+                digits++;
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else if ((c == 'e' || c == 'E') && digits > 0) {
+                return of(new BigDecimal(amount.toString()), currency, RoundingMode.UNNECESSARY);
+            } else {
+                throw new NumberFormatException("Not a decimal amount: " + amount);
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Not a decimal amount: " + amount);
+        }
+        long minorUnits = negative ? unscaled : Math.negateExact(unscaled);
+        return of(minorUnits, Math.max(0, Math.min(scale, currency.getDefaultFractionDigits())), currency,
+                RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * @return {@code minorUnits[0] + ... + minorUnits[n - 1]}.
+     * @throws ArithmeticException when the total does not fit in a {@code long}.
+     */
+    public static long total(long[] minorUnits) {
+        long total = 0;
+        for (long amount : minorUnits) {
+            total = Math.addExact(total, amount);
+        }
+        return total;
+    }
+
+    /**
+     * Batch {@link #times(long, long, RoundingMode)} over amounts in minor units.
+     *
+     * @param result The array the products are written to, from index 0; may be {@code minorUnits}.
+     */
+    public static void times(long[] minorUnits, long numerator, long denominator, RoundingMode rounding,
+                             long[] result) {
+        checkDenominator(denominator);
+        if (result.length < minorUnits.length) {
+            throw new IllegalArgumentException("Array of " + result.length + " elements for " + minorUnits.length
+                    + " amounts");
+        }
+        for (int i = 0; i < minorUnits.length; i++) {
+            result[i] = times(minorUnits[i], numerator, denominator, rounding);
+        }
+    }
+
+    /**
+     * @return the number of digits after the decimal point of the currency.
+     */
+    public int scale() {
+        return currency.getDefaultFractionDigits();
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, minorUnitsOf(other)), currency);
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(minorUnits, minorUnitsOf(other)), currency);
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits), currency);
+    }
+
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(minorUnits, factor), currency);
+    }
+
+    /**
+     * Multiplies by a fraction, rounding once: {@code times(123, 100, HALF_EVEN)} adds 23% VAT,
+     * {@code times(95, 100, HALF_EVEN)} takes a 5% discount off.
+     *
+     * @param denominator A positive number.
+     * @throws ArithmeticException when the product does not fit, or when it needs rounding and {@code rounding} is
+     *                             {@link RoundingMode#UNNECESSARY}.
+     */
+    public Money times(long numerator, long denominator, RoundingMode rounding) {
+        checkDenominator(denominator);
+        return new Money(times(minorUnits, numerator, denominator, rounding), currency);
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, scale());
+    }
+
+    /**
+     * @return the amount with all the decimals of the currency and no exponent, such as {@code 9999.99} or
+     * {@code -0.50}.
+     */
+    public String toPlainString() {
+        int scale = scale();
+        var digits = Long.toString(minorUnits);
+        int sign = minorUnits < 0 ? 1 : 0;
+        if (scale == 0) {
+            return digits;
+        }
+        var text = new StringBuilder(digits.length() + scale + 2);
+        text.append(digits, 0, sign);
+        int integerDigits = digits.length() - sign - scale;
+        if (integerDigits <= 0) {
+            text.append("0.");
+            text.append("0".repeat(-integerDigits));
+            text.append(digits, sign, digits.length());
+        } else {
+            text.append(digits, sign, sign + integerDigits);
+            text.append('.');
+            text.append(digits, sign + integerDigits, digits.length());
+        }
+        return text.toString();
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, minorUnitsOf(other));
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString() + " " + currency.getCurrencyCode();
+    }
+
+    private long minorUnitsOf(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Cannot mix " + currency + " and " + other.currency + " amounts");
+        }
+        return other.minorUnits;
+    }
+
+    private static long times(long minorUnits, long numerator, long denominator, RoundingMode rounding) {
+        long high = Math.multiplyHigh(minorUnits, numerator);
+        long low = minorUnits * numerator;
+        // The product fits in a long when its high half is only the sign extension of the low half
+        if (high == (low >> 63)) {
+            return divide(low, denominator, rounding);
+        }
+        return new BigDecimal(BigInteger.valueOf(minorUnits).multiply(BigInteger.valueOf(numerator)))
+                .divide(BigDecimal.valueOf(denominator), 0, rounding)
+                .longValueExact();
+    }
+
+    // Integer division rounded as BigDecimal would, the divisor being positive
+    private static long divide(long dividend, long divisor, RoundingMode rounding) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        boolean negative = dividend < 0;
+        // Compares the remainder with half the divisor, without overflowing
+        int half = Long.compare(Math.abs(remainder), divisor - Math.abs(remainder));
+        boolean away = switch (rounding) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> !negative;
+            case FLOOR -> negative;
+            case HALF_UP -> half >= 0;
+            case HALF_DOWN -> half > 0;
+            case HALF_EVEN -> half > 0 || (half == 0 && (quotient & 1) != 0);
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+        return away ? quotient + (negative ? -1 : 1) : quotient;
+    }
+
+    private static long powerOfTen(int exponent) {
+        if (exponent >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("Overflow");
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+
+    private static void checkDenominator(long denominator) {
+        if (denominator <= 0) {
+            throw new IllegalArgumentException("Denominator must be positive: " + denominator);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package code.with.vanilson.common.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * MoneyConverter
+ * <p>
+ * Maps {@link Money} to a {@code DECIMAL} column holding amounts in {@link Money#DEFAULT_CURRENCY}. The column has
+ * no currency of its own, so amounts in any other currency are refused rather than stored as euros.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-13
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        if (money == null) {
+            return null;
+        }
+        if (!money.currency().equals(Money.DEFAULT_CURRENCY)) {
+            throw new IllegalArgumentException("Only " + Money.DEFAULT_CURRENCY + " amounts can be stored: " + money);
+        }
+        return money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount, Money.DEFAULT_CURRENCY, RoundingMode.UNNECESSARY);
+    }
+}
@@ -0,0 +1,38 @@
+package code.with.vanilson.common.money;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.DecimalMin;
+
+import java.math.BigDecimal;
+
+/**
+ * MoneyDecimalMinValidator
+ * <p>
+ * {@link DecimalMin} for {@link Money}, so price fields keep their constraint. Registered with Hibernate Validator
+ * in {@code META-INF/services/jakarta.validation.ConstraintValidator}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-13
+ */
+public class MoneyDecimalMinValidator implements ConstraintValidator<DecimalMin, Money> {
+
+    private BigDecimal min;
+    private boolean inclusive;
+
+    @Override
+    public void initialize(DecimalMin constraint) {
+        min = new BigDecimal(constraint.value());
+        inclusive = constraint.inclusive();
+    }
+
+    @Override
+    public boolean isValid(Money money, ConstraintValidatorContext context) {
+        if (money == null) {
+            return true;
+        }
+        int comparison = money.toBigDecimal().compareTo(min);
+        return inclusive ? comparison >= 0 : comparison > 0;
+    }
+}
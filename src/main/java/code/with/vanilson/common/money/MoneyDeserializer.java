@@ -0,0 +1,99 @@
+package code.with.vanilson.common.money;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * MoneyDeserializer
+ * <p>
+ * Reads what {@link MoneySerializer} writes, and amounts given as strings, {@code "9999.99"}. Amounts with more
+ * decimals than their currency, or that do not fit, are rejected as invalid values rather than rounded.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-13
+ */
+public class MoneyDeserializer extends StdDeserializer<Money> {
+
+    public MoneyDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.START_OBJECT)) {
+            return readObject(parser, context);
+        }
+        return readAmount(parser, context, Money.DEFAULT_CURRENCY);
+    }
+
+    private Money readObject(JsonParser parser, DeserializationContext context) throws IOException {
+        Currency currency = Money.DEFAULT_CURRENCY;
+        String amount = null;
+        for (var field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            if (MoneySerializer.AMOUNT.equals(field)) {
+                amount = parser.getText();
+            } else if (MoneySerializer.CURRENCY.equals(field)) {
+                currency = currency(parser, context);
+            } else {
+                context.handleUnknownProperty(parser, this, Money.class, field);
+            }
+        }
+        if (amount == null) {
+            return context.reportInputMismatch(Money.class, "Amount is missing");
+        }
+        return parse(parser, amount, currency);
+    }
+
+    private Money readAmount(JsonParser parser, DeserializationContext context, Currency currency)
+            throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_FLOAT)
+                && parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL) {
+            // Decimals of binary formats, which have no text
+            try {
+                return Money.of(parser.getDecimalValue(), currency, RoundingMode.UNNECESSARY);
+            } catch (ArithmeticException e) {
+                throw invalid(parser, parser.getDecimalValue(), e);
+            }
+        }
+        if (parser.currentToken().isNumeric()) {
+            return parse(parser, parser.getText(), currency);
+        }
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            return parse(parser, parser.getText().trim(), currency);
+        }
+        return (Money) context.handleUnexpectedToken(Money.class, parser);
+    }
+
+    private static Money parse(JsonParser parser, String amount, Currency currency) throws InvalidFormatException {
+        try {
+            return Money.parse(amount, currency);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw invalid(parser, amount, e);
+        }
+    }
+
+    private static InvalidFormatException invalid(JsonParser parser, Object amount, RuntimeException cause) {
+        var exception = InvalidFormatException.from(parser, "Invalid amount " + amount + ": " + cause.getMessage(),
+                amount, Money.class);
+        exception.initCause(cause);
+        return exception;
+    }
+
+    private static Currency currency(JsonParser parser, DeserializationContext context) throws IOException {
+        var code = parser.getValueAsString();
+        try {
+            return Currency.getInstance(code);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw context.weirdStringException(code, Currency.class, "Unknown currency");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package code.with.vanilson.common.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * MoneySerializer
+ * <p>
+ * Writes an amount in {@link Money#DEFAULT_CURRENCY} as a plain number, {@code 9999.99}, and one in another currency
+ * as {@code {"amount": 9999.99, "currency": "USD"}}. Text formats get the digits straight from
+ * {@link Money#toPlainString()}; binary ones (CBOR, Smile) a {@link java.math.BigDecimal}, their decimal type.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-13
+ */
+public class MoneySerializer extends StdSerializer<Money> {
+
+    static final String AMOUNT = "amount";
+    static final String CURRENCY = "currency";
+
+    public MoneySerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money money, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (money.currency().equals(Money.DEFAULT_CURRENCY)) {
+            writeAmount(money, generator);
+            return;
+        }
+        generator.writeStartObject(money);
+        generator.writeFieldName(AMOUNT);
+        writeAmount(money, generator);
+        generator.writeStringField(CURRENCY, money.currency().getCurrencyCode());
+        generator.writeEndObject();
+    }
+
+    private static void writeAmount(Money money, JsonGenerator generator) throws IOException {
+        if (generator.canWriteFormattedNumbers()) {
+            generator.writeNumber(money.toPlainString());
+        } else {
+            generator.writeNumber(money.toBigDecimal());
+        }
+    }
+}
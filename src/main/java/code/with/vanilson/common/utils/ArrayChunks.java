@@ -0,0 +1,49 @@
+package code.with.vanilson.common.utils;
+
+import java.util.stream.IntStream;
+
+/**
+ * ArrayChunks
+ * <p>
+ * Runs a loop over a large array as fixed chunks on the common fork-join pool, and over a small one on the calling
+ * thread. Chunk boundaries depend only on the length, so per-chunk partial results combined in chunk order give the
+ * same answer on every machine.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-10
+ */
+final class ArrayChunks {
+
+    // Below this many elements a loop is cheaper on the calling thread than handed out
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    static final int CHUNK = 1 << 14;
+
+    private ArrayChunks() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @return how many chunks {@link #forEach} runs for {@code length} elements.
+     */
+    static int count(int length) {
+        return length < PARALLEL_THRESHOLD ? 1 : (length + CHUNK - 1) / CHUNK;
+    }
+
+    static void forEach(int length, Chunk chunk) {
+        int chunks = count(length);
+        if (chunks == 1) {
+            chunk.run(0, 0, length);
+            return;
+        }
+        IntStream.range(0, chunks)
+                .parallel()
+                .forEach(index -> chunk.run(index, index * CHUNK, Math.min(length, (index + 1) * CHUNK)));
+    }
+
+    @FunctionalInterface
+    interface Chunk {
+
+        void run(int index, int from, int to);
+    }
+}
@@ -0,0 +1,24 @@
+package code.with.vanilson.common.utils;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * ClockProperties
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-09
+ */
+@Data
+@ConfigurationProperties(prefix = "app.clock")
+public class ClockProperties {
+
+    // How often the time read by responses moves on, and so how far behind the system clock it may be
+    private Duration tick = Duration.ofMillis(10);
+    // Zone of error timestamps for clients that don't send a Time-Zone header, the JVM zone when unset
+    private ZoneId zone = ZoneId.systemDefault();
+}
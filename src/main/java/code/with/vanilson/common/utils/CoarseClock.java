@@ -0,0 +1,147 @@
+package code.with.vanilson.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CoarseClock
+ * <p>
+ * The current time read once per tick by a background thread, together with what responses print of it: the local
+ * date-time in the clock's zone, the HTTP {@code Date} header value and the ISO-8601 instant. Reading the time is a
+ * volatile read of the last tick, so it lags the system clock by up to one tick (more when the tick thread is kept
+ * off the CPU); use {@link System#currentTimeMillis()} where that matters.
+ * <p>
+ * Zones asked for by clients ({@code Time-Zone} header) are resolved by {@link #zone(String)}, falling back to the
+ * clock's own zone.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-09
+ */
+@Slf4j
+public final class CoarseClock implements AutoCloseable {
+
+    // IMF-fixdate, RFC 9110 section 5.6.7
+    static final DateTimeFormatter HTTP_DATE = DateTimeFormatter
+            .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+            .withZone(ZoneOffset.UTC);
+
+    // Zone ids come from request headers, past this many they are parsed on every request
+    static final int MAX_CACHED_ZONES = 64;
+
+    private final ZoneId zone;
+    private final ConcurrentMap<String, ZoneId> zones = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+    private volatile Tick tick;
+
+    public CoarseClock(Duration tick, ZoneId zone) {
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("Clock tick must be positive: " + tick);
+        }
+        this.zone = zone;
+        this.tick = Tick.at(System.currentTimeMillis(), zone, null);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "coarse-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long nanos = tick.toNanos();
+        ticker.scheduleAtFixedRate(this::update, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long millis() {
+        return tick.epochMillis();
+    }
+
+    public Instant instant() {
+        return tick.instant();
+    }
+
+    /**
+     * @return the current local date-time in {@code zone}; shared by every caller in the clock's own zone.
+     */
+    public LocalDateTime now(ZoneId zone) {
+        var current = tick;
+        return this.zone.equals(zone) ? current.localDateTime() : LocalDateTime.ofInstant(current.instant(), zone);
+    }
+
+    /**
+     * @return the current time as an HTTP {@code Date} header value, {@code Mon, 07 Oct 2024 18:30:05 GMT}.
+     */
+    public String httpDate() {
+        return tick.httpDate();
+    }
+
+    /**
+     * @return the current instant in ISO-8601, {@code 2024-10-07T18:30:05.123Z}.
+     */
+    public String isoInstant() {
+        return tick.isoInstant();
+    }
+
+    public ZoneId zone() {
+        return zone;
+    }
+
+    /**
+     * @return the zone of {@code zoneId}, or the clock's zone when the id is missing or unknown.
+     */
+    public ZoneId zone(String zoneId) {
+        if (zoneId == null || zoneId.isBlank()) {
+            return zone;
+        }
+        var resolved = zones.get(zoneId);
+        if (resolved != null) {
+            return resolved;
+        }
+        try {
+            resolved = ZoneId.of(zoneId.strip());
+        } catch (DateTimeException ex) {
+            log.debug("Unknown time zone {}, using {}", zoneId, zone);
+            return zone;
+        }
+        if (zones.size() < MAX_CACHED_ZONES) {
+            zones.putIfAbsent(zoneId, resolved);
+        }
+        return resolved;
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private void update() {
+        long now = System.currentTimeMillis();
+        var previous = tick;
+        if (now != previous.epochMillis()) {
+            tick = Tick.at(now, zone, previous);
+        }
+    }
+
+    private record Tick(long epochMillis, Instant instant, LocalDateTime localDateTime, String httpDate,
+                        String isoInstant) {
+
+        static Tick at(long epochMillis, ZoneId zone, Tick previous) {
+            var instant = Instant.ofEpochMilli(epochMillis);
+            // The header has whole seconds, render it once per second
+            var httpDate = previous != null && epochMillis / 1000 == previous.epochMillis() / 1000
+                    ? previous.httpDate() : HTTP_DATE.format(instant);
+            return new Tick(epochMillis, instant, LocalDateTime.ofInstant(instant, zone), httpDate,
+                    DateTimeFormatter.ISO_INSTANT.format(instant));
+        }
+    }
+}
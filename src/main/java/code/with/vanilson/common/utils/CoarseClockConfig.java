@@ -0,0 +1,22 @@
+package code.with.vanilson.common.utils;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CoarseClockConfig
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-09
+ */
+@Configuration
+@EnableConfigurationProperties(ClockProperties.class)
+public class CoarseClockConfig {
+
+    @Bean
+    public CoarseClock coarseClock(ClockProperties properties) {
+        return new CoarseClock(properties.getTick(), properties.getZone());
+    }
+}
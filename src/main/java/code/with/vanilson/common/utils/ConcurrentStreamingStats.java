@@ -0,0 +1,187 @@
+package code.with.vanilson.common.utils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ConcurrentStreamingStats
+ * <p>
+ * {@link StreamingStats} recorded from many threads. Each thread records into a cell of its own, with no lock and no
+ * atomic instruction; {@link #snapshot()} merges the cells. A cell is copied under a sequence number the writer bumps
+ * around each record, and a writer too busy for the copy to get through hands one over between two records.
+ * <p>
+ * Cells of threads that have ended are folded into the retired statistics on the next snapshot, or after
+ * {@value #RETIRE_EVERY} new cells, so pools that churn threads (or virtual threads) do not pile them up.
+ * Statistics from other nodes are added with {@link #merge(StreamingStats)}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-12
+ */
+public final class ConcurrentStreamingStats {
+
+    static final int RETIRE_EVERY = 256;
+
+    // Copies tried against a writer before asking it for one
+    private static final int OPTIMISTIC_READS = 4;
+
+    private final ThreadLocal<Cell> cells = ThreadLocal.withInitial(this::register);
+    private final Queue<Cell> live = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger registered = new AtomicInteger();
+    // Taken by readers only: snapshots, merges and retiring cells
+    private final ReentrantLock readers = new ReentrantLock();
+    private final StreamingStats retired = new StreamingStats();
+
+    /**
+     * Records a value on the calling thread's cell.
+     *
+     * @param value The value, a finite number.
+     */
+    public void record(double value) {
+        cells.get().record(value);
+    }
+
+    /**
+     * Adds statistics recorded elsewhere, such as {@link StreamingStats#fromBytes(byte[]) another node's}.
+     */
+    public void merge(StreamingStats other) {
+        readers.lock();
+        try {
+            retired.merge(other);
+        } finally {
+            readers.unlock();
+        }
+    }
+
+    /**
+     * @return the statistics of every value recorded before the call, and possibly some recorded during it.
+     */
+    public StreamingStats snapshot() {
+        readers.lock();
+        try {
+            retire();
+            var snapshot = retired.copy();
+            for (var cell : live) {
+                snapshot.merge(cell.read());
+            }
+            return snapshot;
+        } finally {
+            readers.unlock();
+        }
+    }
+
+    private Cell register() {
+        var cell = new Cell(Thread.currentThread());
+        live.add(cell);
+        if (registered.incrementAndGet() % RETIRE_EVERY == 0 && readers.tryLock()) {
+            try {
+                retire();
+            } finally {
+                readers.unlock();
+            }
+        }
+        return cell;
+    }
+
+    private void retire() {
+        for (var iterator = live.iterator(); iterator.hasNext(); ) {
+            var cell = iterator.next();
+            // A thread seen ended has made all its writes visible
+            if (!cell.owner.isAlive()) {
+                retired.merge(cell.stats);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * One thread's statistics. The writer makes {@code version} odd while it records and even again after, so a copy
+     * taken between two equal even versions is consistent. A reader that keeps missing raises {@code requested}, and
+     * the writer answers after its next record with a copy in {@code handoff}.
+     */
+    private static final class Cell {
+
+        private static final VarHandle VERSION;
+        private static final VarHandle REQUESTED;
+        private static final VarHandle HANDOFF;
+
+        static {
+            try {
+                var lookup = MethodHandles.lookup();
+                VERSION = lookup.findVarHandle(Cell.class, "version", long.class);
+                REQUESTED = lookup.findVarHandle(Cell.class, "requested", long.class);
+                HANDOFF = lookup.findVarHandle(Cell.class, "handoff", Handoff.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Thread owner;
+        private final StreamingStats stats = new StreamingStats();
+        private long version;
+        private long requested;
+        private long answered;
+        private Handoff handoff;
+
+        Cell(Thread owner) {
+            this.owner = owner;
+        }
+
+        void record(double value) {
+            long next = version + 1;
+            VERSION.setOpaque(this, next);
+            VarHandle.storeStoreFence();
+            try {
+                stats.record(value);
+            } finally {
+                VERSION.setRelease(this, next + 1);
+            }
+            long request = (long) REQUESTED.getOpaque(this);
+            if (request != answered) {
+                answered = request;
+                HANDOFF.setRelease(this, new Handoff(request, stats.copy()));
+            }
+        }
+
+        StreamingStats read() {
+            for (int attempt = 0; attempt < OPTIMISTIC_READS; attempt++) {
+                var copy = tryCopy();
+                if (copy != null) {
+                    return copy;
+                }
+                Thread.onSpinWait();
+            }
+            // Only one reader at a time gets here, under the lock of the statistics
+            long request = requested + 1;
+            REQUESTED.setVolatile(this, request);
+            while (true) {
+                var answer = (Handoff) HANDOFF.getAcquire(this);
+                if (answer != null && answer.request == request) {
+                    return answer.stats;
+                }
+                var copy = tryCopy();
+                if (copy != null) {
+                    return copy;
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+        private StreamingStats tryCopy() {
+            long before = (long) VERSION.getAcquire(this);
+            if ((before & 1) != 0) {
+                return null;
+            }
+            var copy = stats.copy();
+            VarHandle.loadLoadFence();
+            return (long) VERSION.getOpaque(this) == before ? copy : null;
+        }
+    }
+
+    private record Handoff(long request, StreamingStats stats) {
+    }
+}
@@ -1,15 +1,40 @@
 package code.with.vanilson.common.utils;
 
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.text.ParsePosition;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
 import java.util.Date;
 import java.util.Calendar;
+import java.util.Locale;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * DateUtils
+ * <p>
+ * Formatting and parsing go through {@link DateTimeFormatter}s compiled once per pattern, zone and locale and kept
+ * in a bounded cache, so they are thread-safe and cost no pattern parsing per call. Patterns are
+ * {@link DateTimeFormatter} patterns, which agree with {@link java.text.SimpleDateFormat} on the usual letters
+ * ({@code yyyy MM dd HH mm ss SSS EEEE a Z X}); {@code yyyy} and {@code MM} want their full width when parsing.
+ * <p>
+ * The layouts bulk files and logs use, {@code yyyy-MM-dd}, {@code yyyy-MM-dd HH:mm:ss} and
+ * {@code yyyy-MM-dd'T'HH:mm:ss}, are formatted and parsed by plain arithmetic on epoch values and characters. Text
+ * the arithmetic does not vouch for (February 30th, {@code 24:00:00}, years past 9999, ...) goes to the formatter,
+ * so both paths give the same answers.
+ * <p>
+ * For reports over many dates, {@code addDays}, {@code getStartOfDay}, {@code isWeekend} and
+ * {@code getDifferenceInDays} have batch forms over {@code long[]} epoch milliseconds and {@code int[]} epoch days
+ * (days since 1970-01-01). They give the answers of the {@link Date} methods in the given zone, with arithmetic on
+ * the values and the zone offset of each stretch between two transitions looked up once; they create no objects
+ * per element, and split arrays of {@value #PARALLEL_THRESHOLD} elements or more across the common fork-join pool.
+ * The loops over epoch days that need no zone run on the {@link IntKernel}, vectorized when the JVM allows it.
+ * The result array may be the input array.
  *
  * @author vamuhong
  * @version 1.0
@@ -23,10 +48,21 @@ public class DateUtils {
     private static final String DATE_TIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
     private static final String TIME_FORMAT = "HH:mm:ss";
 
-    // Default date formats
-    private static final DateTimeFormatter DEFAULT_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+    public static final String ISO_DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
+
+    // Patterns come from callers, past this many formatters are built for the call and not kept
+    static final int MAX_CACHED_FORMATTERS = 256;
+    private static final ConcurrentMap<FormatterKey, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, ZoneId> ZONES = new ConcurrentHashMap<>();
+
+    static final int PARALLEL_THRESHOLD = ArrayChunks.PARALLEL_THRESHOLD;
+
+    private static final IntKernel KERNEL = IntKernel.select();
+
+    private static final long NOT_HANDLED = Long.MIN_VALUE;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final long DAYS_PER_CYCLE = 146_097L;
+    private static final long DAYS_0000_TO_1970 = DAYS_PER_CYCLE * 5L - (30L * 365L + 7L);
 
     // Gets the current date
     public static Date getCurrentDate() {
@@ -43,8 +79,7 @@ public class DateUtils {
         if (date == null) {
             return null;
         }
-        SimpleDateFormat sdf = new SimpleDateFormat(format);
-        return sdf.format(date);
+        return format(date.getTime(), format, ZoneId.systemDefault());
     }
 
     // Parses a date from a string with default format
@@ -52,10 +87,9 @@ public class DateUtils {
         return parseDate(dateStr, DEFAULT_DATE_FORMAT);
     }
 
-    // Parses a date from a string with a specified format
+    // Parses a date from a string with a specified format, text after the date is ignored
     public static Date parseDate(String dateStr, String format) throws ParseException {
-        SimpleDateFormat sdf = new SimpleDateFormat(format);
-        return sdf.parse(dateStr);
+        return parseLeading(dateStr, format, ZoneId.systemDefault());
     }
 
     // Adds days to a date
@@ -128,16 +162,12 @@ public class DateUtils {
         if (date == null) {
             return null;
         }
-        SimpleDateFormat sdf = new SimpleDateFormat(format);
-        sdf.setTimeZone(TimeZone.getTimeZone(timeZoneId));
-        return sdf.format(date);
+        return format(date.getTime(), format, zone(timeZoneId));
     }
 
-    // Parses a date from a string with a specific timezone
+    // Parses a date from a string with a specific timezone, text after the date is ignored
     public static Date parseDateWithTimeZone(String dateStr, String format, String timeZoneId) throws ParseException {
-        SimpleDateFormat sdf = new SimpleDateFormat(format);
-        sdf.setTimeZone(TimeZone.getTimeZone(timeZoneId));
-        return sdf.parse(dateStr);
+        return parseLeading(dateStr, format, zone(timeZoneId));
     }
 
     // Checks if a date is in the past
@@ -191,8 +221,7 @@ public class DateUtils {
 
     // Gets the day of the week as a string
     public static String getDayOfWeek(Date date) {
-        SimpleDateFormat sdf = new SimpleDateFormat("EEEE");
-        return sdf.format(date);
+        return format(date.getTime(), "EEEE", ZoneId.systemDefault());
     }
 
     // Gets the current date-time in a specific format
@@ -220,8 +249,365 @@ public class DateUtils {
 
     // Gets the current time in a specific format
     public static String getCurrentTime(String format) {
-        SimpleDateFormat sdf = new SimpleDateFormat(format);
-        return sdf.format(new Date());
+        return format(System.currentTimeMillis(), format, ZoneId.systemDefault());
+    }
+
+    /**
+     * Batch {@link #addDays(Date, int)} in {@code zone}.
+     */
+    public static void addDays(long[] epochMillis, int days, ZoneId zone, long[] result) {
+        checkResult(epochMillis.length, result.length);
+        ArrayChunks.forEach(epochMillis.length, (chunk, from, to) -> {
+            var offsets = new ZoneOffsetCache(zone);
+            for (int i = from; i < to; i++) {
+                result[i] = offsets.plusDays(epochMillis[i], days);
+            }
+        });
+    }
+
+    /**
+     * Batch {@link #getStartOfDay(Date)} in {@code zone}.
+     */
+    public static void getStartOfDay(long[] epochMillis, ZoneId zone, long[] result) {
+        checkResult(epochMillis.length, result.length);
+        ArrayChunks.forEach(epochMillis.length, (chunk, from, to) -> {
+            var offsets = new ZoneOffsetCache(zone);
+            for (int i = from; i < to; i++) {
+                result[i] = offsets.toEpochMillis(offsets.epochDay(epochMillis[i]) * ZoneOffsetCache.MILLIS_PER_DAY);
+            }
+        });
+    }
+
+    /**
+     * Batch {@link #isWeekend(Date)} in {@code zone}.
+     */
+    public static void isWeekend(long[] epochMillis, ZoneId zone, boolean[] result) {
+        checkResult(epochMillis.length, result.length);
+        ArrayChunks.forEach(epochMillis.length, (chunk, from, to) -> {
+            var offsets = new ZoneOffsetCache(zone);
+            for (int i = from; i < to; i++) {
+                result[i] = ScalarIntKernel.isWeekend(offsets.epochDay(epochMillis[i]));
+            }
+        });
+    }
+
+    /**
+     * Batch {@link #getDifferenceInDays(Date, Date)}: whole periods of 24 hours from each start to its end.
+     */
+    public static void getDifferenceInDays(long[] startMillis, long[] endMillis, long[] result) {
+        checkResult(startMillis.length, endMillis.length);
+        checkResult(startMillis.length, result.length);
+        ArrayChunks.forEach(startMillis.length, (chunk, from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = (endMillis[i] - startMillis[i]) / ZoneOffsetCache.MILLIS_PER_DAY;
+            }
+        });
+    }
+
+    /**
+     * @param result the local day of each instant in {@code zone}, in days since 1970-01-01.
+     * @throws ArithmeticException for instants whose day does not fit an {@code int}.
+     */
+    public static void toEpochDays(long[] epochMillis, ZoneId zone, int[] result) {
+        checkResult(epochMillis.length, result.length);
+        ArrayChunks.forEach(epochMillis.length, (chunk, from, to) -> {
+            var offsets = new ZoneOffsetCache(zone);
+            for (int i = from; i < to; i++) {
+                result[i] = Math.toIntExact(offsets.epochDay(epochMillis[i]));
+            }
+        });
+    }
+
+    public static void addDays(int[] epochDays, int days, int[] result) {
+        checkResult(epochDays.length, result.length);
+        ArrayChunks.forEach(epochDays.length, (chunk, from, to) -> KERNEL.add(epochDays, from, to, days, result));
+    }
+
+    /**
+     * @param result the instant each day starts at in {@code zone}, in epoch milliseconds.
+     */
+    public static void getStartOfDay(int[] epochDays, ZoneId zone, long[] result) {
+        checkResult(epochDays.length, result.length);
+        ArrayChunks.forEach(epochDays.length, (chunk, from, to) -> {
+            var offsets = new ZoneOffsetCache(zone);
+            for (int i = from; i < to; i++) {
+                result[i] = offsets.toEpochMillis(epochDays[i] * ZoneOffsetCache.MILLIS_PER_DAY);
+            }
+        });
+    }
+
+    public static void isWeekend(int[] epochDays, boolean[] result) {
+        checkResult(epochDays.length, result.length);
+        ArrayChunks.forEach(epochDays.length, (chunk, from, to) -> KERNEL.isWeekend(epochDays, from, to, result));
+    }
+
+    public static void getDifferenceInDays(int[] startDays, int[] endDays, long[] result) {
+        checkResult(startDays.length, endDays.length);
+        checkResult(startDays.length, result.length);
+        ArrayChunks.forEach(startDays.length,
+                (chunk, from, to) -> KERNEL.difference(startDays, endDays, from, to, result));
+    }
+
+    private static void checkResult(int length, int resultLength) {
+        if (resultLength < length) {
+            throw new IllegalArgumentException("Array of " + resultLength + " elements for " + length + " dates");
+        }
+    }
+
+    /**
+     * @return {@code epochMillis} written with {@code pattern} in {@code zone}.
+     */
+    public static String format(long epochMillis, String pattern, ZoneId zone) {
+        var layout = Layout.of(pattern);
+        if (layout != null) {
+            var text = layout.format(epochMillis, zone);
+            if (text != null) {
+                return text;
+            }
+        }
+        return formatter(pattern, zone).format(Instant.ofEpochMilli(epochMillis));
+    }
+
+    /**
+     * Parses the whole of {@code text}. Fields the pattern lacks default to 1970-01-01 and midnight, an offset or
+     * zone in the text wins over {@code zone}.
+     *
+     * @return the instant in epoch milliseconds.
+     * @throws DateTimeParseException when the text does not match the pattern.
+     */
+    public static long parseEpochMillis(CharSequence text, String pattern, ZoneId zone) {
+        var layout = Layout.of(pattern);
+        if (layout != null) {
+            long epochMillis = layout.parse(text, zone);
+            if (epochMillis != NOT_HANDLED) {
+                return epochMillis;
+            }
+        }
+        return toEpochMillis(formatter(pattern, zone).parse(text));
+    }
+
+    /**
+     * @return the formatter of {@code pattern} in the default locale, formatting instants in {@code zone}; built
+     * once and shared, {@link DateTimeFormatter} being immutable.
+     */
+    public static DateTimeFormatter formatter(String pattern, ZoneId zone) {
+        var key = new FormatterKey(pattern, zone, Locale.getDefault(Locale.Category.FORMAT));
+        var formatter = FORMATTERS.get(key);
+        if (formatter == null) {
+            formatter = DateTimeFormatter.ofPattern(pattern, key.locale()).withZone(zone);
+            if (FORMATTERS.size() < MAX_CACHED_FORMATTERS) {
+                FORMATTERS.putIfAbsent(key, formatter);
+            }
+        }
+        return formatter;
+    }
+
+    // Same leniency as SimpleDateFormat on what follows the date, and the same checked exception
+    private static Date parseLeading(String text, String pattern, ZoneId zone) throws ParseException {
+        var layout = Layout.of(pattern);
+        if (layout != null) {
+            long epochMillis = layout.parse(text, zone);
+            if (epochMillis != NOT_HANDLED) {
+                return new Date(epochMillis);
+            }
+        }
+        try {
+            return new Date(toEpochMillis(formatter(pattern, zone).parse(text, new ParsePosition(0))));
+        } catch (DateTimeParseException ex) {
+            var parseException = new ParseException(ex.getMessage(), ex.getErrorIndex());
+            parseException.initCause(ex);
+            throw parseException;
+        }
+    }
+
+    private static long toEpochMillis(TemporalAccessor parsed) {
+        if (parsed.isSupported(ChronoField.INSTANT_SECONDS)) {
+            return Instant.from(parsed).toEpochMilli();
+        }
+        var date = parsed.query(TemporalQueries.localDate());
+        var time = parsed.query(TemporalQueries.localTime());
+        return LocalDateTime.of(date != null ? date : LocalDate.EPOCH, time != null ? time : LocalTime.MIDNIGHT)
+                .atZone(parsed.query(TemporalQueries.zone()))
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    // TimeZone semantics: unknown ids are GMT
+    private static ZoneId zone(String timeZoneId) {
+        var zone = ZONES.get(timeZoneId);
+        if (zone == null) {
+            zone = TimeZone.getTimeZone(timeZoneId).toZoneId();
+            if (ZONES.size() < MAX_CACHED_FORMATTERS) {
+                ZONES.putIfAbsent(timeZoneId, zone);
+            }
+        }
+        return zone;
+    }
+
+    private static int offsetSeconds(ZoneId zone, long epochSecond) {
+        if (zone instanceof ZoneOffset offset) {
+            return offset.getTotalSeconds();
+        }
+        return zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    // Local date-time to instant with the gap and overlap rules of LocalDateTime#atZone
+    private static long toEpochSecond(long localSecond, ZoneId zone) {
+        if (zone instanceof ZoneOffset offset) {
+            return localSecond - offset.getTotalSeconds();
+        }
+        var rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            return localSecond - rules.getOffset(Instant.EPOCH).getTotalSeconds();
+        }
+        return LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC).atZone(zone).toEpochSecond();
+    }
+
+    // Proleptic ISO day count, as LocalDate#toEpochDay
+    static long toEpochDay(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y + (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        total += (367L * month - 362) / 12 + day - 1;
+        if (month > 2) {
+            total -= isLeapYear(year) ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * The fixed layouts, written and read a character at a time.
+     */
+    private enum Layout {
+        DATE(10, '\0'),
+        DATE_TIME(19, ' '),
+        ISO_DATE_TIME(19, 'T');
+
+        private final int length;
+        private final char separator;
+
+        Layout(int length, char separator) {
+            this.length = length;
+            this.separator = separator;
+        }
+
+        static Layout of(String pattern) {
+            return switch (pattern) {
+                case DEFAULT_DATE_FORMAT -> DATE;
+                case DATE_TIME_FORMAT -> DATE_TIME;
+                case ISO_DATE_TIME_FORMAT -> ISO_DATE_TIME;
+                default -> null;
+            };
+        }
+
+        /**
+         * @return the text, or null for years the pattern writes differently (before 1 or after 9999).
+         */
+        String format(long epochMillis, ZoneId zone) {
+            long epochSecond = Math.floorDiv(epochMillis, 1000L);
+            long localSecond = epochSecond + offsetSeconds(zone, epochSecond);
+            long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+            int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+
+            // Civil date from the day count, as LocalDate#ofEpochDay
+            long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+            if (zeroDay < 0) {
+                return null;
+            }
+            long year = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+            long dayOfYear = zeroDay - (365 * year + year / 4 - year / 100 + year / 400);
+            if (dayOfYear < 0) {
+                year--;
+                dayOfYear = zeroDay - (365 * year + year / 4 - year / 100 + year / 400);
+            }
+            int marchMonth = (int) (dayOfYear * 5 + 2) / 153;
+            int month = (marchMonth + 2) % 12 + 1;
+            int day = (int) dayOfYear - (marchMonth * 306 + 5) / 10 + 1;
+            year += marchMonth / 10;
+            if (year < 1 || year > 9999) {
+                return null;
+            }
+
+            var text = new char[length];
+            writeDigits(text, 0, (int) year, 4);
+            text[4] = '-';
+            writeDigits(text, 5, month, 2);
+            text[7] = '-';
+            writeDigits(text, 8, day, 2);
+            if (this != DATE) {
+                text[10] = separator;
+                writeDigits(text, 11, secondOfDay / 3600, 2);
+                text[13] = ':';
+                writeDigits(text, 14, secondOfDay / 60 % 60, 2);
+                text[16] = ':';
+                writeDigits(text, 17, secondOfDay % 60, 2);
+            }
+            return new String(text);
+        }
+
+        /**
+         * @return epoch milliseconds, or {@link #NOT_HANDLED} when the formatter should have the final word.
+         */
+        long parse(CharSequence text, ZoneId zone) {
+            if (text == null || text.length() != length || text.charAt(4) != '-' || text.charAt(7) != '-') {
+                return NOT_HANDLED;
+            }
+            int year = readDigits(text, 0, 4);
+            int month = readDigits(text, 5, 2);
+            int day = readDigits(text, 8, 2);
+            if (year < 1 || month < 1 || month > 12 || day < 1 || day > 28 && day > lengthOfMonth(year, month)) {
+                return NOT_HANDLED;
+            }
+            int secondOfDay = 0;
+            if (this != DATE) {
+                if (text.charAt(10) != separator || text.charAt(13) != ':' || text.charAt(16) != ':') {
+                    return NOT_HANDLED;
+                }
+                int hour = readDigits(text, 11, 2);
+                int minute = readDigits(text, 14, 2);
+                int second = readDigits(text, 17, 2);
+                if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+                    return NOT_HANDLED;
+                }
+                secondOfDay = hour * 3600 + minute * 60 + second;
+            }
+            long localSecond = toEpochDay(year, month, day) * SECONDS_PER_DAY + secondOfDay;
+            return toEpochSecond(localSecond, zone) * 1000L;
+        }
+
+        private static void writeDigits(char[] text, int offset, int value, int width) {
+            for (int i = offset + width - 1; i >= offset; i--) {
+                text[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+
+        // -1 unless every character is an ASCII digit
+        private static int readDigits(CharSequence text, int offset, int width) {
+            int value = 0;
+            for (int i = offset; i < offset + width; i++) {
+                int digit = text.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+    }
+
+    private record FormatterKey(String pattern, ZoneId zone, Locale locale) {
     }
 
     private DateUtils() {
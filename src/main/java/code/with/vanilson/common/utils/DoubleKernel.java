@@ -0,0 +1,72 @@
+package code.with.vanilson.common.utils;
+
+/**
+ * DoubleKernel
+ * <p>
+ * The inner loops of the {@link NumbersUtil} array statistics and conversions, each over {@code values[from, to)}.
+ * {@link ScalarDoubleKernel} runs everywhere; {@link VectorDoubleKernel} does the same arithmetic in the same order
+ * on vectors, so both give the same value for every input. {@link #select()} takes the vector one only when the JVM
+ * was started with {@code --add-modules jdk.incubator.vector} and the CPU has 256-bit vectors or wider.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-11
+ */
+interface DoubleKernel {
+
+    /**
+     * Lanes the sums are spread over, two 256-bit vectors of doubles.
+     */
+    int LANES = 8;
+
+    String VECTOR_MODULE = "jdk.incubator.vector";
+
+    static DoubleKernel select() {
+        var scalar = new ScalarDoubleKernel();
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return scalar;
+        }
+        try {
+            // By name, so that nothing links against the incubating module when it is not there
+            var vector = (DoubleKernel) Class.forName("code.with.vanilson.common.utils.VectorDoubleKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+            return vector.accelerated() ? vector : scalar;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return scalar;
+        }
+    }
+
+    /**
+     * @return whether the loops run on vector instructions of this CPU.
+     */
+    boolean accelerated();
+
+    /**
+     * Neumaier sums of {@code values[from, to)} spread over the lanes, element {@code i} going to lane
+     * {@code (i - from) % LANES} and the elements past the last full round to lane 0: the sums are written to
+     * {@code lanes[0, LANES)}, the compensations to {@code lanes[LANES, 2 * LANES)}.
+     */
+    void sum(double[] values, int from, int to, double[] lanes);
+
+    /**
+     * @return the greatest (smallest) of {@code best} and {@code values[from, to)}, skipping {@code NaN}: the
+     * earliest of equal values, {@code best} coming first, which tells {@code -0.0} and {@code 0.0} apart.
+     */
+    double extremum(double[] values, int from, int to, double best, boolean findMax);
+
+    /**
+     * {@code result[i] = values[i] * factor}.
+     */
+    void multiply(double[] values, int from, int to, double factor, double[] result);
+
+    /**
+     * {@code result[i] = values[i] / divisor}.
+     */
+    void divide(double[] values, int from, int to, double divisor, double[] result);
+
+    /**
+     * {@code result[i] = (values[i] / total) * 100}.
+     */
+    void percentage(double[] values, int from, int to, double total, double[] result);
+}
@@ -0,0 +1,51 @@
+package code.with.vanilson.common.utils;
+
+/**
+ * IntKernel
+ * <p>
+ * The inner loops of the {@link DateUtils} batch methods over {@code int[]} epoch days, each over
+ * {@code epochDays[from, to)}. {@link ScalarIntKernel} runs everywhere; {@link VectorIntKernel} gives the same result
+ * for every input. {@link #select()} picks between them as {@link DoubleKernel#select()} does.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-21
+ */
+interface IntKernel {
+
+    static IntKernel select() {
+        var scalar = new ScalarIntKernel();
+        if (ModuleLayer.boot().findModule(DoubleKernel.VECTOR_MODULE).isEmpty()) {
+            return scalar;
+        }
+        try {
+            // By name, so that nothing links against the incubating module when it is not there
+            var vector = (IntKernel) Class.forName("code.with.vanilson.common.utils.VectorIntKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+            return vector.accelerated() ? vector : scalar;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return scalar;
+        }
+    }
+
+    /**
+     * @return whether the loops run on vector instructions of this CPU.
+     */
+    boolean accelerated();
+
+    /**
+     * {@code result[i] = epochDays[i] + days}, wrapping on overflow as {@code int} addition does.
+     */
+    void add(int[] epochDays, int from, int to, int days, int[] result);
+
+    /**
+     * {@code result[i]} whether {@code epochDays[i]} is a Saturday or a Sunday.
+     */
+    void isWeekend(int[] epochDays, int from, int to, boolean[] result);
+
+    /**
+     * {@code result[i] = (long) endDays[i] - startDays[i]}.
+     */
+    void difference(int[] startDays, int[] endDays, int from, int to, long[] result);
+}
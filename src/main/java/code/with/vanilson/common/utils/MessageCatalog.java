@@ -0,0 +1,198 @@
+package code.with.vanilson.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * MessageCatalog
+ * <p>
+ * The application messages ({@code messages.properties} and its {@code messages_<locale>.properties} translations),
+ * with every template parsed once per locale and kept, so formatting a message costs a map lookup and a copy of
+ * its text. Locales are loaded the first time they are asked for; a locale without its own file reads the base one.
+ * <p>
+ * Templates use {@link java.text.MessageFormat} syntax ({@code {0}}, {@code ''} for a quote). As with Spring's
+ * message sources, a message asked for without arguments is returned as written.
+ * <p>
+ * There is one catalog per application: {@link MessageProvider} reads it statically and it is the Spring
+ * {@code messageSource}, behind {@link MessageUtils} and {@code ApplicationContext#getMessage}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-06
+ */
+@Slf4j
+public final class MessageCatalog implements MessageSource {
+
+    public static final String BASENAME = "messages";
+
+    // Locales come from request headers, past this many they are served without being kept
+    static final int MAX_CACHED_LOCALES = 64;
+
+    private static final MessageCatalog SHARED = new MessageCatalog(BASENAME, MessageCatalog.class.getClassLoader());
+
+    private final String basename;
+    private final ClassLoader classLoader;
+    private final ConcurrentMap<Locale, Bundle> bundles = new ConcurrentHashMap<>();
+
+    public MessageCatalog(String basename, ClassLoader classLoader) {
+        this.basename = basename;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @return the catalog of {@code messages.properties}, shared by the static and the Spring lookups.
+     */
+    public static MessageCatalog shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return the message as written in the properties file, or null when the key is unknown.
+     */
+    public String template(String key, Locale locale) {
+        var template = bundle(locale).template(key);
+        return template != null ? template.pattern() : null;
+    }
+
+    /**
+     * @return the message with its arguments filled in, the template as written when there are none, or null when
+     * the key is unknown.
+     */
+    public String format(String key, Locale locale, Object... args) {
+        var template = bundle(locale).template(key);
+        if (template == null) {
+            return null;
+        }
+        return args == null || args.length == 0 ? template.pattern() : template.format(resolveArgs(args, locale));
+    }
+
+    @Override
+    public String getMessage(String code, Object[] args, String defaultMessage, Locale locale) {
+        var message = code != null ? format(code, orDefault(locale), args) : null;
+        if (message == null && defaultMessage != null) {
+            return render(defaultMessage, orDefault(locale), args);
+        }
+        return message;
+    }
+
+    @Override
+    public String getMessage(String code, Object[] args, Locale locale) throws NoSuchMessageException {
+        var message = format(code, orDefault(locale), args);
+        if (message == null) {
+            throw new NoSuchMessageException(code, orDefault(locale));
+        }
+        return message;
+    }
+
+    @Override
+    public String getMessage(MessageSourceResolvable resolvable, Locale locale) throws NoSuchMessageException {
+        var codes = resolvable.getCodes();
+        if (codes != null) {
+            for (var code : codes) {
+                var message = format(code, orDefault(locale), resolvable.getArguments());
+                if (message != null) {
+                    return message;
+                }
+            }
+        }
+        if (resolvable.getDefaultMessage() != null) {
+            return render(resolvable.getDefaultMessage(), orDefault(locale), resolvable.getArguments());
+        }
+        throw new NoSuchMessageException(codes != null && codes.length > 0 ? codes[codes.length - 1] : "",
+                orDefault(locale));
+    }
+
+    private Bundle bundle(Locale requested) {
+        var locale = orDefault(requested);
+        var bundle = bundles.get(locale);
+        if (bundle != null) {
+            return bundle;
+        }
+        bundle = new Bundle(locale, load(locale));
+        if (bundles.size() < MAX_CACHED_LOCALES) {
+            var raced = bundles.putIfAbsent(locale, bundle);
+            return raced != null ? raced : bundle;
+        }
+        return bundle;
+    }
+
+    private ResourceBundle load(Locale locale) {
+        try {
+            // No fallback to the JVM locale: a locale without its own file reads the base file, wherever we run
+            return ResourceBundle.getBundle(basename, locale, classLoader,
+                    ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES));
+        } catch (MissingResourceException ex) {
+            log.error("Messages file not found: {}.properties", basename);
+            return null;
+        }
+    }
+
+    private Object[] resolveArgs(Object[] args, Locale locale) {
+        Object[] resolved = args;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof MessageSourceResolvable resolvable) {
+                if (resolved == args) {
+                    resolved = args.clone();
+                }
+                resolved[i] = getMessage(resolvable, locale);
+            }
+        }
+        return resolved;
+    }
+
+    private String render(String defaultMessage, Locale locale, Object[] args) {
+        if (args == null || args.length == 0) {
+            return defaultMessage;
+        }
+        return MessageTemplate.compile(defaultMessage, locale).format(resolveArgs(args, locale));
+    }
+
+    private static Locale orDefault(Locale locale) {
+        return locale != null ? locale : Locale.getDefault();
+    }
+
+    /**
+     * The templates of one locale, compiled the first time each key is used.
+     */
+    private static final class Bundle {
+
+        private final Locale locale;
+        private final ResourceBundle messages;
+        private final ConcurrentMap<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+
+        Bundle(Locale locale, ResourceBundle messages) {
+            this.locale = locale;
+            this.messages = messages;
+        }
+
+        MessageTemplate template(String key) {
+            var template = templates.get(key);
+            if (template == null) {
+                if (messages == null || !messages.containsKey(key)) {
+                    return null;
+                }
+                template = templates.computeIfAbsent(key, this::compile);
+            }
+            return template;
+        }
+
+        private MessageTemplate compile(String key) {
+            var pattern = messages.getString(key);
+            try {
+                return MessageTemplate.compile(pattern, locale);
+            } catch (IllegalArgumentException ex) {
+                // Reported once, then served as written
+                log.error("Invalid message {} for locale {}: {}", key, locale, pattern, ex);
+                return MessageTemplate.literal(pattern);
+            }
+        }
+    }
+}
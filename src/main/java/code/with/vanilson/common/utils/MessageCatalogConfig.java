@@ -0,0 +1,24 @@
+package code.with.vanilson.common.utils;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.AbstractApplicationContext;
+
+/**
+ * MessageCatalogConfig
+ * <p>
+ * Makes the shared {@link MessageCatalog} the {@code messageSource} of the context, in place of the one Spring Boot
+ * would build from {@code spring.messages.*}, so static and Spring lookups share one set of compiled templates.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-06
+ */
+@Configuration
+public class MessageCatalogConfig {
+
+    @Bean(name = AbstractApplicationContext.MESSAGE_SOURCE_BEAN_NAME)
+    public MessageCatalog messageSource() {
+        return MessageCatalog.shared();
+    }
+}
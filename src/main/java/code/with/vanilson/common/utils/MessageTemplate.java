@@ -0,0 +1,182 @@
+package code.with.vanilson.common.utils;
+
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * MessageTemplate
+ * <p>
+ * A {@link MessageFormat} pattern parsed once for one locale. Patterns made only of text and plain {@code {n}}
+ * arguments, which is every message we have, are kept as literal segments and argument slots, so formatting is a
+ * walk over an array; whole numbers are written with the grouping of the locale without creating a
+ * {@link NumberFormat}. Patterns with typed arguments ({@code {0,number,#}}, choices, ...) keep a parsed
+ * {@link MessageFormat} that is cloned for each call, that class not being thread-safe.
+ * <p>
+ * The output is the one {@link MessageFormat#format(Object)} gives for the same pattern, locale and arguments.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-06
+ */
+final class MessageTemplate {
+
+    private final String pattern;
+    private final Locale locale;
+    private final String[] literals;
+    private final int[] arguments;
+    private final MessageFormat typed;
+    private volatile Grouping grouping;
+
+    private MessageTemplate(String pattern, Locale locale, String[] literals, int[] arguments, MessageFormat typed) {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.literals = literals;
+        this.arguments = arguments;
+        this.typed = typed;
+    }
+
+    /**
+     * @throws IllegalArgumentException when the pattern is not a valid {@link MessageFormat} pattern.
+     */
+    static MessageTemplate compile(String pattern, Locale locale) {
+        var format = new MessageFormat(pattern, locale);
+        for (var subformat : format.getFormats()) {
+            if (subformat != null) {
+                return new MessageTemplate(pattern, locale, null, null, format);
+            }
+        }
+        return split(pattern, locale);
+    }
+
+    /**
+     * @return a template that formats to the pattern as written, whatever the arguments.
+     */
+    static MessageTemplate literal(String pattern) {
+        return new MessageTemplate(pattern, Locale.ROOT, new String[]{pattern}, new int[0], null);
+    }
+
+    String pattern() {
+        return pattern;
+    }
+
+    String format(Object... args) {
+        if (typed != null) {
+            return ((MessageFormat) typed.clone()).format(args);
+        }
+        if (arguments.length == 0) {
+            return literals[0];
+        }
+        var out = new StringBuilder(pattern.length() + 16 * arguments.length);
+        out.append(literals[0]);
+        for (int i = 0; i < arguments.length; i++) {
+            appendArgument(out, arguments[i], args);
+            out.append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+
+    private void appendArgument(StringBuilder out, int index, Object[] args) {
+        if (args == null || index >= args.length) {
+            out.append('{').append(index).append('}');
+            return;
+        }
+        var arg = args[index];
+        if (arg == null) {
+            out.append("null");
+        } else if (arg instanceof String text) {
+            out.append(text);
+        } else if (arg instanceof Long || arg instanceof Integer || arg instanceof Short || arg instanceof Byte) {
+            appendWholeNumber(out, ((Number) arg).longValue());
+        } else if (arg instanceof Number) {
+            out.append(NumberFormat.getInstance(locale).format(arg));
+        } else if (arg instanceof Date) {
+            out.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(arg));
+        } else {
+            out.append(arg);
+        }
+    }
+
+    private void appendWholeNumber(StringBuilder out, long value) {
+        var style = grouping;
+        if (style == null) {
+            style = Grouping.of(locale);
+            grouping = style;
+        }
+        if (style == Grouping.UNSUPPORTED || value == Long.MIN_VALUE) {
+            out.append(NumberFormat.getInstance(locale).format(value));
+            return;
+        }
+        if (value < 0) {
+            out.append(style.minus());
+            value = -value;
+        }
+        var digits = Long.toString(value);
+        int length = digits.length();
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && style.size() > 0 && (length - i) % style.size() == 0) {
+                out.append(style.separator());
+            }
+            out.append((char) (digits.charAt(i) - '0' + style.zero()));
+        }
+    }
+
+    /**
+     * Cuts a pattern without typed arguments at its {@code {n}} placeholders, unquoting the text between them the
+     * way {@link MessageFormat} does: {@code ''} is a quote, anything between single quotes is literal.
+     */
+    private static MessageTemplate split(String pattern, Locale locale) {
+        var literals = new ArrayList<String>();
+        var arguments = new ArrayList<Integer>();
+        var text = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    text.append('\'');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == '{' && !quoted) {
+                int end = pattern.indexOf('}', i);
+                literals.add(text.toString());
+                text.setLength(0);
+                arguments.add(Integer.parseInt(pattern.substring(i + 1, end)));
+                i = end;
+            } else {
+                text.append(c);
+            }
+        }
+        literals.add(text.toString());
+        return new MessageTemplate(pattern, locale, literals.toArray(String[]::new),
+                arguments.stream().mapToInt(Integer::intValue).toArray(), null);
+    }
+
+    /**
+     * How the locale writes whole numbers, when it does so with plain prefixes and a single grouping size.
+     */
+    private record Grouping(int size, char separator, char zero, char minus) {
+
+        static final Grouping UNSUPPORTED = new Grouping(0, ',', '0', '-');
+
+        static Grouping of(Locale locale) {
+            if (!(NumberFormat.getInstance(locale) instanceof DecimalFormat format)) {
+                return UNSUPPORTED;
+            }
+            var symbols = format.getDecimalFormatSymbols();
+            var minus = String.valueOf(symbols.getMinusSign());
+            if (!format.getPositivePrefix().isEmpty() || !format.getPositiveSuffix().isEmpty()
+                    || !format.getNegativePrefix().equals(minus) || !format.getNegativeSuffix().isEmpty()) {
+                return UNSUPPORTED;
+            }
+            int size = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+            return new Grouping(size, symbols.getGroupingSeparator(), symbols.getZeroDigit(), symbols.getMinusSign());
+        }
+    }
+}
@@ -7,6 +7,8 @@ import java.util.Locale;
 
 /**
  * MessageUtils
+ * <p>
+ * Messages through the Spring {@code messageSource}, which is the shared {@link MessageCatalog}.
  *
  * @author vamuhong
  * @version 1.0
@@ -22,6 +24,10 @@ public class MessageUtils {
     }
 
     public String getMessage(String key, Object... args) {
-        return messageSource.getMessage(key, args, Locale.getDefault());
+        return getMessage(Locale.getDefault(), key, args);
     }
-}
\ No newline at end of file
+
+    public String getMessage(Locale locale, String key, Object... args) {
+        return messageSource.getMessage(key, args, locale);
+    }
+}
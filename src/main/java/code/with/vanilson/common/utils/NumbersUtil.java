@@ -1,9 +1,23 @@
 package code.with.vanilson.common.utils;
 
+import java.nio.DoubleBuffer;
 import java.util.List;
+import java.util.stream.DoubleStream;
 
 /**
  * NumbersUtil
+ * <p>
+ * The statistics ({@code calculateSum}, {@code calculateAverage}, {@code findMax}, {@code findMin}) take a
+ * {@code List<Double>}, a {@code double[]}, a {@link DoubleBuffer} or a {@link DoubleStream}. The primitive forms
+ * read the values where they are, without boxing, and split arrays and buffers of
+ * {@value ArrayChunks#PARALLEL_THRESHOLD} values or more across the common fork-join pool. Sums are compensated
+ * (Neumaier), so adding millions of prices loses no more than a rounding or two, and come out the same whatever the
+ * number of cores. Extrema keep the rule of the list form: {@code NaN} values are skipped, unless the first value
+ * is {@code NaN}, which is then the answer.
+ * <p>
+ * These and the array forms of {@code convert}, {@code percentageToDecimal} and {@code calculatePercentage} run on
+ * the incubating Vector API when the JVM is started with {@code --add-modules jdk.incubator.vector} on a CPU with
+ * 256-bit vectors or wider, and on plain loops otherwise; the results are the same to the bit either way.
  *
  * @author vamuhong
  * @version 1.0
@@ -64,6 +78,9 @@ public class NumbersUtil {
     // Constants for financial calculations
     public static final double DEFAULT_FINE_RATE_PER_DAY = 2.0; // Euro per day
 
+    private static final int BUFFER_BLOCK = 1024;
+    private static final DoubleKernel KERNEL = DoubleKernel.select();
+
     // Float Constants
     public static final float MAX_FLOAT = Float.MAX_VALUE;
     public static final float MIN_FLOAT = Float.MIN_VALUE;
@@ -120,6 +137,19 @@ public class NumbersUtil {
         return value * conversionFactor;
     }
 
+    /**
+     * Converts numbers from one unit to another, as {@link #convert(double, double)} does each.
+     *
+     * @param values           The values to convert.
+     * @param conversionFactor The factor to multiply the values by.
+     * @param result           The array the converted values are written to, from index 0; may be {@code values}.
+     */
+    public static void convert(double[] values, double conversionFactor, double[] result) {
+        checkResult(values.length, result.length);
+        ArrayChunks.forEach(values.length,
+                (chunk, from, to) -> KERNEL.multiply(values, from, to, conversionFactor, result));
+    }
+
     /**
      * Rounds a number to a specified number of decimal places.
      *
@@ -157,6 +187,18 @@ public class NumbersUtil {
         return percentage / 100;
     }
 
+    /**
+     * Converts percentages to decimals, as {@link #percentageToDecimal(double)} does each.
+     *
+     * @param percentages The percentage values (e.g., 25 for 25%).
+     * @param result      The array the decimals are written to, from index 0; may be {@code percentages}.
+     */
+    public static void percentageToDecimal(double[] percentages, double[] result) {
+        checkResult(percentages.length, result.length);
+        ArrayChunks.forEach(percentages.length,
+                (chunk, from, to) -> KERNEL.divide(percentages, from, to, 100, result));
+    }
+
     /**
      * Converts a decimal to a percentage.
      *
@@ -181,6 +223,28 @@ public class NumbersUtil {
         return (part / total) * 100;
     }
 
+    /**
+     * Calculates the percentage of a total amount that each part represents, as
+     * {@link #calculatePercentage(double, double)} does.
+     *
+     * @param parts  The part values.
+     * @param total  The total amount.
+     * @param result The array the percentages are written to, from index 0; may be {@code parts}.
+     */
+    public static void calculatePercentage(double[] parts, double total, double[] result) {
+        if (total == 0) {
+            throw new ArithmeticException("Total cannot be zero");
+        }
+        checkResult(parts.length, result.length);
+        ArrayChunks.forEach(parts.length, (chunk, from, to) -> KERNEL.percentage(parts, from, to, total, result));
+    }
+
+    private static void checkResult(int length, int resultLength) {
+        if (resultLength < length) {
+            throw new IllegalArgumentException("Array of " + resultLength + " elements for " + length + " numbers");
+        }
+    }
+
     /**
      * Calculates the average of a list of numbers.
      *
@@ -194,6 +258,37 @@ public class NumbersUtil {
         return calculateSum(numbers) / numbers.size();
     }
 
+    /**
+     * Calculates the average of an array of numbers.
+     *
+     * @param numbers The array of numbers.
+     * @return The average of the numbers.
+     */
+    public static double calculateAverage(double[] numbers) {
+        return calculateSum(numbers) / numbers.length;
+    }
+
+    /**
+     * Calculates the average of the remaining numbers of a buffer, leaving its position where it is.
+     *
+     * @param numbers The buffer of numbers.
+     * @return The average of the numbers.
+     */
+    public static double calculateAverage(DoubleBuffer numbers) {
+        return calculateSum(numbers) / numbers.remaining();
+    }
+
+    /**
+     * Calculates the average of a stream of numbers, consuming it.
+     *
+     * @param numbers The stream of numbers, read in parallel when it is parallel.
+     * @return The average of the numbers.
+     */
+    public static double calculateAverage(DoubleStream numbers) {
+        var sum = collect(numbers);
+        return sum.result() / sum.count;
+    }
+
     /**
      * Finds the maximum value in a list of numbers.
      *
@@ -204,6 +299,36 @@ public class NumbersUtil {
         return findExtrema(numbers, true);
     }
 
+    /**
+     * Finds the maximum value in an array of numbers.
+     *
+     * @param numbers The array of numbers.
+     * @return The maximum value.
+     */
+    public static double findMax(double[] numbers) {
+        return findExtrema(numbers, true);
+    }
+
+    /**
+     * Finds the maximum value among the remaining numbers of a buffer, leaving its position where it is.
+     *
+     * @param numbers The buffer of numbers.
+     * @return The maximum value.
+     */
+    public static double findMax(DoubleBuffer numbers) {
+        return findExtrema(numbers, true);
+    }
+
+    /**
+     * Finds the maximum value in a stream of numbers, consuming it.
+     *
+     * @param numbers The stream of numbers, read in parallel when it is parallel.
+     * @return The maximum value.
+     */
+    public static double findMax(DoubleStream numbers) {
+        return findExtrema(numbers, true);
+    }
+
     /**
      * Finds the minimum value in a list of numbers.
      *
@@ -214,6 +339,36 @@ public class NumbersUtil {
         return findExtrema(numbers, false);
     }
 
+    /**
+     * Finds the minimum value in an array of numbers.
+     *
+     * @param numbers The array of numbers.
+     * @return The minimum value.
+     */
+    public static double findMin(double[] numbers) {
+        return findExtrema(numbers, false);
+    }
+
+    /**
+     * Finds the minimum value among the remaining numbers of a buffer, leaving its position where it is.
+     *
+     * @param numbers The buffer of numbers.
+     * @return The minimum value.
+     */
+    public static double findMin(DoubleBuffer numbers) {
+        return findExtrema(numbers, false);
+    }
+
+    /**
+     * Finds the minimum value in a stream of numbers, consuming it.
+     *
+     * @param numbers The stream of numbers, read in parallel when it is parallel.
+     * @return The minimum value.
+     */
+    public static double findMin(DoubleStream numbers) {
+        return findExtrema(numbers, false);
+    }
+
     /**
      * Finds the maximum or minimum value in a list of numbers based on the `findMax` flag.
      *
@@ -234,6 +389,53 @@ public class NumbersUtil {
         return extrema;
     }
 
+    private static double findExtrema(double[] numbers, boolean findMax) {
+        if (numbers == null || numbers.length == 0) {
+            throw new IllegalArgumentException("Array of numbers cannot be null or empty");
+        }
+        return findExtrema(numbers, 0, numbers.length, findMax);
+    }
+
+    private static double findExtrema(DoubleBuffer numbers, boolean findMax) {
+        if (numbers == null || !numbers.hasRemaining()) {
+            throw new IllegalArgumentException("Buffer of numbers cannot be null or empty");
+        }
+        if (numbers.hasArray()) {
+            return findExtrema(numbers.array(), numbers.arrayOffset() + numbers.position(), numbers.remaining(),
+                    findMax);
+        }
+        int offset = numbers.position();
+        var partials = new Extrema[ArrayChunks.count(numbers.remaining())];
+        ArrayChunks.forEach(numbers.remaining(), (chunk, from, to) -> {
+            var extrema = new Extrema(findMax);
+            var block = new double[Math.min(BUFFER_BLOCK, to - from)];
+            for (int i = from; i < to; i += block.length) {
+                int length = Math.min(block.length, to - i);
+                numbers.get(offset + i, block, 0, length);
+                extrema.acceptAll(block, 0, length);
+            }
+            partials[chunk] = extrema;
+        });
+        return Extrema.combine(partials).result();
+    }
+
+    private static double findExtrema(DoubleStream numbers, boolean findMax) {
+        if (numbers == null) {
+            throw new IllegalArgumentException("Stream of numbers cannot be null or empty");
+        }
+        return numbers.collect(() -> new Extrema(findMax), Extrema::accept, Extrema::combine).result();
+    }
+
+    private static double findExtrema(double[] numbers, int offset, int length, boolean findMax) {
+        var partials = new Extrema[ArrayChunks.count(length)];
+        ArrayChunks.forEach(length, (chunk, from, to) -> {
+            var extrema = new Extrema(findMax);
+            extrema.acceptAll(numbers, offset + from, offset + to);
+            partials[chunk] = extrema;
+        });
+        return Extrema.combine(partials).result();
+    }
+
     /**
      * Calculates the sum of a list of numbers.
      *
@@ -244,9 +446,79 @@ public class NumbersUtil {
         if (numbers == null || numbers.isEmpty()) {
             throw new IllegalArgumentException("List of numbers cannot be null or empty");
         }
-        double sum = 0;
+        var sum = new Sum();
         for (double number : numbers) {
-            sum += number;
+            sum.add(number);
+        }
+        return sum.result();
+    }
+
+    /**
+     * Calculates the sum of an array of numbers.
+     *
+     * @param numbers The array of numbers.
+     * @return The sum of the numbers.
+     */
+    public static double calculateSum(double[] numbers) {
+        if (numbers == null || numbers.length == 0) {
+            throw new IllegalArgumentException("Array of numbers cannot be null or empty");
+        }
+        return sum(numbers, 0, numbers.length);
+    }
+
+    /**
+     * Calculates the sum of the remaining numbers of a buffer, leaving its position where it is.
+     *
+     * @param numbers The buffer of numbers.
+     * @return The sum of the numbers.
+     */
+    public static double calculateSum(DoubleBuffer numbers) {
+        if (numbers == null || !numbers.hasRemaining()) {
+            throw new IllegalArgumentException("Buffer of numbers cannot be null or empty");
+        }
+        if (numbers.hasArray()) {
+            return sum(numbers.array(), numbers.arrayOffset() + numbers.position(), numbers.remaining());
+        }
+        int offset = numbers.position();
+        var partials = new Sum[ArrayChunks.count(numbers.remaining())];
+        ArrayChunks.forEach(numbers.remaining(), (chunk, from, to) -> {
+            // Off-heap values are copied a block at a time into the array kernel
+            var sum = new Sum();
+            var block = new double[Math.min(BUFFER_BLOCK, to - from)];
+            for (int i = from; i < to; i += block.length) {
+                int length = Math.min(block.length, to - i);
+                numbers.get(offset + i, block, 0, length);
+                sum.addAll(block, 0, length);
+            }
+            partials[chunk] = sum;
+        });
+        return Sum.combine(partials).result();
+    }
+
+    /**
+     * Calculates the sum of a stream of numbers, consuming it.
+     *
+     * @param numbers The stream of numbers, read in parallel when it is parallel.
+     * @return The sum of the numbers.
+     */
+    public static double calculateSum(DoubleStream numbers) {
+        return collect(numbers).result();
+    }
+
+    private static double sum(double[] numbers, int offset, int length) {
+        var partials = new Sum[ArrayChunks.count(length)];
+        ArrayChunks.forEach(length, (chunk, from, to) -> {
+            var sum = new Sum();
+            sum.addAll(numbers, offset + from, offset + to);
+            partials[chunk] = sum;
+        });
+        return Sum.combine(partials).result();
+    }
+
+    private static Sum collect(DoubleStream numbers) {
+        var sum = numbers == null ? null : numbers.collect(Sum::new, Sum::add, Sum::combine);
+        if (sum == null || sum.count == 0) {
+            throw new IllegalArgumentException("Stream of numbers cannot be null or empty");
         }
         return sum;
     }
@@ -261,4 +533,136 @@ public class NumbersUtil {
         return number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE;
     }
 
+    /**
+     * Neumaier summation: the low-order bits each addition rounds away are kept in {@code compensation} and added
+     * back at the end. The plain sum is kept too, for infinite totals, where the compensation turns into NaN.
+     * Arrays are summed in the interleaved lanes of the {@link DoubleKernel}, each waiting only on its own additions.
+     */
+    private static final class Sum {
+
+        private double sum;
+        private double compensation;
+        private double simpleSum;
+        private long count;
+
+        static Sum combine(Sum[] partials) {
+            var total = partials[0];
+            for (int i = 1; i < partials.length; i++) {
+                total.combine(partials[i]);
+            }
+            return total;
+        }
+
+        void add(double value) {
+            addCompensated(value);
+            simpleSum += value;
+            count++;
+        }
+
+        void addAll(double[] values, int from, int to) {
+            var lanes = new double[2 * DoubleKernel.LANES];
+            KERNEL.sum(values, from, to, lanes);
+            double simple = 0;
+            double compensation = 0;
+            for (int lane = 0; lane < DoubleKernel.LANES; lane++) {
+                addCompensated(lanes[lane]);
+                simple += lanes[lane];
+                compensation += lanes[DoubleKernel.LANES + lane];
+            }
+            addCompensated(compensation);
+            if (!Double.isFinite(simple)) {
+                // Infinities or NaN: the plain sum decides, as in add
+                simple = 0;
+                for (int j = from; j < to; j++) {
+                    simple += values[j];
+                }
+            }
+            simpleSum += simple;
+            count += to - from;
+        }
+
+        void combine(Sum other) {
+            addCompensated(other.sum);
+            addCompensated(other.compensation);
+            simpleSum += other.simpleSum;
+            count += other.count;
+        }
+
+        double result() {
+            double total = sum + compensation;
+            return Double.isNaN(total) && Double.isInfinite(simpleSum) ? simpleSum : total;
+        }
+
+        private void addCompensated(double value) {
+            double total = sum + value;
+            compensation += ScalarDoubleKernel.roundingError(sum, value, total);
+            sum = total;
+        }
+    }
+
+    /**
+     * The extremum of the list rule: the first value decides on NaN, the others replace it only when strictly
+     * greater (or smaller), so ties keep the earliest value.
+     */
+    private static final class Extrema {
+
+        private final boolean findMax;
+        private long count;
+        private double first;
+        private double best;
+
+        Extrema(boolean findMax) {
+            this.findMax = findMax;
+            this.best = findMax ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+
+        static Extrema combine(Extrema[] partials) {
+            var total = partials[0];
+            for (int i = 1; i < partials.length; i++) {
+                total.combine(partials[i]);
+            }
+            return total;
+        }
+
+        void accept(double value) {
+            if (count++ == 0) {
+                first = value;
+            }
+            if (findMax ? value > best : value < best) {
+                best = value;
+            }
+        }
+
+        void acceptAll(double[] values, int from, int to) {
+            if (from == to) {
+                return;
+            }
+            if (count == 0) {
+                first = values[from];
+            }
+            best = KERNEL.extremum(values, from, to, best, findMax);
+            count += to - from;
+        }
+
+        void combine(Extrema other) {
+            if (other.count == 0) {
+                return;
+            }
+            if (count == 0) {
+                first = other.first;
+            }
+            if (findMax ? other.best > best : other.best < best) {
+                best = other.best;
+            }
+            count += other.count;
+        }
+
+        double result() {
+            if (count == 0) {
+                throw new IllegalArgumentException("Stream of numbers cannot be null or empty");
+            }
+            return Double.isNaN(first) ? first : best;
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package code.with.vanilson.common.utils;
+
+/**
+ * ScalarDoubleKernel
+ * <p>
+ * The plain Java loops of {@link DoubleKernel}, and the reference the vector ones are held to.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-11
+ */
+final class ScalarDoubleKernel implements DoubleKernel {
+
+    // What sum + value = total lost, exactly, computed from the larger operand
+    static double roundingError(double sum, double value, double total) {
+        return Math.abs(sum) >= Math.abs(value) ? (sum - total) + value : (value - total) + sum;
+    }
+
+    @Override
+    public boolean accelerated() {
+        return false;
+    }
+
+    @Override
+    public void sum(double[] values, int from, int to, double[] lanes) {
+        double sum0 = 0;
+        double sum1 = 0;
+        double sum2 = 0;
+        double sum3 = 0;
+        double sum4 = 0;
+        double sum5 = 0;
+        double sum6 = 0;
+        double sum7 = 0;
+        double compensation0 = 0;
+        double compensation1 = 0;
+        double compensation2 = 0;
+        double compensation3 = 0;
+        double compensation4 = 0;
+        double compensation5 = 0;
+        double compensation6 = 0;
+        double compensation7 = 0;
+        int i = from;
+        for (; i + LANES - 1 < to; i += LANES) {
+            double value0 = values[i];
+            double value1 = values[i + 1];
+            double value2 = values[i + 2];
+            double value3 = values[i + 3];
+            double value4 = values[i + 4];
+            double value5 = values[i + 5];
+            double value6 = values[i + 6];
+            double value7 = values[i + 7];
+            double total0 = sum0 + value0;
+            double total1 = sum1 + value1;
+            double total2 = sum2 + value2;
+            double total3 = sum3 + value3;
+            double total4 = sum4 + value4;
+            double total5 = sum5 + value5;
+            double total6 = sum6 + value6;
+            double total7 = sum7 + value7;
+            compensation0 += roundingError(sum0, value0, total0);
+            compensation1 += roundingError(sum1, value1, total1);
+            compensation2 += roundingError(sum2, value2, total2);
+            compensation3 += roundingError(sum3, value3, total3);
+            compensation4 += roundingError(sum4, value4, total4);
+            compensation5 += roundingError(sum5, value5, total5);
+            compensation6 += roundingError(sum6, value6, total6);
+            compensation7 += roundingError(sum7, value7, total7);
+            sum0 = total0;
+            sum1 = total1;
+            sum2 = total2;
+            sum3 = total3;
+            sum4 = total4;
+            sum5 = total5;
+            sum6 = total6;
+            sum7 = total7;
+        }
+        for (; i < to; i++) {
+            double total0 = sum0 + values[i];
+            compensation0 += roundingError(sum0, values[i], total0);
+            sum0 = total0;
+        }
+        lanes[0] = sum0;
+        lanes[1] = sum1;
+        lanes[2] = sum2;
+        lanes[3] = sum3;
+        lanes[4] = sum4;
+        lanes[5] = sum5;
+        lanes[6] = sum6;
+        lanes[7] = sum7;
+        lanes[LANES] = compensation0;
+        lanes[LANES + 1] = compensation1;
+        lanes[LANES + 2] = compensation2;
+        lanes[LANES + 3] = compensation3;
+        lanes[LANES + 4] = compensation4;
+        lanes[LANES + 5] = compensation5;
+        lanes[LANES + 6] = compensation6;
+        lanes[LANES + 7] = compensation7;
+    }
+
+    @Override
+    public double extremum(double[] values, int from, int to, double best, boolean findMax) {
+        for (int i = from; i < to; i++) {
+            if (findMax ? values[i] > best : values[i] < best) {
+                best = values[i];
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void multiply(double[] values, int from, int to, double factor, double[] result) {
+        for (int i = from; i < to; i++) {
+            result[i] = values[i] * factor;
+        }
+    }
+
+    @Override
+    public void divide(double[] values, int from, int to, double divisor, double[] result) {
+        for (int i = from; i < to; i++) {
+            result[i] = values[i] / divisor;
+        }
+    }
+
+    @Override
+    public void percentage(double[] values, int from, int to, double total, double[] result) {
+        for (int i = from; i < to; i++) {
+            result[i] = (values[i] / total) * 100;
+        }
+    }
+}
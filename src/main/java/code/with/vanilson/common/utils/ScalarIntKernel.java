@@ -0,0 +1,44 @@
+package code.with.vanilson.common.utils;
+
+/**
+ * ScalarIntKernel
+ * <p>
+ * The plain Java loops of {@link IntKernel}, and the reference the vector ones are held to.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-21
+ */
+final class ScalarIntKernel implements IntKernel {
+
+    // 1970-01-01 was a Thursday
+    static boolean isWeekend(long epochDay) {
+        return Math.floorMod(epochDay + 3, 7) >= 5;
+    }
+
+    @Override
+    public boolean accelerated() {
+        return false;
+    }
+
+    @Override
+    public void add(int[] epochDays, int from, int to, int days, int[] result) {
+        for (int i = from; i < to; i++) {
+            result[i] = epochDays[i] + days;
+        }
+    }
+
+    @Override
+    public void isWeekend(int[] epochDays, int from, int to, boolean[] result) {
+        for (int i = from; i < to; i++) {
+            result[i] = isWeekend(epochDays[i]);
+        }
+    }
+
+    @Override
+    public void difference(int[] startDays, int[] endDays, int from, int to, long[] result) {
+        for (int i = from; i < to; i++) {
+            result[i] = (long) endDays[i] - startDays[i];
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package code.with.vanilson.common.utils;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * StreamingStats
+ * <p>
+ * Running statistics of a stream of numbers, such as car prices, kilometres or request latencies, kept in constant
+ * space: count, sum (compensated, as in {@link NumbersUtil}), mean and variance (Welford), exact minimum and maximum,
+ * and quantiles from a log-linear histogram. A histogram bucket spans 1/{@value #SUB_BUCKETS} of a power of two,
+ * so a quantile is within 0.4% of the value of that rank in the stream; rows of buckets are allocated for the powers
+ * of two the stream actually reaches.
+ * <p>
+ * Instances are not thread-safe: record on one thread and {@link #merge} the results, or use
+ * {@link ConcurrentStreamingStats}. {@link #toBytes()} and {@link #fromBytes(byte[])} carry them between nodes.
+ * Merged histograms, counts and extrema are exactly those of the whole stream, the moments are within rounding.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-12
+ */
+public final class StreamingStats {
+
+    static final int SUB_BUCKET_BITS = 7;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // Bucket keys are the exponent and the top mantissa bits of the magnitude, in the order of the magnitudes
+    private static final int KEY_SHIFT = 52 - SUB_BUCKET_BITS;
+    private static final int ROWS = 2047;
+    private static final byte FORMAT = 1;
+
+    private long count;
+    private double sum;
+    private double sumCompensation;
+    private double mean;
+    private double squaredDeviations;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+    // Rows of buckets by exponent, for each sign, allocated on the first value of that sign
+    private long[][] positive;
+    private long[][] negative;
+
+    /**
+     * Records a value.
+     *
+     * @param value The value, a finite number.
+     */
+    public void record(double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("Only finite numbers can be recorded: " + value);
+        }
+        if (count == 0 || value < min) {
+            min = value;
+        }
+        if (count == 0 || value > max) {
+            max = value;
+        }
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
+        addToSum(value);
+        bucket(value);
+    }
+
+    /**
+     * Adds the values recorded by {@code other} to these statistics, leaving {@code other} as it is.
+     *
+     * @return these statistics.
+     */
+    public StreamingStats merge(StreamingStats other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0 || other.min < min) {
+            min = other.min;
+        }
+        if (count == 0 || other.max > max) {
+            max = other.max;
+        }
+        // Chan et al., the pairwise form of Welford's update
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        squaredDeviations += other.squaredDeviations + delta * delta * ((double) count * other.count / total);
+        count = total;
+        addToSum(other.sum);
+        addToSum(other.sumCompensation);
+        positive = merge(positive, other.positive);
+        negative = merge(negative, other.negative);
+        return this;
+    }
+
+    /**
+     * @return a copy of these statistics, which records on its own from here on.
+     */
+    public StreamingStats copy() {
+        var copy = new StreamingStats();
+        copy.count = count;
+        copy.sum = sum;
+        copy.sumCompensation = sumCompensation;
+        copy.mean = mean;
+        copy.squaredDeviations = squaredDeviations;
+        copy.min = min;
+        copy.max = max;
+        copy.positive = copy(positive);
+        copy.negative = copy(negative);
+        return copy;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return the sum of the values, {@code 0} when none was recorded.
+     */
+    public double sum() {
+        return sum + sumCompensation;
+    }
+
+    /**
+     * @return the mean of the values, {@code NaN} when none was recorded.
+     */
+    public double mean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * @return the population variance of the values, {@code NaN} when none was recorded.
+     */
+    public double variance() {
+        return count == 0 ? Double.NaN : Math.max(0, squaredDeviations / count);
+    }
+
+    /**
+     * @return the population standard deviation of the values, {@code NaN} when none was recorded.
+     */
+    public double standardDeviation() {
+        return Math.sqrt(variance());
+    }
+
+    /**
+     * @return the smallest value, {@code NaN} when none was recorded.
+     */
+    public double min() {
+        return min;
+    }
+
+    /**
+     * @return the largest value, {@code NaN} when none was recorded.
+     */
+    public double max() {
+        return max;
+    }
+
+    /**
+     * Estimates a quantile: {@code quantile(0.5)} is the median, {@code quantile(0.99)} the 99th percentile.
+     *
+     * @param quantile The quantile, from 0 (the minimum) to 1 (the maximum).
+     * @return the middle of the histogram bucket holding the value of rank {@code ceil(quantile * count)}, kept
+     * between the minimum and the maximum; {@code NaN} when no value was recorded.
+     */
+    public double quantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        if (rank == 1) {
+            return min;
+        }
+        if (rank == count) {
+            return max;
+        }
+        long seen = 0;
+        // Negative values from the largest magnitude down, then the positive ones up
+        for (int row = ROWS - 1; negative != null && row >= 0; row--) {
+            var buckets = negative[row];
+            for (int bucket = SUB_BUCKETS - 1; buckets != null && bucket >= 0; bucket--) {
+                seen += buckets[bucket];
+                if (seen >= rank) {
+                    return clamp(-middle(row, bucket));
+                }
+            }
+        }
+        for (int row = 0; positive != null && row < ROWS; row++) {
+            var buckets = positive[row];
+            for (int bucket = 0; buckets != null && bucket < SUB_BUCKETS; bucket++) {
+                seen += buckets[bucket];
+                if (seen >= rank) {
+                    return clamp(middle(row, bucket));
+                }
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @return these statistics in a compact binary form, for {@link #fromBytes(byte[])} on another node.
+     */
+    public byte[] toBytes() {
+        int buckets = countBuckets(positive) + countBuckets(negative);
+        var bytes = ByteBuffer.allocate(1 + Long.BYTES + 6 * Double.BYTES + 2 * Integer.BYTES
+                + buckets * (Integer.BYTES + Long.BYTES));
+        bytes.put(FORMAT)
+                .putLong(count)
+                .putDouble(sum)
+                .putDouble(sumCompensation)
+                .putDouble(mean)
+                .putDouble(squaredDeviations)
+                .putDouble(min)
+                .putDouble(max);
+        write(bytes, positive);
+        write(bytes, negative);
+        return bytes.array();
+    }
+
+    /**
+     * @return the statistics written by {@link #toBytes()}.
+     */
+    public static StreamingStats fromBytes(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.get() != FORMAT) {
+                throw new IllegalArgumentException("Unknown statistics format " + bytes[0]);
+            }
+            var stats = new StreamingStats();
+            stats.count = buffer.getLong();
+            stats.sum = buffer.getDouble();
+            stats.sumCompensation = buffer.getDouble();
+            stats.mean = buffer.getDouble();
+            stats.squaredDeviations = buffer.getDouble();
+            stats.min = buffer.getDouble();
+            stats.max = buffer.getDouble();
+            stats.positive = read(buffer);
+            stats.negative = read(buffer);
+            if (stats.count < 0 || buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Malformed statistics of " + bytes.length + " bytes");
+            }
+            return stats;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed statistics of " + bytes.length + " bytes", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingStats[count=" + count + ", mean=" + mean() + ", min=" + min + ", max=" + max
+                + ", p50=" + quantile(0.5) + ", p99=" + quantile(0.99) + "]";
+    }
+
+    private void addToSum(double value) {
+        double total = sum + value;
+        sumCompensation += ScalarDoubleKernel.roundingError(sum, value, total);
+        sum = total;
+    }
+
+    private void bucket(double value) {
+        if (value < 0 && negative == null) {
+            negative = new long[ROWS][];
+        } else if (value >= 0 && positive == null) {
+            positive = new long[ROWS][];
+        }
+        var rows = value < 0 ? negative : positive;
+        int key = (int) (Double.doubleToRawLongBits(Math.abs(value)) >>> KEY_SHIFT);
+        var buckets = rows[key >>> SUB_BUCKET_BITS];
+        if (buckets == null) {
+            buckets = new long[SUB_BUCKETS];
+            rows[key >>> SUB_BUCKET_BITS] = buckets;
+        }
+        buckets[key & (SUB_BUCKETS - 1)]++;
+    }
+
+    private double clamp(double value) {
+        return Math.min(max, Math.max(min, value));
+    }
+
+    private static double middle(int row, int bucket) {
+        long key = ((long) row << SUB_BUCKET_BITS) | bucket;
+        double low = Double.longBitsToDouble(key << KEY_SHIFT);
+        double high = Double.longBitsToDouble((key + 1) << KEY_SHIFT);
+        return low + (high - low) / 2;
+    }
+
+    private static long[][] merge(long[][] rows, long[][] others) {
+        if (others == null) {
+            return rows;
+        }
+        if (rows == null) {
+            return copy(others);
+        }
+        for (int row = 0; row < ROWS; row++) {
+            var other = others[row];
+            if (other == null) {
+                continue;
+            }
+            if (rows[row] == null) {
+                rows[row] = other.clone();
+                continue;
+            }
+            var buckets = rows[row];
+            for (int bucket = 0; bucket < SUB_BUCKETS; bucket++) {
+                buckets[bucket] += other[bucket];
+            }
+        }
+        return rows;
+    }
+
+    private static long[][] copy(long[][] rows) {
+        if (rows == null) {
+            return null;
+        }
+        var copy = new long[ROWS][];
+        for (int row = 0; row < ROWS; row++) {
+            // Read once, another thread may be filling the rows in
+            var buckets = rows[row];
+            copy[row] = buckets == null ? null : buckets.clone();
+        }
+        return copy;
+    }
+
+    private static int countBuckets(long[][] rows) {
+        int buckets = 0;
+        for (int row = 0; rows != null && row < ROWS; row++) {
+            for (int bucket = 0; rows[row] != null && bucket < SUB_BUCKETS; bucket++) {
+                buckets += rows[row][bucket] == 0 ? 0 : 1;
+            }
+        }
+        return buckets;
+    }
+
+    private static void write(ByteBuffer bytes, long[][] rows) {
+        int buckets = countBuckets(rows);
+        bytes.putInt(buckets);
+        for (int row = 0; row < ROWS && buckets > 0; row++) {
+            for (int bucket = 0; rows[row] != null && bucket < SUB_BUCKETS; bucket++) {
+                if (rows[row][bucket] != 0) {
+                    bytes.putInt((row << SUB_BUCKET_BITS) | bucket).putLong(rows[row][bucket]);
+                }
+            }
+        }
+    }
+
+    private static long[][] read(ByteBuffer bytes) {
+        int buckets = bytes.getInt();
+        var rows = buckets == 0 ? null : new long[ROWS][];
+        for (int i = 0; i < buckets; i++) {
+            int key = bytes.getInt();
+            long count = bytes.getLong();
+            if (key < 0 || key >>> SUB_BUCKET_BITS >= ROWS || count < 0) {
+                throw new IllegalArgumentException("Malformed statistics bucket " + key);
+            }
+            if (rows[key >>> SUB_BUCKET_BITS] == null) {
+                rows[key >>> SUB_BUCKET_BITS] = new long[SUB_BUCKETS];
+            }
+            rows[key >>> SUB_BUCKET_BITS][key & (SUB_BUCKETS - 1)] += count;
+        }
+        return rows;
+    }
+}
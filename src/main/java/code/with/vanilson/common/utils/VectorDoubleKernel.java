@@ -0,0 +1,123 @@
+package code.with.vanilson.common.utils;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorDoubleKernel
+ * <p>
+ * {@link DoubleKernel} on the incubating Vector API. The sums keep the scalar lanes, two 256-bit vectors, and compute
+ * both sides of the rounding error to blend the one the scalar branch takes. The element-wise loops and the extrema
+ * use the widest vectors of the CPU: the former because lanes do not meet, the latter because only the zeros can
+ * tell which of equal values was the earliest, and a zero result is looked up again by the scalar loop.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-11
+ */
+final class VectorDoubleKernel implements DoubleKernel {
+
+    private static final VectorSpecies<Double> SUM = DoubleVector.SPECIES_256;
+    private static final VectorSpecies<Double> WIDEST = DoubleVector.SPECIES_PREFERRED;
+    private static final DoubleKernel SCALAR = new ScalarDoubleKernel();
+
+    @Override
+    public boolean accelerated() {
+        return WIDEST.vectorBitSize() >= SUM.vectorBitSize();
+    }
+
+    @Override
+    public void sum(double[] values, int from, int to, double[] lanes) {
+        var low = DoubleVector.zero(SUM);
+        var high = DoubleVector.zero(SUM);
+        var lowCompensation = DoubleVector.zero(SUM);
+        var highCompensation = DoubleVector.zero(SUM);
+        int half = SUM.length();
+        int i = from;
+        for (; i + LANES - 1 < to; i += LANES) {
+            var lowValue = DoubleVector.fromArray(SUM, values, i);
+            var highValue = DoubleVector.fromArray(SUM, values, i + half);
+            var lowTotal = low.add(lowValue);
+            var highTotal = high.add(highValue);
+            lowCompensation = lowCompensation.add(roundingError(low, lowValue, lowTotal));
+            highCompensation = highCompensation.add(roundingError(high, highValue, highTotal));
+            low = lowTotal;
+            high = highTotal;
+        }
+        low.intoArray(lanes, 0);
+        high.intoArray(lanes, half);
+        lowCompensation.intoArray(lanes, LANES);
+        highCompensation.intoArray(lanes, LANES + half);
+        for (; i < to; i++) {
+            double total0 = lanes[0] + values[i];
+            lanes[LANES] += ScalarDoubleKernel.roundingError(lanes[0], values[i], total0);
+            lanes[0] = total0;
+        }
+    }
+
+    // Both sides of ScalarDoubleKernel.roundingError, blended as its branch goes
+    private static DoubleVector roundingError(DoubleVector sum, DoubleVector value, DoubleVector total) {
+        var sumIsLarger = sum.abs().compare(VectorOperators.GE, value.abs());
+        return value.sub(total).add(sum).blend(sum.sub(total).add(value), sumIsLarger);
+    }
+
+    @Override
+    public double extremum(double[] values, int from, int to, double best, boolean findMax) {
+        var comparison = findMax ? VectorOperators.GT : VectorOperators.LT;
+        int step = WIDEST.length();
+        int bound = from + WIDEST.loopBound(to - from);
+        var bests0 = DoubleVector.broadcast(WIDEST, best);
+        var bests1 = bests0;
+        var bests2 = bests0;
+        var bests3 = bests0;
+        int i = from;
+        for (; i + 3 * step < bound; i += 4 * step) {
+            var value0 = DoubleVector.fromArray(WIDEST, values, i);
+            var value1 = DoubleVector.fromArray(WIDEST, values, i + step);
+            var value2 = DoubleVector.fromArray(WIDEST, values, i + 2 * step);
+            var value3 = DoubleVector.fromArray(WIDEST, values, i + 3 * step);
+            bests0 = bests0.blend(value0, value0.compare(comparison, bests0));
+            bests1 = bests1.blend(value1, value1.compare(comparison, bests1));
+            bests2 = bests2.blend(value2, value2.compare(comparison, bests2));
+            bests3 = bests3.blend(value3, value3.compare(comparison, bests3));
+        }
+        for (; i < bound; i += step) {
+            var value0 = DoubleVector.fromArray(WIDEST, values, i);
+            bests0 = bests0.blend(value0, value0.compare(comparison, bests0));
+        }
+        var extremum = findMax ? VectorOperators.MAX : VectorOperators.MIN;
+        // The lanes never hold NaN, so the reductions only differ from the scalar loop on the sign of a zero
+        var bests = bests0.lanewise(extremum, bests1).lanewise(extremum, bests2.lanewise(extremum, bests3));
+        double result = bests.reduceLanes(extremum);
+        result = SCALAR.extremum(values, bound, to, result, findMax);
+        return result == 0 ? SCALAR.extremum(values, from, to, best, findMax) : result;
+    }
+
+    @Override
+    public void multiply(double[] values, int from, int to, double factor, double[] result) {
+        int bound = from + WIDEST.loopBound(to - from);
+        for (int i = from; i < bound; i += WIDEST.length()) {
+            DoubleVector.fromArray(WIDEST, values, i).mul(factor).intoArray(result, i);
+        }
+        SCALAR.multiply(values, bound, to, factor, result);
+    }
+
+    @Override
+    public void divide(double[] values, int from, int to, double divisor, double[] result) {
+        int bound = from + WIDEST.loopBound(to - from);
+        for (int i = from; i < bound; i += WIDEST.length()) {
+            DoubleVector.fromArray(WIDEST, values, i).div(divisor).intoArray(result, i);
+        }
+        SCALAR.divide(values, bound, to, divisor, result);
+    }
+
+    @Override
+    public void percentage(double[] values, int from, int to, double total, double[] result) {
+        int bound = from + WIDEST.loopBound(to - from);
+        for (int i = from; i < bound; i += WIDEST.length()) {
+            DoubleVector.fromArray(WIDEST, values, i).div(total).mul(100).intoArray(result, i);
+        }
+        SCALAR.percentage(values, bound, to, total, result);
+    }
+}
@@ -0,0 +1,78 @@
+package code.with.vanilson.common.utils;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * VectorIntKernel
+ * <p>
+ * {@link IntKernel} on the incubating Vector API. The additions use the widest int vectors of the CPU. The loops
+ * that widen to {@code long} or {@code double} lanes load half as many ints, so the widened lanes fill the widest
+ * vectors. There is no vector integer division, so the day of the week takes its quotient by 7 from a
+ * {@code double} division: every epoch day is exact as a {@code double}, and a quotient that is not a whole number
+ * is at least 1/7 away from one, so truncating the rounded quotient gives the exact one.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-21
+ */
+final class VectorIntKernel implements IntKernel {
+
+    private static final VectorSpecies<Integer> WIDEST = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    // As many int lanes as the widest long and double vectors have
+    private static final VectorSpecies<Integer> HALF =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(WIDEST.vectorBitSize() / 2));
+    // Epoch day 2 was a Saturday, 3 a Sunday
+    private static final int SATURDAY = 2;
+    private static final int SUNDAY = 3;
+    private static final IntKernel SCALAR = new ScalarIntKernel();
+
+    @Override
+    public boolean accelerated() {
+        return WIDEST.vectorBitSize() >= 256;
+    }
+
+    @Override
+    public void add(int[] epochDays, int from, int to, int days, int[] result) {
+        int bound = from + WIDEST.loopBound(to - from);
+        for (int i = from; i < bound; i += WIDEST.length()) {
+            IntVector.fromArray(WIDEST, epochDays, i).add(days).intoArray(result, i);
+        }
+        SCALAR.add(epochDays, bound, to, days, result);
+    }
+
+    @Override
+    public void isWeekend(int[] epochDays, int from, int to, boolean[] result) {
+        int bound = from + HALF.loopBound(to - from);
+        for (int i = from; i < bound; i += HALF.length()) {
+            var days = IntVector.fromArray(HALF, epochDays, i);
+            var quotient = ((DoubleVector) days.convertShape(VectorOperators.I2D, DOUBLES, 0))
+                    .div(7)
+                    .convertShape(VectorOperators.D2I, HALF, 0);
+            // Truncated towards zero, a negative remainder is moved up into [0, 7)
+            var remainder = days.sub(((IntVector) quotient).mul(7));
+            remainder = remainder.add(7, remainder.compare(VectorOperators.LT, 0));
+            remainder.compare(VectorOperators.EQ, SATURDAY)
+                    .or(remainder.compare(VectorOperators.EQ, SUNDAY))
+                    .intoArray(result, i);
+        }
+        SCALAR.isWeekend(epochDays, bound, to, result);
+    }
+
+    @Override
+    public void difference(int[] startDays, int[] endDays, int from, int to, long[] result) {
+        int bound = from + HALF.loopBound(to - from);
+        for (int i = from; i < bound; i += HALF.length()) {
+            var start = IntVector.fromArray(HALF, startDays, i).convertShape(VectorOperators.I2L, LONGS, 0);
+            var end = IntVector.fromArray(HALF, endDays, i).convertShape(VectorOperators.I2L, LONGS, 0);
+            ((LongVector) end).sub((LongVector) start).intoArray(result, i);
+        }
+        SCALAR.difference(startDays, endDays, bound, to, result);
+    }
+}
@@ -0,0 +1,160 @@
+package code.with.vanilson.common.utils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+
+/**
+ * ZoneOffsetCache
+ * <p>
+ * The offsets of one zone, kept for each span between two transitions the batch has reached. An instant in the same
+ * span as the previous one costs a range check, one in another known span a binary search; a new span is looked up
+ * in the {@link ZoneRules} once. Not thread-safe: one cache per thread and batch.
+ * <p>
+ * Local times are resolved as {@link java.util.GregorianCalendar} resolves them: in a gap or an overlap, with the
+ * smaller of the two offsets, that is the later instant.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-08
+ */
+final class ZoneOffsetCache {
+
+    static final long MILLIS_PER_DAY = 86_400_000L;
+
+    // Offsets are within +/-18h, a local time this far from a transition has only one reading
+    private static final long UNAMBIGUOUS = 36 * 3_600_000L;
+
+    // A century of summer time, past it new spans are looked up but not kept
+    private static final int MAX_SPANS = 256;
+
+    private final ZoneRules rules;
+    private long[] starts = new long[8];
+    private long[] ends = new long[8];
+    private int[] offsets = new int[8];
+    private int spans;
+
+    // The span of the last lookup
+    private long start = 1;
+    private long end = 0;
+    private long safeStart;
+    private long safeEnd;
+    private int offsetMillis;
+
+    ZoneOffsetCache(ZoneId zone) {
+        this.rules = zone.getRules();
+    }
+
+    int offsetMillis(long epochMillis) {
+        if (epochMillis < start || epochMillis >= end) {
+            refresh(epochMillis);
+        }
+        return offsetMillis;
+    }
+
+    /**
+     * @return the local day of {@code epochMillis}, in days since 1970-01-01.
+     */
+    long epochDay(long epochMillis) {
+        return Math.floorDiv(epochMillis + offsetMillis(epochMillis), MILLIS_PER_DAY);
+    }
+
+    /**
+     * @return the instant of a local time, given in milliseconds since 1970-01-01T00:00 local.
+     */
+    long toEpochMillis(long localMillis) {
+        long candidate = localMillis - offsetMillis(localMillis - offsetMillis);
+        if (candidate >= safeStart && candidate < safeEnd) {
+            return candidate;
+        }
+        var local = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L),
+                (int) Math.floorMod(localMillis, 1000L) * 1_000_000, ZoneOffset.UTC);
+        var transition = rules.getTransition(local);
+        int offsetSeconds = transition == null ? rules.getOffset(local).getTotalSeconds()
+                : Math.min(transition.getOffsetBefore().getTotalSeconds(),
+                transition.getOffsetAfter().getTotalSeconds());
+        return localMillis - offsetSeconds * 1000L;
+    }
+
+    /**
+     * {@code epochMillis} moved by whole local days, as {@code Calendar#add(DAY_OF_MONTH, days)}: the time of day
+     * is kept, and when it falls in a gap the instant that stays on the target day is taken.
+     */
+    long plusDays(long epochMillis, int days) {
+        int offset = offsetMillis(epochMillis);
+        long target = epochMillis + offset + days * MILLIS_PER_DAY;
+        long sameOffset = target - offset;
+        int targetOffset = offsetMillis(sameOffset);
+        if (targetOffset == offset) {
+            return sameOffset;
+        }
+        long adjusted = target - targetOffset;
+        return epochDay(adjusted) == Math.floorDiv(target, MILLIS_PER_DAY) ? adjusted : sameOffset;
+    }
+
+    private void refresh(long epochMillis) {
+        int index = lastStartAtOrBefore(epochMillis);
+        if (index >= 0 && epochMillis < ends[index]) {
+            use(starts[index], ends[index], offsets[index]);
+        } else {
+            lookUp(epochMillis);
+            if (spans < MAX_SPANS) {
+                keep(index + 1);
+            }
+        }
+    }
+
+    private int lastStartAtOrBefore(long epochMillis) {
+        int low = 0;
+        int high = spans - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle] <= epochMillis) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    private void keep(int index) {
+        if (spans == starts.length) {
+            starts = Arrays.copyOf(starts, spans * 2);
+            ends = Arrays.copyOf(ends, spans * 2);
+            offsets = Arrays.copyOf(offsets, spans * 2);
+        }
+        System.arraycopy(starts, index, starts, index + 1, spans - index);
+        System.arraycopy(ends, index, ends, index + 1, spans - index);
+        System.arraycopy(offsets, index, offsets, index + 1, spans - index);
+        starts[index] = start;
+        ends[index] = end;
+        offsets[index] = offsetMillis;
+        spans++;
+    }
+
+    private void use(long start, long end, int offsetMillis) {
+        this.start = start;
+        this.end = end;
+        this.offsetMillis = offsetMillis;
+        safeStart = start == Long.MIN_VALUE ? Long.MIN_VALUE : start + UNAMBIGUOUS;
+        safeEnd = end == Long.MAX_VALUE ? Long.MAX_VALUE : end - UNAMBIGUOUS;
+    }
+
+    private void lookUp(long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000L);
+        int offset = rules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000;
+        if (rules.isFixedOffset()) {
+            use(Long.MIN_VALUE, Long.MAX_VALUE, offset);
+            return;
+        }
+        // One nanosecond in, so that a transition at this very second counts as the previous one
+        var previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond, 1));
+        var next = rules.nextTransition(Instant.ofEpochSecond(epochSecond));
+        use(previous == null ? Long.MIN_VALUE : previous.toEpochSecond() * 1000L,
+                next == null ? Long.MAX_VALUE : next.toEpochSecond() * 1000L, offset);
+    }
+}
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS idempotency_keys
+(
+    idempotency_key varchar(512)  PRIMARY KEY,
+    completed       boolean       not null,
+    status_code     int,
+    content_type    varchar(255),
+    location        varchar(2048),
+    body            bytea,
+    created_at      timestamp     not null
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_created_at ON idempotency_keys (created_at);
@@ -0,0 +1,110 @@
+package code.with.vanilson.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.data.repository.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Fails when a class of ours both talks to the database and uses {@code synchronized}: a virtual thread blocked
+ * on JDBC inside a monitor pins its carrier thread, see the virtual-threads Maven profile. Use a
+ * {@link java.util.concurrent.locks.ReentrantLock} instead.
+ */
+public class PinningHazardTest {
+
+    private static final List<String> JDBC_PACKAGES = List.of(
+            "java/sql/", "javax/sql/", "org/springframework/jdbc/", "jakarta/persistence/", "org/hibernate/",
+            "org/postgresql/");
+
+    @Test
+    public void noSynchronizedInClassesDoingJdbc() throws Exception {
+        var classes = Path.of(CommonApplication.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Set<String> hazards = new TreeSet<>();
+        int jdbcClasses = 0;
+        List<Path> classFiles;
+        try (var files = Files.walk(classes)) {
+            classFiles = files.filter(file -> file.toString().endsWith(".class")).toList();
+        }
+        for (var classFile : classFiles) {
+            var scan = scan(classFile);
+            jdbcClasses += scan.jdbc ? 1 : 0;
+            if (scan.jdbc && !scan.synchronizedMembers.isEmpty()) {
+                hazards.add(scan.name + " " + scan.synchronizedMembers);
+            }
+        }
+        Assertions.assertTrue(jdbcClasses > 0, "no JDBC callers found, the scan is looking at the wrong classes");
+        Assertions.assertTrue(hazards.isEmpty(), "synchronized around JDBC pins virtual threads: " + hazards);
+    }
+
+    private static ClassScan scan(Path classFile) throws IOException {
+        var scan = new ClassScan();
+        try (InputStream in = Files.newInputStream(classFile)) {
+            new ClassReader(in).accept(new ClassVisitor(Opcodes.ASM9) {
+                @Override
+                public void visit(int version, int access, String name, String signature, String superName,
+                                  String[] interfaces) {
+                    scan.name = name.replace('/', '.');
+                }
+
+                @Override
+                public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                                 String[] exceptions) {
+                    if (Modifier.isSynchronized(access)) {
+                        scan.synchronizedMembers.add(name);
+                    }
+                    return new MethodVisitor(Opcodes.ASM9) {
+                        @Override
+                        public void visitInsn(int opcode) {
+                            if (opcode == Opcodes.MONITORENTER) {
+                                scan.synchronizedMembers.add(name + "{synchronized}");
+                            }
+                        }
+
+                        @Override
+                        public void visitMethodInsn(int opcode, String owner, String name, String descriptor,
+                                                    boolean isInterface) {
+                            scan.jdbc |= isJdbc(owner);
+                        }
+
+                        @Override
+                        public void visitTypeInsn(int opcode, String type) {
+                            scan.jdbc |= isJdbc(type);
+                        }
+                    };
+                }
+            }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        }
+        return scan;
+    }
+
+    private static boolean isJdbc(String owner) {
+        if (JDBC_PACKAGES.stream().anyMatch(owner::startsWith)) {
+            return true;
+        }
+        try {
+            var type = Class.forName(owner.replace('/', '.'), false, PinningHazardTest.class.getClassLoader());
+            return Repository.class.isAssignableFrom(type);
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+
+    private static final class ClassScan {
+        private String name;
+        private boolean jdbc;
+        private final List<String> synchronizedMembers = new ArrayList<>();
+    }
+}
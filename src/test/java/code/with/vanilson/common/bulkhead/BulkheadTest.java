@@ -0,0 +1,80 @@
+package code.with.vanilson.common.bulkhead;
+
+import code.with.vanilson.common.car.CarRequest;
+import code.with.vanilson.common.car.CarService;
+import code.with.vanilson.common.exceptions.ResourceUnavailableException;
+import code.with.vanilson.common.money.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class BulkheadTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void listingCarsRunsOnTheExportBulkhead() throws Exception {
+        carService.createCar(carRequest());
+        double before = meterRegistry.get("bulkhead.execution").tag("bulkhead", "export").timer().count();
+
+        var pending = mockMvc.perform(get("/api/cars"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].links[0].href").exists());
+
+        Assertions.assertEquals(before + 1,
+                meterRegistry.get("bulkhead.execution").tag("bulkhead", "export").timer().count());
+    }
+
+    @Test
+    public void fullBulkheadRejectsWithRetryAfter() throws Exception {
+        var pool = new BulkheadProperties.Pool();
+        pool.setMaxThreads(1);
+        pool.setQueueCapacity(0);
+        var registry = new SimpleMeterRegistry();
+        var bulkhead = new BulkheadExecutor("test", pool, 2, registry);
+        var release = new CountDownLatch(1);
+        try {
+            bulkhead.submit(() -> release.await(5, TimeUnit.SECONDS));
+
+            var rejection = Assertions.assertThrows(ResourceUnavailableException.class,
+                    () -> bulkhead.submit(() -> true));
+            Assertions.assertEquals(2, rejection.getRetryAfterSeconds());
+            Assertions.assertEquals(1, registry.get("bulkhead.rejected").counter().count());
+        } finally {
+            release.countDown();
+            bulkhead.shutdown();
+        }
+    }
+
+    private static CarRequest carRequest() {
+        return new CarRequest("Volvo", "XC40", "BH-11-BB-1111", "SUV", 2022, 1000, Money.parse("9999.99"));
+    }
+}
@@ -0,0 +1,163 @@
+package code.with.vanilson.common.cache;
+
+import code.with.vanilson.common.car.Car;
+import code.with.vanilson.common.car.CarChangedEvent;
+import code.with.vanilson.common.car.CarRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class CarInvalidationBusTest {
+
+    private final InMemoryInvalidationTransport transport = new InMemoryInvalidationTransport();
+    private final List<String> messages = new ArrayList<>();
+    private final RecordingCache nodeACache = new RecordingCache();
+    private final RecordingCache nodeBCache = new RecordingCache();
+    private final Cache nodeBHibernateCache = mock(Cache.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private CarInvalidationBus nodeA;
+    private CarInvalidationBus nodeB;
+
+    @BeforeEach
+    public void setUp() {
+        var properties = new CarCacheProperties.Invalidation();
+        // Flushed by hand, keep the background flusher out of the way
+        properties.setFlushInterval(Duration.ofHours(1));
+        properties.setMaxBatchSize(2);
+        transport.subscribe(messages::add);
+        nodeA = new CarInvalidationBus(transport, nodeACache, null, properties, registry);
+        nodeB = new CarInvalidationBus(transport, nodeBCache, nodeBHibernateCache, properties, registry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    public void changesAreEvictedOnOtherNodesOnly() {
+        nodeA.onCarChanged(new CarChangedEvent(1L, CarChangedEvent.Type.UPDATED));
+        nodeA.flush();
+
+        Assertions.assertEquals(List.of(1L), nodeBCache.evicted);
+        Assertions.assertTrue(nodeACache.evicted.isEmpty());
+        Assertions.assertEquals(1, registry.get("car.cache.invalidation.propagation").timer().count());
+        // Otherwise the reload on node B is answered from its own second-level cache
+        verify(nodeBHibernateCache).evictEntityData(Car.class, 1L);
+        verify(nodeBHibernateCache).evictQueryRegion(CarRepository.QUERY_CACHE_REGION);
+    }
+
+    @Test
+    public void repeatedChangesAreCoalescedAndBatched() {
+        for (int i = 0; i < 3; i++) {
+            nodeA.onCarChanged(new CarChangedEvent(1L, CarChangedEvent.Type.UPDATED));
+        }
+        nodeA.onCarChanged(new CarChangedEvent(2L, CarChangedEvent.Type.DELETED));
+        nodeA.onCarChanged(new CarChangedEvent(3L, CarChangedEvent.Type.DELETED));
+        nodeA.flush();
+
+        Assertions.assertEquals(2, messages.size());
+        Assertions.assertEquals(3, nodeBCache.evicted.size());
+        Assertions.assertTrue(nodeBCache.evicted.containsAll(List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    public void failedSendIsQueuedAgain() {
+        var down = new AtomicBoolean(true);
+        var flaky = new InMemoryInvalidationTransport() {
+            @Override
+            public void send(String payload) {
+                if (down.get()) {
+                    throw new IllegalStateException("channel down");
+                }
+                transport.send(payload);
+            }
+        };
+        var properties = new CarCacheProperties.Invalidation();
+        properties.setFlushInterval(Duration.ofHours(1));
+        try (var nodeC = new CarInvalidationBus(flaky, new RecordingCache(), null, properties, registry)) {
+            nodeC.onCarChanged(new CarChangedEvent(1L, CarChangedEvent.Type.UPDATED));
+
+            Assertions.assertThrows(IllegalStateException.class, nodeC::flush);
+            Assertions.assertTrue(nodeBCache.evicted.isEmpty());
+            Assertions.assertEquals(1, registry.get("car.cache.invalidation.flush.failures").counter().count());
+
+            down.set(false);
+            nodeC.flush();
+
+            Assertions.assertEquals(List.of(1L), nodeBCache.evicted);
+        }
+    }
+
+    @Test
+    public void lostMessagesEvictEverything() {
+        var lost = new ArrayList<Runnable>();
+        var lossy = new InMemoryInvalidationTransport() {
+            @Override
+            public void onMessagesLost(Runnable callback) {
+                lost.add(callback);
+            }
+        };
+        var cache = new RecordingCache();
+        var hibernateCache = mock(Cache.class);
+        try (var nodeC = new CarInvalidationBus(lossy, cache, hibernateCache, new CarCacheProperties.Invalidation(),
+                registry)) {
+            lost.forEach(Runnable::run);
+
+            Assertions.assertEquals(1, cache.cleared);
+            verify(hibernateCache).evictEntityData(Car.class);
+            verify(hibernateCache).evictQueryRegion(CarRepository.QUERY_CACHE_REGION);
+        }
+    }
+
+    @Test
+    public void creationsAreNotBroadcast() {
+        nodeA.onCarChanged(new CarChangedEvent(1L, CarChangedEvent.Type.CREATED));
+        nodeA.flush();
+
+        Assertions.assertTrue(messages.isEmpty());
+    }
+
+    private static class RecordingCache implements CarCache {
+        private final List<Long> evicted = new ArrayList<>();
+        private int cleared;
+
+        @Override
+        public Optional<CachedCar> get(long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public long sequence(long id) {
+            return 0L;
+        }
+
+        @Override
+        public void put(Car car, long sequence) {
+            // not needed
+        }
+
+        @Override
+        public void evict(long id) {
+            evicted.add(id);
+        }
+
+        @Override
+        public void clear() {
+            cleared++;
+        }
+    }
+}
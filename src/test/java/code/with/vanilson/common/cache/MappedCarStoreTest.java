@@ -0,0 +1,120 @@
+package code.with.vanilson.common.cache;
+
+import code.with.vanilson.common.car.Car;
+import code.with.vanilson.common.money.Money;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedCarStoreTest {
+
+    private static final int CAPACITY = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void carsSurviveReopeningTheImage() throws IOException {
+        var file = directory.resolve("cars.l2");
+        try (var store = new MappedCarStore(file, CAPACITY, "V1")) {
+            store.put(1L, CarBinaryCodec.encode(car(1L, "Volvo")), 42L);
+            store.put(2L, CarBinaryCodec.encode(car(2L, "Seat")), 43L);
+            store.remove(2L);
+        }
+
+        try (var store = new MappedCarStore(file, CAPACITY, "V1")) {
+            var cached = store.get(1L);
+            Assertions.assertEquals(car(1L, "Volvo"), cached.car());
+            Assertions.assertEquals(42L, cached.storedAt());
+            Assertions.assertNull(store.get(2L));
+            Assertions.assertEquals(1, store.size());
+        }
+    }
+
+    @Test
+    public void imageWithAnotherWatermarkIsDiscarded() throws IOException {
+        var file = directory.resolve("cars.l2");
+        try (var store = new MappedCarStore(file, CAPACITY, "V1")) {
+            store.put(1L, CarBinaryCodec.encode(car(1L, "Volvo")), 42L);
+        }
+
+        try (var store = new MappedCarStore(file, CAPACITY, "V2")) {
+            Assertions.assertNull(store.get(1L));
+            Assertions.assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    public void fullImageIsCompactedKeepingLatestState() throws IOException {
+        try (var store = new MappedCarStore(directory.resolve("cars.l2"), CAPACITY, "V1")) {
+            for (int i = 0; i < 500; i++) {
+                store.put(1L, CarBinaryCodec.encode(car(1L, "Volvo" + i)), i);
+            }
+
+            Assertions.assertEquals("Volvo499", store.get(1L).car().getBrandName());
+            Assertions.assertEquals(1, store.size());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -4, Integer.MAX_VALUE, 8})
+    public void imageWithCorruptRecordIsDiscarded(int length) throws IOException {
+        var file = directory.resolve("cars.l2");
+        try (var store = new MappedCarStore(file, CAPACITY, "V1")) {
+            store.put(1L, CarBinaryCodec.encode(car(1L, "Volvo")), 42L);
+            store.put(2L, CarBinaryCodec.encode(car(2L, "Seat")), 43L);
+        }
+        // Overwrite the length of the first record, right behind the 64 byte header
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, length), 64);
+        }
+
+        try (var store = new MappedCarStore(file, CAPACITY, "V1")) {
+            Assertions.assertEquals(0, store.size());
+            store.put(3L, CarBinaryCodec.encode(car(3L, "Fiat")), 44L);
+            Assertions.assertEquals("Fiat", store.get(3L).car().getBrandName());
+        }
+    }
+
+    @Test
+    public void imageWithUndecodableCarIsDiscarded() throws IOException {
+        var file = directory.resolve("cars.l2");
+        try (var store = new MappedCarStore(file, CAPACITY, "V1")) {
+            store.put(1L, CarBinaryCodec.encode(car(1L, "Volvo")), 42L);
+        }
+        // Scribble over the car bytes behind the 64 byte header and the 21 byte record header
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            var garbage = ByteBuffer.allocate(32);
+            while (garbage.hasRemaining()) {
+                garbage.put((byte) 0x7f);
+            }
+            channel.write(garbage.flip(), 64 + 21);
+        }
+
+        try (var store = new MappedCarStore(file, CAPACITY, "V1")) {
+            Assertions.assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    public void codecRoundTripsNullAttributes() {
+        var car = new Car();
+        car.setId(7L);
+
+        Assertions.assertEquals(car, CarBinaryCodec.decode(CarBinaryCodec.encode(car)));
+    }
+
+    private static Car car(long id, String brandName) {
+        var car = new Car(brandName, "Model", "AA-11-BB-1111", "Sedan", 2020, 1000, Money.parse("9999.99"));
+        car.setId(id);
+        return car;
+    }
+}
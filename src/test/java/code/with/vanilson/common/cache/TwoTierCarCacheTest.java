@@ -0,0 +1,77 @@
+package code.with.vanilson.common.cache;
+
+import code.with.vanilson.common.car.Car;
+import code.with.vanilson.common.money.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public class TwoTierCarCacheTest {
+
+    private static final int CAPACITY = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void putWithCurrentSequenceIsCached() throws IOException {
+        try (var cache = cache()) {
+            cache.put(car(1L, "Volvo"), cache.sequence(1L));
+
+            Assertions.assertEquals("Volvo", cache.get(1L).orElseThrow().car().getBrandName());
+        }
+    }
+
+    @Test
+    public void putOvertakenByAnEvictionIsDropped() throws IOException {
+        var file = directory.resolve("cars.l2");
+        try (var cache = cache(file)) {
+            long sequence = cache.sequence(1L);
+            // A concurrent update commits and evicts while the old row is being read
+            cache.evict(1L);
+            cache.put(car(1L, "Volvo"), sequence);
+
+            Assertions.assertTrue(cache.get(1L).isEmpty());
+        }
+        // Nor was it written to the image that outlives the restart
+        try (var cache = cache(file)) {
+            Assertions.assertTrue(cache.get(1L).isEmpty());
+        }
+    }
+
+    @Test
+    public void clearDropsEveryCarAndPendingPuts() throws IOException {
+        var file = directory.resolve("cars.l2");
+        try (var cache = cache(file)) {
+            cache.put(car(1L, "Volvo"), cache.sequence(1L));
+            long sequence = cache.sequence(2L);
+            cache.clear();
+            cache.put(car(2L, "Seat"), sequence);
+
+            Assertions.assertTrue(cache.get(1L).isEmpty());
+            Assertions.assertTrue(cache.get(2L).isEmpty());
+        }
+        try (var cache = cache(file)) {
+            Assertions.assertTrue(cache.get(1L).isEmpty());
+        }
+    }
+
+    private TwoTierCarCache cache() throws IOException {
+        return cache(directory.resolve("cars.l2"));
+    }
+
+    private static TwoTierCarCache cache(Path file) throws IOException {
+        return new TwoTierCarCache(new CarCacheProperties(), new MappedCarStore(file, CAPACITY, "V1"),
+                new SimpleMeterRegistry());
+    }
+
+    private static Car car(long id, String brandName) {
+        var car = new Car(brandName, "Model", "AA-11-BB-1111", "Sedan", 2020, 1000, Money.parse("9999.99"));
+        car.setId(id);
+        return car;
+    }
+}
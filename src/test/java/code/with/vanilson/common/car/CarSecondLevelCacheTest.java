@@ -0,0 +1,86 @@
+package code.with.vanilson.common.car;
+
+import code.with.vanilson.common.exceptions.ResourceNotFoundException;
+import code.with.vanilson.common.money.Money;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CarSecondLevelCacheTest {
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void repeatedLookupsAreServedFromTheSecondLevelCache() {
+        var created = carService.createCar(request("Volvo", "AA-11-BB-1111"));
+
+        // Straight to the repository, CarService answers repeated lookups from its own CarCache
+        carRepository.findCarById(created.getId());
+        carRepository.findCarById(created.getId());
+
+        Assertions.assertTrue(statistics.getCacheRegionStatistics(CarRepository.QUERY_CACHE_REGION).getHitCount() > 0);
+        Assertions.assertTrue(statistics.getCacheRegionStatistics(Car.CACHE_REGION).getHitCount() > 0);
+    }
+
+    @Test
+    public void updateThroughCarServiceInvalidatesCachedCar() {
+        var created = carService.createCar(request("Seat", "AA-22-BB-2222"));
+        Assertions.assertEquals("Seat", carService.findCarById(created.getId()).getBrandName());
+
+        carService.updateCar(created.getId(), request("Cupra", "AA-22-BB-2222"));
+
+        Assertions.assertEquals("Cupra", carService.findCarById(created.getId()).getBrandName());
+        Assertions.assertEquals("Cupra", carRepository.findCarById(created.getId()).orElseThrow().getBrandName());
+    }
+
+    @Test
+    public void deleteThroughCarServiceRemovesCachedCar() {
+        var created = carService.createCar(request("Audi", "AA-55-BB-5555"));
+        carService.findCarById(created.getId());
+
+        carService.deleteACarById(created.getId());
+
+        Assertions.assertThrows(ResourceNotFoundException.class, () -> carService.findCarById(created.getId()));
+    }
+
+    @Test
+    public void createThroughCarServiceInvalidatesCachedQueryResults() {
+        carService.createCar(request("Fiat", "AA-33-BB-3333"));
+        int before = carService.findAllCars().size();
+        Assertions.assertEquals(before, carService.findAllCars().size());
+
+        carService.createCar(request("Opel", "AA-44-BB-4444"));
+
+        Assertions.assertEquals(before + 1, carService.findAllCars().size());
+    }
+
+    private static CarRequest request(String brandName, String registrationNumber) {
+        return new CarRequest(brandName, "Model", registrationNumber, "Sedan", 2020, 1000, Money.parse("9999.99"));
+    }
+}
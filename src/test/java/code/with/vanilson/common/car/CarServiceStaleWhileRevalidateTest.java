@@ -0,0 +1,162 @@
+package code.with.vanilson.common.car;
+
+import code.with.vanilson.common.cache.CachedCar;
+import code.with.vanilson.common.cache.CarCache;
+import code.with.vanilson.common.cache.CarCacheInvalidator;
+import code.with.vanilson.common.cache.CarCacheProperties;
+import code.with.vanilson.common.cache.CarRevalidator;
+import code.with.vanilson.common.money.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CarServiceStaleWhileRevalidateTest {
+
+    private static final long ID = 1L;
+
+    private final Map<Long, CachedCar> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Long> sequences = new ConcurrentHashMap<>();
+    // Counted down once a put has been decided, stored or dropped
+    private final CountDownLatch puts = new CountDownLatch(1);
+    private CarRepository carRepository;
+    private CarService carService;
+    private CarCacheInvalidator carCacheInvalidator;
+
+    @BeforeEach
+    public void setUp() {
+        carRepository = mock(CarRepository.class);
+        var properties = new CarCacheProperties();
+        properties.setFreshFor(Duration.ofSeconds(30));
+        properties.setMaxStaleness(Duration.ofMinutes(15));
+        var carCache = new CarCache() {
+            @Override
+            public Optional<CachedCar> get(long id) {
+                return Optional.ofNullable(entries.get(id));
+            }
+
+            @Override
+            public long sequence(long id) {
+                return sequences.getOrDefault(id, 0L);
+            }
+
+            @Override
+            public void put(Car car, long sequence) {
+                if (sequence(car.getId()) == sequence) {
+                    entries.put(car.getId(), new CachedCar(car, System.currentTimeMillis()));
+                }
+                puts.countDown();
+            }
+
+            @Override
+            public void evict(long id) {
+                sequences.merge(id, 1L, Long::sum);
+                entries.remove(id);
+            }
+
+            @Override
+            public void clear() {
+                entries.keySet().forEach(this::evict);
+            }
+        };
+        carCacheInvalidator = new CarCacheInvalidator(carCache);
+        var revalidator = new CarRevalidator(carRepository, carCache, properties, new SimpleMeterRegistry());
+        carService = new CarService(carRepository, carCache, revalidator, properties,
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    public void freshEntryIsServedWithoutTouchingTheDatabase() {
+        cache(car("Volvo"), Duration.ofSeconds(5));
+
+        var lookup = carService.lookupCarById(ID);
+
+        Assertions.assertFalse(lookup.stale());
+        Assertions.assertEquals("Volvo", lookup.car().getBrandName());
+        verify(carRepository, never()).findCarById(ID);
+    }
+
+    @Test
+    public void staleEntryIsServedWhileRefreshingInTheBackground() {
+        cache(car("Volvo"), Duration.ofMinutes(5));
+        when(carRepository.findCarById(ID)).thenReturn(Optional.of(car("Cupra")));
+
+        var lookup = carService.lookupCarById(ID);
+
+        Assertions.assertTrue(lookup.stale());
+        Assertions.assertEquals("Volvo", lookup.car().getBrandName());
+        verify(carRepository, timeout(1_000)).findCarById(ID);
+    }
+
+    @Test
+    public void staleEntryIsServedWhenTheDatabaseIsDown() {
+        cache(car("Volvo"), Duration.ofMinutes(5));
+        when(carRepository.findCarById(ID)).thenThrow(new DataAccessResourceFailureException("failover"));
+
+        Assertions.assertEquals("Volvo", carService.findCarById(ID).getBrandName());
+        verify(carRepository, timeout(1_000)).findCarById(ID);
+        Assertions.assertEquals("Volvo", carService.findCarById(ID).getBrandName());
+    }
+
+    @Test
+    public void entryPastMaxStalenessIsReloaded() {
+        cache(car("Volvo"), Duration.ofHours(1));
+        when(carRepository.findCarById(ID)).thenReturn(Optional.of(car("Cupra")));
+
+        var lookup = carService.lookupCarById(ID);
+
+        Assertions.assertFalse(lookup.stale());
+        Assertions.assertEquals("Cupra", lookup.car().getBrandName());
+    }
+
+    @Test
+    public void refreshOvertakenByAnUpdateIsNotCached() throws InterruptedException {
+        cache(car("Volvo"), Duration.ofMinutes(5));
+        when(carRepository.findCarById(ID)).thenAnswer(invocation -> {
+            carCacheInvalidator.onCarChanged(new CarChangedEvent(ID, CarChangedEvent.Type.UPDATED));
+            return Optional.of(car("Volvo"));
+        });
+
+        Assertions.assertTrue(carService.lookupCarById(ID).stale());
+        // The mock records the call before its answer runs, wait for the refresh to reach the cache instead
+        Assertions.assertTrue(puts.await(1, TimeUnit.SECONDS));
+        Assertions.assertFalse(entries.containsKey(ID));
+    }
+
+    @Test
+    public void loadOvertakenByAnUpdateIsNotCached() {
+        when(carRepository.findCarById(ID)).thenAnswer(invocation -> {
+            // The update commits and its eviction runs while the old row is on its way back
+            carCacheInvalidator.onCarChanged(new CarChangedEvent(ID, CarChangedEvent.Type.UPDATED));
+            return Optional.of(car("Volvo"));
+        });
+
+        Assertions.assertEquals("Volvo", carService.findCarById(ID).getBrandName());
+        Assertions.assertFalse(entries.containsKey(ID));
+    }
+
+    private void cache(Car car, Duration age) {
+        entries.put(car.getId(), new CachedCar(car, System.currentTimeMillis() - age.toMillis()));
+    }
+
+    private static Car car(String brandName) {
+        var car = new Car(brandName, "Model", "AA-11-BB-1111", "Sedan", 2020, 1000, Money.parse("9999.99"));
+        car.setId(ID);
+        return car;
+    }
+}
@@ -0,0 +1,173 @@
+package code.with.vanilson.common.car;
+
+import code.with.vanilson.common.car.grpc.CarProtoMapper;
+import code.with.vanilson.common.car.grpc.CarProtos;
+import code.with.vanilson.common.money.Money;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CarWireFormatBenchmark
+ * <p>
+ * Cost of putting a fleet on the wire and reading it back: the HAL body {@code GET /api/cars} answers with (links
+ * built per car, as the controller does) in each negotiable format, JSON, CBOR and Smile, against the
+ * length-delimited protobuf messages the gRPC {@code List} stream sends. Payload sizes are printed once per trial.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-04
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CarWireFormatBenchmark {
+
+    private static final String CARS_URI = "http://localhost:8081/api/cars";
+    private static final String[] BRANDS = {"Volvo", "Renault", "Peugeot", "Toyota", "Volkswagen", "Mercedes-Benz"};
+    private static final String[] TYPES = {"SUV", "Sedan", "Hatchback", "Van"};
+
+    @Param({"100", "10000"})
+    private int fleetSize;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+    private List<Car> fleet;
+    private byte[] json;
+    private byte[] cbor;
+    private byte[] smile;
+    private byte[] protobuf;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        jsonMapper = halMapper(new JsonFactory());
+        cborMapper = halMapper(new CBORFactory());
+        smileMapper = halMapper(new SmileFactory());
+        fleet = fleet(fleetSize);
+        json = encodeJson();
+        cbor = encodeCbor();
+        smile = encodeSmile();
+        protobuf = encodeProtobuf();
+        System.out.printf("%n%d cars: json=%d bytes, cbor=%d bytes, smile=%d bytes, protobuf=%d bytes%n",
+                fleetSize, json.length, cbor.length, smile.length, protobuf.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return jsonMapper.writeValueAsBytes(withLinks(fleet));
+    }
+
+    @Benchmark
+    public List<CarResponse> decodeJson() throws IOException {
+        return decode(jsonMapper, json);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws IOException {
+        return cborMapper.writeValueAsBytes(withLinks(fleet));
+    }
+
+    @Benchmark
+    public List<CarResponse> decodeCbor() throws IOException {
+        return decode(cborMapper, cbor);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() throws IOException {
+        return smileMapper.writeValueAsBytes(withLinks(fleet));
+    }
+
+    @Benchmark
+    public List<CarResponse> decodeSmile() throws IOException {
+        return decode(smileMapper, smile);
+    }
+
+    @Benchmark
+    public byte[] encodeProtobuf() throws IOException {
+        var out = new ByteArrayOutputStream(fleet.size() * 64);
+        for (var car : fleet) {
+            CarProtoMapper.toProto(CarMapper.toResponse(car)).writeDelimitedTo(out);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public List<CarProtos.Car> decodeProtobuf() throws IOException {
+        var in = new ByteArrayInputStream(protobuf);
+        var cars = new ArrayList<CarProtos.Car>(fleetSize);
+        CarProtos.Car car;
+        while ((car = CarProtos.Car.parseDelimitedFrom(in)) != null) {
+            cars.add(car);
+        }
+        return cars;
+    }
+
+    private static ObjectMapper halMapper(JsonFactory factory) {
+        var mapper = new ObjectMapper(factory).registerModule(new Jackson2HalModule());
+        mapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        return mapper;
+    }
+
+    private static List<CarResponse> withLinks(List<Car> fleet) {
+        var responses = new ArrayList<CarResponse>(fleet.size());
+        for (var car : fleet) {
+            var response = CarMapper.toResponse(car);
+            response.add(Link.of(CARS_URI + "/" + car.getId()).withSelfRel());
+            response.add(Link.of(CARS_URI).withRel(CarController.CARS));
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private static List<CarResponse> decode(ObjectMapper mapper, byte[] body) throws IOException {
+        return mapper.readValue(body, new TypeReference<>() {
+        });
+    }
+
+    static List<Car> fleet(int size) {
+        // Fixed seed, every format and every run sees the same fleet
+        var random = new Random(42);
+        var cars = new ArrayList<Car>(size);
+        for (int i = 1; i <= size; i++) {
+            var registration = String.format("%c%c-%02d-%c%c-%04d",
+                    'A' + random.nextInt(26), 'A' + random.nextInt(26), random.nextInt(100),
+                    'A' + random.nextInt(26), 'A' + random.nextInt(26), random.nextInt(10_000));
+            cars.add(new Car((long) i, BRANDS[random.nextInt(BRANDS.length)], "Model " + random.nextInt(50),
+                    registration, TYPES[random.nextInt(TYPES.length)], 1990 + random.nextInt(33),
+                    random.nextInt(400_000), Money.ofMinor(random.nextInt(100_000, 999_999))));
+        }
+        return cars;
+    }
+}
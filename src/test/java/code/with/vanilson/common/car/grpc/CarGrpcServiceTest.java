@@ -0,0 +1,120 @@
+package code.with.vanilson.common.car.grpc;
+
+import code.with.vanilson.common.car.CarRequest;
+import code.with.vanilson.common.car.CarService;
+import code.with.vanilson.common.exceptions.ResourceConflictException;
+import code.with.vanilson.common.exceptions.ResourceUnavailableException;
+import code.with.vanilson.common.money.Money;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(properties = {"app.grpc.enabled=true", "app.grpc.port=0"})
+@ActiveProfiles("test")
+public class CarGrpcServiceTest {
+
+    @Autowired
+    private CarGrpcServer carGrpcServer;
+
+    @Autowired
+    private CarService carService;
+
+    private ManagedChannel channel;
+    private CarsGrpc.CarsBlockingStub cars;
+
+    @BeforeEach
+    public void connect() {
+        channel = ManagedChannelBuilder.forAddress("localhost", carGrpcServer.getPort()).usePlaintext().build();
+        cars = CarsGrpc.newBlockingStub(channel).withDeadlineAfter(10, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    public void disconnect() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void getAndGetManyMirrorTheRestLookups() {
+        var car = carService.createCar(carRequest("AB-12-CD-1001"));
+
+        var found = cars.get(CarProtos.GetCarRequest.newBuilder().setId(car.getId()).build());
+        Assertions.assertEquals("AB-12-CD-1001", found.getRegistrationNumber());
+        Assertions.assertEquals("9999.99", found.getPrice());
+
+        var many = cars.getMany(CarProtos.GetManyCarsRequest.newBuilder()
+                .addIds(987_654L).addIds(car.getId()).addIds(car.getId())
+                .build());
+        Assertions.assertEquals(List.of(car.getId(), car.getId()),
+                many.getCarsList().stream().map(CarProtos.Car::getId).toList());
+        Assertions.assertEquals(List.of(987_654L), many.getMissingIdsList());
+    }
+
+    @Test
+    public void listStreamsEveryCarInIdOrder() {
+        var first = carService.createCar(carRequest("AB-12-CD-2001"));
+        var second = carService.createCar(carRequest("AB-12-CD-2002"));
+
+        var ids = new ArrayList<Long>();
+        cars.list(CarProtos.ListCarsRequest.getDefaultInstance()).forEachRemaining(car -> ids.add(car.getId()));
+
+        Assertions.assertTrue(ids.containsAll(List.of(first.getId(), second.getId())));
+        Assertions.assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    public void createValidatesLikeTheRestEndpoint() {
+        var created = cars.create(CarProtos.CarRequest.newBuilder()
+                .setBrandName("Volvo").setModelName("XC60").setRegistrationNumber("AB-12-CD-3001")
+                .setCarType("SUV").setYear(2020).setKilometres(15000).setPrice("9999.99")
+                .build());
+        Assertions.assertEquals("AB-12-CD-3001", carService.findCarById(created.getId()).getRegistrationNumber());
+
+        var invalid = Assertions.assertThrows(StatusRuntimeException.class, () -> cars.create(
+                CarProtos.CarRequest.newBuilder().setBrandName("Volvo").setYear(1800).build()));
+        Assertions.assertEquals(Status.Code.INVALID_ARGUMENT, invalid.getStatus().getCode());
+    }
+
+    @Test
+    public void resourceExceptionsMapToGrpcStatuses() {
+        var notFound = Assertions.assertThrows(StatusRuntimeException.class,
+                () -> cars.get(CarProtos.GetCarRequest.newBuilder().setId(987_654L).build()));
+        Assertions.assertEquals(Status.Code.NOT_FOUND, notFound.getStatus().getCode());
+
+        var badId = Assertions.assertThrows(StatusRuntimeException.class,
+                () -> cars.getMany(CarProtos.GetManyCarsRequest.newBuilder().addIds(0L).build()));
+        Assertions.assertEquals(Status.Code.INVALID_ARGUMENT, badId.getStatus().getCode());
+
+        Assertions.assertEquals(Status.Code.ABORTED,
+                GrpcStatuses.toStatusException(new ResourceConflictException("conflict")).getStatus().getCode());
+        var shed = GrpcStatuses.toStatusException(new ResourceUnavailableException("busy", 2));
+        Assertions.assertEquals(Status.Code.UNAVAILABLE, shed.getStatus().getCode());
+        Assertions.assertEquals("2000", shed.getTrailers().get(GrpcStatuses.RETRY_PUSHBACK));
+        Assertions.assertEquals("busy", shed.getStatus().getDescription());
+    }
+
+    @Test
+    public void internalErrorsDoNotLeakTheirMessage() {
+        var internal = GrpcStatuses.toStatusException(
+                new DataIntegrityViolationException("duplicate key value violates unique constraint \"cars_reg_no\""));
+
+        Assertions.assertEquals(Status.Code.INTERNAL, internal.getStatus().getCode());
+        Assertions.assertEquals(GrpcStatuses.INTERNAL_DESCRIPTION, internal.getStatus().getDescription());
+    }
+
+    private static CarRequest carRequest(String registrationNumber) {
+        return new CarRequest("Volvo", "XC60", registrationNumber, "SUV", 2020, 15000, Money.parse("9999.99"));
+    }
+}
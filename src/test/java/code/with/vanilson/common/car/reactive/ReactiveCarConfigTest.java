@@ -0,0 +1,57 @@
+package code.with.vanilson.common.car.reactive;
+
+import code.with.vanilson.common.car.CarRequest;
+import code.with.vanilson.common.car.CarService;
+import code.with.vanilson.common.exceptions.ResourceNotFoundException;
+import code.with.vanilson.common.money.Money;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.sql.DataSource;
+
+@SpringBootTest(properties = {
+        "app.reactive.enabled=true",
+        "app.reactive.port=0",
+        // Same in-memory database as the JDBC DataSource of the test profile
+        "app.reactive.url=r2dbc:h2:mem:///testdb",
+        "app.reactive.username=sa",
+        "app.reactive.password=password"
+})
+@ActiveProfiles("test")
+public class ReactiveCarConfigTest {
+
+    @Autowired
+    private ReactiveCarServer reactiveCarServer;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void reactiveStackServesTheCarsOfTheServletStack() {
+        Assertions.assertNotNull(dataSource, "the R2DBC pool must not replace the JDBC DataSource");
+        var client = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveCarServer.getPort())
+                .build();
+        var car = carService.createCar(new CarRequest("Volvo", "XC60", "AB-12-CD-3456", "SUV", 2020, 15000,
+                Money.parse("9999.99")));
+        // Cached by the servlet stack before the reactive stack deletes it
+        Assertions.assertEquals(car.getId(), carService.findCarById(car.getId()).getId());
+
+        client.get().uri("/api/cars/{id}", car.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.registrationNumber").isEqualTo("AB-12-CD-3456");
+        client.delete().uri("/api/cars/delete-car/{id}", car.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        Assertions.assertThrows(ResourceNotFoundException.class, () -> carService.findCarById(car.getId()));
+    }
+}
@@ -0,0 +1,215 @@
+package code.with.vanilson.common.car.reactive;
+
+import code.with.vanilson.common.car.CarChangedEvent;
+import code.with.vanilson.common.car.CarErrorCodes;
+import code.with.vanilson.common.car.CarRequest;
+import code.with.vanilson.common.car.CarResponse;
+import code.with.vanilson.common.exceptions.handle.ErrorCodeRegistry;
+import code.with.vanilson.common.exceptions.handle.ErrorMetrics;
+import code.with.vanilson.common.money.Money;
+import code.with.vanilson.common.utils.CoarseClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.mockito.Mockito.mock;
+
+public class ReactiveCarServerTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoarseClock clock = new CoarseClock(Duration.ofMillis(10), ZoneId.of("Europe/Lisbon"));
+    private DatabaseClient databaseClient;
+    private ReactiveCarRepository repository;
+    private ReactiveCarServer server;
+    private WebTestClient client;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void startServer() {
+        var connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///reactive-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        databaseClient = DatabaseClient.create(connectionFactory);
+        databaseClient
+                .sql("CREATE TABLE cars (id BIGINT AUTO_INCREMENT PRIMARY KEY, brand_name VARCHAR(255) NOT NULL, "
+                        + "model_name VARCHAR(255) NOT NULL, reg_no VARCHAR(255) NOT NULL, "
+                        + "car_type VARCHAR(255) NOT NULL, yr INT NOT NULL, kms INT NOT NULL, "
+                        + "price NUMERIC(6, 2) NOT NULL)")
+                .then()
+                .block();
+        repository = new ReactiveCarRepository(connectionFactory, 2);
+        var handler = new ReactiveCarHandler(repository, Validation.buildDefaultValidatorFactory().getValidator(),
+                events::add, null);
+        var objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        var errorHandler = new ReactiveErrorHandler(
+                new ErrorCodeRegistry(List.of(new CarErrorCodes()), mock(ObjectProvider.class)),
+                new ErrorMetrics(meterRegistry), objectMapper, clock);
+        server = new ReactiveCarServer(0, handler, errorHandler, objectMapper);
+        server.start();
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + server.getPort()).build();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop();
+        repository.destroy();
+        clock.close();
+    }
+
+    @Test
+    public void carsAreCreatedAndReadBackWithTheServletContract() {
+        var created = client.post().uri("/api/cars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(carRequest("AB-12-CD-3456"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals("Location", "http://localhost:" + server.getPort()
+                        + "/api/cars/AB-12-CD-3456")
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+        Assertions.assertNotNull(created);
+        var id = ((Number) created.get("id")).longValue();
+
+        client.get().uri("/api/cars/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.brandName").isEqualTo("Volvo")
+                .jsonPath("$.price").isEqualTo(9999.99)
+                .jsonPath("$._links.self.href").isEqualTo("http://localhost:" + server.getPort() + "/api/cars/" + id)
+                .jsonPath("$._links.cars.href").isEqualTo("http://localhost:" + server.getPort() + "/api/cars");
+        Assertions.assertEquals(List.of(new CarChangedEvent(id, CarChangedEvent.Type.CREATED)), events);
+    }
+
+    @Test
+    public void listsStreamAsJsonArrayOrNdjson() {
+        for (int i = 0; i < 5; i++) {
+            client.post().uri("/api/cars")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(carRequest("AB-12-CD-000" + i))
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+
+        client.get().uri("/api/cars")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(5)
+                .jsonPath("$[4].registrationNumber").isEqualTo("AB-12-CD-0004");
+
+        Flux<CarResponse> streamed = client.get().uri("/api/cars")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(CarResponse.class)
+                .getResponseBody();
+        // Taking the first cars cancels the rest of the stream
+        Assertions.assertEquals(List.of("AB-12-CD-0000", "AB-12-CD-0001"),
+                streamed.take(2).map(CarResponse::getRegistrationNumber).collectList().block());
+    }
+
+    @Test
+    public void errorsUseTheSharedErrorResponse() {
+        client.get().uri("/api/cars/42")
+                .header("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("NOT_FOUND")
+                .jsonPath("$.errorCode").isEqualTo(404)
+                .jsonPath("$.path").isEqualTo("/api/cars/42")
+                .jsonPath("$.code").isEqualTo("CAR_INVALID_DATA")
+                .jsonPath("$.traceId").isEqualTo(TRACE_ID)
+                .jsonPath("$.zone").isEqualTo("Europe/Lisbon");
+
+        client.get().uri("/api/cars/0")
+                .header("Time-Zone", "Asia/Tokyo")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectHeader().exists("Date")
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("CAR_INVALID_DATA")
+                .jsonPath("$.zone").isEqualTo("Asia/Tokyo");
+
+        client.post().uri("/api/cars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(carRequest("not a plate"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("Invalid input data.");
+
+        client.get().uri("/api/trucks")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.code").isEqualTo("UNKNOWN_ERROR");
+
+        Assertions.assertEquals(1.0, meterRegistry.get("http.server.errors")
+                .tags("exception", "ResourceNotFoundException", "status", "404", "route", "/api/cars/{id}")
+                .counter().count());
+    }
+
+    @Test
+    public void serverErrorsDoNotLeakTheirMessage() {
+        databaseClient.sql("DROP TABLE cars").then().block();
+
+        client.get().uri("/api/cars/42")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR)
+                .expectBody().jsonPath("$.message").isEqualTo("An unexpected error occurred");
+    }
+
+    @Test
+    public void updatesAndDeletesReportMissingCars() {
+        client.put().uri("/api/cars/update-car/7")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(carRequest("AB-12-CD-3456"))
+                .exchange()
+                .expectStatus().isNotFound();
+
+        var id = client.post().uri("/api/cars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(carRequest("AB-12-CD-3456"))
+                .exchange()
+                .returnResult(CarResponse.class)
+                .getResponseBody()
+                .blockFirst()
+                .getId();
+
+        client.delete().uri("/api/cars/delete-car/{id}", id)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NO_CONTENT);
+        client.delete().uri("/api/cars/delete-car/{id}", id)
+                .exchange()
+                .expectStatus().isNotFound();
+        Assertions.assertEquals(new CarChangedEvent(id, CarChangedEvent.Type.DELETED), events.get(events.size() - 1));
+    }
+
+    private static CarRequest carRequest(String registrationNumber) {
+        return new CarRequest("Volvo", "XC60", registrationNumber, "SUV", 2020, 15000, Money.parse("9999.99"));
+    }
+}
@@ -0,0 +1,112 @@
+package code.with.vanilson.common.exceptions;
+
+import code.with.vanilson.common.utils.MessageProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResourceExceptionBenchmark
+ * <p>
+ * Throw-and-catch cost of a 404 with and without stack capture. The exception is thrown {@code depth} frames below
+ * the catch site to stand in for the servlet, filter and proxy frames sitting above a controller. The formatted and
+ * keyed variants compare formatting the message before throwing with leaving it to whoever reads it, which for a
+ * 404 nobody renders is never.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-09-25
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceExceptionBenchmark {
+
+    private static final ResourceNotFoundException SHARED = ResourceNotFoundException.shared("car.not_found");
+
+    @Param({"10", "100"})
+    private int depth;
+
+    @Param({"false", "true"})
+    private boolean stackless;
+
+    private boolean previous;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        previous = ResourceException.isStackless();
+        ResourceException.setStackless(stackless);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ResourceException.setStackless(previous);
+    }
+
+    @Benchmark
+    public Object throwNew() {
+        try {
+            return descend(depth, Kind.NEW);
+        } catch (ResourceNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object throwShared() {
+        try {
+            return descend(depth, Kind.SHARED);
+        } catch (ResourceNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object throwFormatted() {
+        try {
+            return descend(depth, Kind.FORMATTED);
+        } catch (ResourceNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object throwKeyed() {
+        try {
+            return descend(depth, Kind.KEYED);
+        } catch (ResourceNotFoundException e) {
+            return e;
+        }
+    }
+
+    private static Object descend(int remaining, Kind kind) {
+        if (remaining == 0) {
+            throw switch (kind) {
+                case NEW -> new ResourceNotFoundException("Car with id 42 not found");
+                case SHARED -> SHARED;
+                case FORMATTED -> new ResourceNotFoundException(MessageProvider.getMessage("car.not_found", 42L));
+                case KEYED -> ResourceNotFoundException.of("car.not_found", 42L);
+            };
+        }
+        return descend(remaining - 1, kind);
+    }
+
+    private enum Kind {
+        NEW, SHARED, FORMATTED, KEYED
+    }
+}
@@ -0,0 +1,69 @@
+package code.with.vanilson.common.exceptions;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+public class ResourceExceptionTest {
+
+    private boolean previous;
+
+    @BeforeEach
+    public void rememberMode() {
+        previous = ResourceException.isStackless();
+    }
+
+    @AfterEach
+    public void restoreMode() {
+        ResourceException.setStackless(previous);
+    }
+
+    @Test
+    public void clientErrorsSkipTheStackTraceInStacklessMode() {
+        ResourceException.setStackless(true);
+        Assertions.assertEquals(0, new ResourceNotFoundException("car.not_found").getStackTrace().length);
+        // Load shedding is a 503 but stackless on purpose
+        Assertions.assertEquals(0, ResourceUnavailableException.of(1, "request.overloaded", 1).getStackTrace().length);
+
+        ResourceException.setStackless(false);
+        Assertions.assertTrue(new ResourceNotFoundException("car.not_found").getStackTrace().length > 0);
+    }
+
+    @Test
+    public void serverErrorsAlwaysKeepTheirStackTrace() {
+        ResourceException.setStackless(true);
+        Assertions.assertTrue(new ResourceDatabaseException("db.down").getStackTrace().length > 0);
+        Assertions.assertTrue(new InternalServerErrorException("boom").getStackTrace().length > 0);
+    }
+
+    @Test
+    public void sharedInstancesAreImmutable() {
+        var shared = ResourceBadRequestException.shared("car.null_data");
+        shared.addSuppressed(new IllegalStateException("ignored"));
+        shared.setStackTrace(new StackTraceElement[]{new StackTraceElement("A", "b", "C.java", 1)});
+
+        Assertions.assertEquals(0, shared.getSuppressed().length);
+        Assertions.assertEquals(0, shared.getStackTrace().length);
+        Assertions.assertEquals("car.null_data", shared.getMessageKey());
+        Assertions.assertEquals("The car object cannot be null, please provide valid car data.", shared.getMessage());
+        Assertions.assertEquals("not a key", ResourceNotFoundException.shared("not a key").getMessage());
+    }
+
+    @Test
+    public void keyedMessagesAreRenderedWhenReadInTheAskedLocale() {
+        var ex = ResourceNotFoundException.of("car.not_found", 42L);
+
+        Assertions.assertEquals("car.not_found", ex.getMessageKey());
+        Assertions.assertArrayEquals(new Object[]{42L}, ex.getMessageArgs());
+        Assertions.assertEquals("O carro com o ID 42 n\u00e3o foi encontrado.", ex.getMessage(new Locale("pt", "PT")));
+        Assertions.assertEquals("The car with ID 42 was not found.", ex.getMessage(Locale.ENGLISH));
+        Assertions.assertEquals("plain text", new ResourceConflictException("plain text").getMessage(Locale.ENGLISH));
+
+        var shed = ResourceUnavailableException.of(3, "request.overloaded", 3);
+        Assertions.assertEquals(3, shed.getRetryAfterSeconds());
+        Assertions.assertTrue(ResourceDatabaseException.of("db.down").getStackTrace().length > 0);
+    }
+}
@@ -0,0 +1,48 @@
+package code.with.vanilson.common.exceptions.handle;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+public class ErrorCodeRegistryTest {
+
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<RequestMappingInfoHandlerMapping> handlerMappings = mock(ObjectProvider.class);
+
+    @Test
+    public void longestRegisteredPrefixWins() {
+        var registry = new ErrorCodeRegistry(List.of(
+                registrar -> registrar.register("/api/cars", "CAR"),
+                registrar -> registrar.register("/api/cars/{id}/fines/", "FINE")), handlerMappings);
+
+        Assertions.assertEquals("CAR", registry.codeForTemplate("/api/cars"));
+        Assertions.assertEquals("CAR", registry.codeForTemplate("/api/cars/{id}"));
+        Assertions.assertEquals("FINE", registry.codeForTemplate("/api/cars/{id}/fines/{fineId}"));
+        Assertions.assertEquals("UNKNOWN_ERROR", registry.codeForTemplate("/api/carsharing"));
+    }
+
+    @Test
+    public void requestsAreResolvedThroughTheMatchedRouteTemplate() {
+        var registry = new ErrorCodeRegistry(List.of(registrar -> registrar.register("/api/cars", "CAR")),
+                handlerMappings);
+        var request = new MockHttpServletRequest("GET", "/api/cars/42");
+
+        Assertions.assertEquals("UNKNOWN_ERROR", registry.codeFor(request));
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/cars/{id}");
+        Assertions.assertEquals("CAR", registry.codeFor(request));
+    }
+
+    @Test
+    public void conflictingRegistrationsAreRejected() {
+        Assertions.assertThrows(IllegalStateException.class, () -> new ErrorCodeRegistry(List.of(
+                registrar -> registrar.register("/api/cars", "CAR"),
+                registrar -> registrar.register("/api/cars/", "VEHICLE")), handlerMappings));
+    }
+}
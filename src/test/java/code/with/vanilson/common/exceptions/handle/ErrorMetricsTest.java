@@ -0,0 +1,45 @@
+package code.with.vanilson.common.exceptions.handle;
+
+import code.with.vanilson.common.exceptions.ResourceBadRequestException;
+import code.with.vanilson.common.exceptions.ResourceNotFoundException;
+import code.with.vanilson.common.https.trace.TraceFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class ErrorMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ErrorMetrics errorMetrics = new ErrorMetrics(registry);
+
+    @Test
+    public void errorsAreTaggedWithExceptionStatusAndRouteTemplate() {
+        var request = new MockHttpServletRequest("GET", "/api/cars/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/cars/{id}");
+        request.setAttribute(TraceFilter.REQUEST_START, System.nanoTime());
+
+        errorMetrics.record(new ResourceNotFoundException("car.not_found"), 404, request);
+        errorMetrics.record(new ResourceNotFoundException("car.not_found"), 404, request);
+        errorMetrics.record(new ResourceBadRequestException("car.invalid_data"), 400, request);
+
+        var notFound = registry.get("http.server.errors")
+                .tags("exception", "ResourceNotFoundException", "status", "404", "route", "/api/cars/{id}");
+        Assertions.assertEquals(2, notFound.counter().count());
+        Assertions.assertEquals(2, registry.get("http.server.errors.latency")
+                .tags("exception", "ResourceNotFoundException").timer().count());
+        Assertions.assertEquals(1, registry.get("http.server.errors")
+                .tags("exception", "ResourceBadRequestException", "status", "400").counter().count());
+    }
+
+    @Test
+    public void rawPathsAreNeverUsedAsTags() {
+        errorMetrics.record(new IllegalStateException("boom"), 500, new MockHttpServletRequest("GET", "/a/b"));
+
+        var errors = registry.get("http.server.errors").tags("exception", "IllegalStateException").counter();
+        Assertions.assertEquals(ErrorMetrics.UNKNOWN_ROUTE, errors.getId().getTag("route"));
+        // Not timed without the trace filter's start time
+        Assertions.assertEquals(0, registry.get("http.server.errors.latency").timer().count());
+    }
+}
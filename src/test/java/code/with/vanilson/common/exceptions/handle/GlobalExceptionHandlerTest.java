@@ -0,0 +1,95 @@
+package code.with.vanilson.common.exceptions.handle;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.ZoneId;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class GlobalExceptionHandlerTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GlobalExceptionHandler globalExceptionHandler;
+
+    @Test
+    public void carErrorsCarryTheCarErrorCodeAndTheRequestTraceId() throws Exception {
+        mockMvc.perform(get("/api/cars/{id}", 987_654)
+                        .header("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("CAR_INVALID_DATA"))
+                .andExpect(jsonPath("$.path").value("/api/cars/987654"))
+                .andExpect(jsonPath("$.traceId").value(TRACE_ID));
+
+        mockMvc.perform(get("/api/cars/{id}", 0))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("CAR_INVALID_DATA"));
+    }
+
+    @Test
+    public void resourceMessagesFollowAcceptLanguage() throws Exception {
+        mockMvc.perform(get("/api/cars/{id}", 987_654).header("Accept-Language", "pt-PT,pt;q=0.9,en;q=0.5"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("O carro com o ID 987\u00a0654 n\u00e3o foi encontrado."));
+
+        mockMvc.perform(get("/api/cars/{id}", 987_654).header("Accept-Language", "en-US"))
+                .andExpect(jsonPath("$.message").value("The car with ID 987,654 was not found."));
+
+        mockMvc.perform(get("/api/cars/{id}", 0).header("Accept-Language", "fr-FR"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Car ID 0 cannot be equal to zero or less."));
+    }
+
+    @Test
+    public void timestampsFollowTheTimeZoneHeader() throws Exception {
+        mockMvc.perform(get("/api/cars/{id}", 987_654).header("Time-Zone", "Asia/Tokyo"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().exists("Date"))
+                .andExpect(jsonPath("$.zone").value("Asia/Tokyo"))
+                .andExpect(jsonPath("$.timestamp").isString());
+
+        mockMvc.perform(get("/api/cars/{id}", 987_654).header("Time-Zone", "Mars/Olympus_Mons"))
+                .andExpect(jsonPath("$.zone").value(ZoneId.systemDefault().getId()));
+    }
+
+    @Test
+    public void frameworkErrorsKeepTheirStatus() throws Exception {
+        mockMvc.perform(get("/api/no-such-resource"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("UNKNOWN_ERROR"));
+
+        mockMvc.perform(delete("/api/cars"))
+                .andExpect(status().isMethodNotAllowed());
+    }
+
+    @Test
+    public void serverErrorsDoNotLeakTheirMessage() {
+        var request = new MockHttpServletRequest("POST", "/api/cars");
+        var response = globalExceptionHandler.handleGeneralException(
+                new DataIntegrityViolationException("duplicate key value violates unique constraint \"cars_pkey\""),
+                request);
+
+        Assertions.assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        Assertions.assertEquals("An unexpected error occurred", response.getBody().getMessage());
+    }
+}
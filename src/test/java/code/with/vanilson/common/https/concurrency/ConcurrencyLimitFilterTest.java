@@ -0,0 +1,129 @@
+package code.with.vanilson.common.https.concurrency;
+
+import code.with.vanilson.common.exceptions.ResourceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Exception> shed = new ArrayList<>();
+    private final HandlerExceptionResolver resolver = (request, response, handler, ex) -> {
+        shed.add(ex);
+        return new ModelAndView();
+    };
+
+    @Test
+    public void requestsOverTheLimitAreShedWithRetryAfter() throws Exception {
+        var filter = filter(routeClass(1, 1, 1));
+        var inner = new ArrayList<Integer>();
+
+        // The second request arrives while the first one still holds the only permit
+        call(filter, "/api/cars/1", (req, res) -> {
+            call(filter, "/api/cars/2", (r, s) -> inner.add(1));
+            call(filter, "/actuator/health", (r, s) -> inner.add(2));
+        });
+        call(filter, "/api/cars/3", (req, res) -> inner.add(3));
+
+        Assertions.assertEquals(List.of(2, 3), inner);
+        Assertions.assertEquals(1, shed.size());
+        Assertions.assertEquals(1, ((ResourceUnavailableException) shed.get(0)).getRetryAfterSeconds());
+        Assertions.assertEquals(1, registry.get("http.server.concurrency.shed").tag("class", "cars").counter().count());
+        Assertions.assertEquals(0, registry.get("http.server.concurrency.inflight").gauge().value());
+    }
+
+    @Test
+    public void classesRestrictedToAMethodLeaveOtherMethodsAlone() throws Exception {
+        var bulk = routeClass(1, 1, 1);
+        bulk.setName("bulk");
+        bulk.setPatterns(List.of("/api/cars"));
+        bulk.setMethods(List.of("get"));
+        var filter = filter(bulk);
+        var inner = new ArrayList<String>();
+
+        // A create arriving while the listing holds the only bulk permit is not the bulk class's business
+        call(filter, "/api/cars", (req, res) -> {
+            call(filter, "GET", "/api/cars", (r, s) -> inner.add("list"));
+            call(filter, "POST", "/api/cars", (r, s) -> inner.add("create"));
+        });
+
+        Assertions.assertEquals(List.of("create"), inner);
+        Assertions.assertEquals(1, shed.size());
+    }
+
+    @Test
+    public void limitGrowsWhileLatencyHoldsAndShrinksWhenItRises() {
+        var limit = new GradientLimit(routeClass(10, 2, 100));
+
+        for (int i = 0; i < 50; i++) {
+            saturateAndRelease(limit, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        int grown = limit.limit();
+        Assertions.assertTrue(grown > 10, "limit " + grown);
+
+        // Queueing shows up as a jump in latency, the long-term baseline only adapts to it slowly
+        for (int i = 0; i < 2; i++) {
+            saturateAndRelease(limit, TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        Assertions.assertTrue(limit.limit() < grown, "limit " + limit.limit());
+        Assertions.assertTrue(limit.limit() >= 2);
+    }
+
+    @Test
+    public void idleTrafficDoesNotRaiseTheLimit() {
+        var limit = new GradientLimit(routeClass(10, 2, 100));
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertTrue(limit.tryAcquire());
+            limit.release(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        Assertions.assertEquals(10, limit.limit());
+    }
+
+    private static void saturateAndRelease(GradientLimit limit, long latencyNanos) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(latencyNanos);
+        }
+    }
+
+    private void call(ConcurrencyLimitFilter filter, String path, FilterChain chain) {
+        call(filter, "GET", path, chain);
+    }
+
+    private void call(ConcurrencyLimitFilter filter, String method, String path, FilterChain chain) {
+        try {
+            filter.doFilter(new MockHttpServletRequest(method, path), new MockHttpServletResponse(), chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ConcurrencyLimitFilter filter(ConcurrencyLimitProperties.RouteClass routeClass) {
+        var properties = new ConcurrencyLimitProperties();
+        properties.setClasses(List.of(routeClass));
+        return new ConcurrencyLimitFilter(properties, resolver, registry);
+    }
+
+    private static ConcurrencyLimitProperties.RouteClass routeClass(int initial, int min, int max) {
+        var routeClass = new ConcurrencyLimitProperties.RouteClass();
+        routeClass.setName("cars");
+        routeClass.setPatterns(List.of("/api/cars/**"));
+        routeClass.setInitialLimit(initial);
+        routeClass.setMinLimit(min);
+        routeClass.setMaxLimit(max);
+        return routeClass;
+    }
+}
@@ -0,0 +1,92 @@
+package code.with.vanilson.common.https.format;
+
+import code.with.vanilson.common.car.CarRequest;
+import code.with.vanilson.common.money.Money;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class BinaryFormatConfigTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper cbor = new CBORMapper();
+    private final ObjectMapper smile = new SmileMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void carsAreReadAndWrittenAsCborWithTheirLinks() throws Exception {
+        var request = new CarRequest("Volvo", "XC60", "AB-12-CD-4001", "SUV", 2020, 15000, Money.parse("9999.99"));
+        var created = read(cbor, mockMvc.perform(post("/api/cars")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray());
+        var id = created.get("id").asLong();
+
+        var found = read(cbor, mockMvc.perform(get("/api/cars/{id}", id).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray());
+        Assertions.assertEquals("AB-12-CD-4001", found.get("registrationNumber").asText());
+        Assertions.assertEquals(new BigDecimal("9999.99"), found.get("price").decimalValue());
+        Assertions.assertTrue(found.at("/_links/self/href").asText().endsWith("/api/cars/" + id));
+    }
+
+    @Test
+    public void errorsFollowTheNegotiatedFormat() throws Exception {
+        var error = read(smile, mockMvc.perform(get("/api/cars/{id}", 987_654).accept(SMILE))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray());
+        Assertions.assertEquals("CAR_INVALID_DATA", error.get("code").asText());
+        Assertions.assertEquals("/api/cars/987654", error.get("path").asText());
+        Assertions.assertTrue(error.get("timestamp").isTextual());
+    }
+
+    @Test
+    public void jsonStaysTheDefault() throws Exception {
+        mockMvc.perform(get("/api/cars/{id}", 987_654))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value("CAR_INVALID_DATA"));
+    }
+
+    @Test
+    public void pricesInAnotherCurrencyAreABadRequest() throws Exception {
+        mockMvc.perform(post("/api/cars")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"brandName":"Volvo","modelName":"XC60","registrationNumber":"AB-12-CD-4002",
+                                 "carType":"SUV","year":2020,"kilometres":15000,
+                                 "price":{"amount":9999.99,"currency":"USD"}}"""))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static JsonNode read(ObjectMapper mapper, byte[] body) throws Exception {
+        return mapper.readTree(body);
+    }
+}
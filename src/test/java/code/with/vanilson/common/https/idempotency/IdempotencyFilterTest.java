@@ -0,0 +1,243 @@
+package code.with.vanilson.common.https.idempotency;
+
+import code.with.vanilson.common.exceptions.ResourcePayloadTooLargeException;
+import code.with.vanilson.common.exceptions.ResourceValidationException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"id\":1}";
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final HandlerExceptionResolver exceptionResolver = mock(HandlerExceptionResolver.class);
+    private final IdempotencyFilter filter = new IdempotencyFilter(
+            new InMemoryIdempotencyStore(100, Duration.ofMinutes(1)),
+            exceptionResolver,
+            new IdempotencyProperties());
+
+    @Test
+    public void retryReplaysStoredResponseWithoutReachingTheController() throws Exception {
+        var first = post("key-1", created());
+        var retry = post("key-1", created());
+
+        Assertions.assertEquals(1, invocations.get());
+        Assertions.assertEquals(201, retry.getStatus());
+        Assertions.assertEquals(BODY, retry.getContentAsString());
+        Assertions.assertEquals(first.getHeader("Location"), retry.getHeader("Location"));
+        Assertions.assertEquals("true", retry.getHeader("Idempotent-Replayed"));
+    }
+
+    @Test
+    public void failedRequestReleasesTheKey() throws Exception {
+        post("key-2", (request, response) -> {
+            invocations.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(500);
+        });
+        var retry = post("key-2", created());
+
+        Assertions.assertEquals(2, invocations.get());
+        Assertions.assertEquals(201, retry.getStatus());
+    }
+
+    @Test
+    public void concurrentDuplicateWaitsForTheFirstRequest() throws Exception {
+        var started = new CountDownLatch(1);
+        var proceed = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            started.countDown();
+            try {
+                proceed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            created().doFilter(request, response);
+        };
+        var first = CompletableFuture.supplyAsync(() -> postQuietly("key-3", slow));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        var duplicate = CompletableFuture.supplyAsync(() -> postQuietly("key-3", created()));
+
+        proceed.countDown();
+
+        Assertions.assertEquals(BODY, first.get(5, TimeUnit.SECONDS).getContentAsString());
+        Assertions.assertEquals(BODY, duplicate.get(5, TimeUnit.SECONDS).getContentAsString());
+        Assertions.assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void keyIsScopedByClient() throws Exception {
+        post("key-4", "10.0.0.1", "{}", created());
+        var other = post("key-4", "10.0.0.2", "{}", created());
+
+        Assertions.assertEquals(2, invocations.get());
+        Assertions.assertNull(other.getHeader("Idempotent-Replayed"));
+    }
+
+    @Test
+    public void keyReusedWithDifferentBodyIsRejected() throws Exception {
+        post("key-5", "10.0.0.1", "{\"brand\":\"Fiat\"}", created());
+        var reused = post("key-5", "10.0.0.1", "{\"brand\":\"Seat\"}", created());
+
+        Assertions.assertEquals(1, invocations.get());
+        Assertions.assertNull(reused.getHeader("Idempotent-Replayed"));
+        verify(exceptionResolver).resolveException(any(), any(), isNull(), isA(ResourceValidationException.class));
+    }
+
+    @Test
+    public void controllerStillReadsTheBody() throws Exception {
+        var seen = new AtomicReference<String>();
+        post("key-6", "10.0.0.1", "{\"brand\":\"Fiat\"}", (request, response) -> {
+            seen.set(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            created().doFilter(request, response);
+        });
+
+        Assertions.assertEquals("{\"brand\":\"Fiat\"}", seen.get());
+    }
+
+    @Test
+    public void controllerCanReadTheBodyAsynchronously() throws Exception {
+        var seen = new ByteArrayOutputStream();
+        var allRead = new AtomicInteger();
+        post("key-7", "10.0.0.1", "{\"brand\":\"Fiat\"}", (request, response) -> {
+            var input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (input.isReady() && !input.isFinished()) {
+                        seen.write(input.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allRead.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable ex) {
+                    Assertions.fail(ex);
+                }
+            });
+            created().doFilter(request, response);
+        });
+
+        Assertions.assertEquals("{\"brand\":\"Fiat\"}", seen.toString(StandardCharsets.UTF_8));
+        Assertions.assertEquals(1, allRead.get());
+    }
+
+    @Test
+    public void oversizedBodyIsRejectedBeforeClaimingTheKey() throws Exception {
+        var properties = new IdempotencyProperties();
+        properties.setMaxBodySize(DataSize.ofBytes(8));
+        var small = new IdempotencyFilter(new InMemoryIdempotencyStore(100, Duration.ofMinutes(1)),
+                exceptionResolver, properties);
+        var request = new MockHttpServletRequest("POST", "/api/cars");
+        request.addHeader("Idempotency-Key", "key-8");
+        request.setContent("{\"brand\":\"Fiat\"}".getBytes(StandardCharsets.UTF_8));
+
+        small.doFilter(request, new MockHttpServletResponse(), created());
+
+        Assertions.assertEquals(0, invocations.get());
+        verify(exceptionResolver).resolveException(any(), any(), isNull(),
+                isA(ResourcePayloadTooLargeException.class));
+    }
+
+    @Test
+    public void storeSeesAFixedLengthDigestOfTheScopedKey() throws Exception {
+        var keys = new CopyOnWriteArrayList<String>();
+        var memory = new InMemoryIdempotencyStore(100, Duration.ofMinutes(1));
+        var recording = new IdempotencyFilter(new IdempotencyStore() {
+            @Override
+            public CompletableFuture<StoredResponse> claim(String key, String requestHash) {
+                keys.add(key);
+                return memory.claim(key, requestHash);
+            }
+
+            @Override
+            public void complete(String key, StoredResponse response) {
+                memory.complete(key, response);
+            }
+
+            @Override
+            public void release(String key) {
+                memory.release(key);
+            }
+        }, exceptionResolver, new IdempotencyProperties());
+        var request = new MockHttpServletRequest("POST", "/api/cars");
+        request.addHeader("Idempotency-Key", "k".repeat(255));
+        request.setRemoteAddr("2001:db8:85a3:8d3:1319:8a2e:370:7348");
+        request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+
+        recording.doFilter(request, new MockHttpServletResponse(), created());
+
+        Assertions.assertEquals(List.of(64), keys.stream().map(String::length).toList());
+    }
+
+    @Test
+    public void requestsWithoutKeyAreNotDeduplicated() throws Exception {
+        var request = new MockHttpServletRequest("POST", "/api/cars");
+        filter.doFilter(request, new MockHttpServletResponse(), created());
+        filter.doFilter(request, new MockHttpServletResponse(), created());
+
+        Assertions.assertEquals(2, invocations.get());
+    }
+
+    private FilterChain created() {
+        return (request, response) -> {
+            invocations.incrementAndGet();
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(201);
+            httpResponse.setContentType("application/json");
+            httpResponse.setHeader("Location", "/api/cars/1");
+            httpResponse.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse post(String key, FilterChain chain) throws Exception {
+        return post(key, "127.0.0.1", "{}", chain);
+    }
+
+    private MockHttpServletResponse post(String key, String client, String body, FilterChain chain)
+            throws Exception {
+        var request = new MockHttpServletRequest("POST", "/api/cars");
+        request.addHeader("Idempotency-Key", key);
+        request.setRemoteAddr(client);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse postQuietly(String key, FilterChain chain) {
+        try {
+            return post(key, chain);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
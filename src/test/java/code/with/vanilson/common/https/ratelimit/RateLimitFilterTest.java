@@ -0,0 +1,153 @@
+package code.with.vanilson.common.https.ratelimit;
+
+import code.with.vanilson.common.exceptions.ResourceTooManyRequestsException;
+import code.with.vanilson.common.exceptions.handle.ErrorCodeRegistry;
+import code.with.vanilson.common.exceptions.handle.ErrorMetrics;
+import code.with.vanilson.common.exceptions.handle.GlobalExceptionHandler;
+import code.with.vanilson.common.utils.CoarseClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+public class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Exception> rejections = new ArrayList<>();
+    private final HandlerExceptionResolver resolver = (request, response, handler, ex) -> {
+        rejections.add(ex);
+        return new ModelAndView();
+    };
+    private int passed;
+
+    @Test
+    public void clientsAreLimitedIndependently() throws Exception {
+        var filter = filter(limit(2), null);
+
+        for (int i = 0; i < 3; i++) {
+            call(filter, "10.0.0.1");
+        }
+        call(filter, "10.0.0.2");
+
+        Assertions.assertEquals(3, passed);
+        Assertions.assertEquals(1, rejections.size());
+        var rejection = (ResourceTooManyRequestsException) rejections.get(0);
+        Assertions.assertTrue(rejection.getRetryAfterSeconds() > 0);
+        Assertions.assertEquals(1, registry.get("http.server.rate.limit")
+                .tags("route", "/api/cars/**", "result", "client_rejected").counter().count());
+    }
+
+    @Test
+    public void forwardedHeaderIsIgnoredUnlessConfigured() throws Exception {
+        var filter = filter(limit(2), null);
+
+        callThroughProxy(filter, "10.0.0.1");
+        callThroughProxy(filter, "10.0.0.2");
+        callThroughProxy(filter, "10.0.0.3");
+
+        Assertions.assertEquals(2, passed);
+    }
+
+    @Test
+    public void spoofedForwardedHopsDoNotBypassTheClientLimit() throws Exception {
+        var filter = filter(limit(2), null, "X-Forwarded-For");
+
+        callThroughProxy(filter, "1.1.1.1, 10.0.0.1");
+        callThroughProxy(filter, "2.2.2.2, 10.0.0.1");
+        callThroughProxy(filter, "3.3.3.3, 10.0.0.1");
+        callThroughProxy(filter, "10.0.0.2");
+
+        Assertions.assertEquals(3, passed);
+        Assertions.assertEquals(1, rejections.size());
+    }
+
+    @Test
+    public void routeLimitIsSharedByAllClients() throws Exception {
+        var filter = filter(null, limit(2));
+
+        call(filter, "10.0.0.1");
+        call(filter, "10.0.0.2");
+        call(filter, "10.0.0.3");
+
+        Assertions.assertEquals(2, passed);
+        Assertions.assertEquals(1, registry.get("http.server.rate.limit")
+                .tags("result", "route_rejected").counter().count());
+    }
+
+    @Test
+    public void unmatchedRoutesAreNotLimited() throws Exception {
+        var filter = filter(limit(1), limit(1));
+        for (int i = 0; i < 5; i++) {
+            var request = new MockHttpServletRequest("GET", "/actuator/health");
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> passed++);
+        }
+        Assertions.assertEquals(5, passed);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void rejectionsCarryRetryAfter() {
+        try (var clock = new CoarseClock(Duration.ofMillis(10), ZoneId.of("UTC"))) {
+            var handler = new GlobalExceptionHandler(new ErrorCodeRegistry(List.of(), mock(ObjectProvider.class)),
+                    new ErrorMetrics(registry), clock);
+
+            var response = handler.handleTooManyRequestsException(
+                    new ResourceTooManyRequestsException("slow down", 3), new MockHttpServletRequest());
+
+            Assertions.assertEquals(429, response.getStatusCode().value());
+            Assertions.assertEquals("3", response.getHeaders().getFirst("Retry-After"));
+            Assertions.assertNotNull(response.getHeaders().getFirst("Date"));
+            Assertions.assertEquals("slow down", response.getBody().getMessage());
+        }
+    }
+
+    private void call(RateLimitFilter filter, String client) throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/cars/1");
+        request.setRemoteAddr(client);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> passed++);
+    }
+
+    private void callThroughProxy(RateLimitFilter filter, String forwardedFor) throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/cars/1");
+        request.setRemoteAddr("192.168.0.1");
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> passed++);
+    }
+
+    private RateLimitFilter filter(RateLimitProperties.Limit perClient, RateLimitProperties.Limit total) {
+        return filter(perClient, total, null);
+    }
+
+    private RateLimitFilter filter(RateLimitProperties.Limit perClient, RateLimitProperties.Limit total,
+                                   String clientHeader) {
+        var route = new RateLimitProperties.Route();
+        route.setPattern("/api/cars/**");
+        route.setPerClient(perClient);
+        route.setTotal(total);
+        var properties = new RateLimitProperties();
+        properties.setClientHeader(clientHeader);
+        properties.setClientSlots(1024);
+        properties.setRoutes(List.of(route));
+        return new RateLimitFilter(properties, resolver, registry);
+    }
+
+    // A single refill per hour, nothing comes back while the test runs
+    private static RateLimitProperties.Limit limit(long burst) {
+        var limit = new RateLimitProperties.Limit();
+        limit.setPermits(1);
+        limit.setPeriod(Duration.ofHours(1));
+        limit.setBurst(burst);
+        return limit;
+    }
+}
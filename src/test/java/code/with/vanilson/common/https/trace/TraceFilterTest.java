@@ -0,0 +1,67 @@
+package code.with.vanilson.common.https.trace;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TraceFilterTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+
+    private final TraceFilter filter = new TraceFilter();
+
+    @Test
+    public void incomingTraceparentIsJoinedWithANewSpan() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/cars/1");
+        request.addHeader("traceparent", PARENT);
+        var response = new MockHttpServletResponse();
+        var logged = new AtomicReference<String>();
+
+        filter.doFilter(request, response, (req, res) -> logged.set(TraceIds.currentOrNew()));
+
+        Assertions.assertEquals(TRACE_ID, logged.get());
+        var echoed = TraceContext.parse(response.getHeader("traceparent"));
+        Assertions.assertNotNull(echoed);
+        Assertions.assertEquals(TRACE_ID, echoed.traceId());
+        Assertions.assertNotEquals("00f067aa0ba902b7", echoed.spanId());
+        Assertions.assertTrue(echoed.sampled());
+        Assertions.assertNull(MDC.get(TraceContext.TRACE_ID));
+    }
+
+    @Test
+    public void malformedTraceparentStartsANewTrace() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/cars/1");
+        request.addHeader("traceparent", "00-" + "0".repeat(32) + "-00f067aa0ba902b7-01");
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> { });
+
+        var context = TraceContext.parse(response.getHeader("traceparent"));
+        Assertions.assertNotNull(context);
+        Assertions.assertNotEquals("0".repeat(32), context.traceId());
+    }
+
+    @Test
+    public void traceparentParsingFollowsTheSpecification() {
+        Assertions.assertEquals(PARENT, TraceContext.parse(PARENT).traceparent());
+        Assertions.assertNotNull(TraceContext.parse("01-" + TRACE_ID + "-00f067aa0ba902b7-01-future"));
+        Assertions.assertNull(TraceContext.parse(PARENT + "-extra"));
+        Assertions.assertNull(TraceContext.parse("ff-" + TRACE_ID + "-00f067aa0ba902b7-01"));
+        Assertions.assertNull(TraceContext.parse("00-" + TRACE_ID.toUpperCase() + "-00f067aa0ba902b7-01"));
+        Assertions.assertNull(TraceContext.parse("00-" + TRACE_ID + "-0000000000000000-01"));
+        Assertions.assertNull(TraceContext.parse(null));
+    }
+
+    @Test
+    public void generatedIdsAreWellFormed() {
+        var context = TraceContext.newRoot();
+        Assertions.assertEquals(32, context.traceId().length());
+        Assertions.assertEquals(16, context.spanId().length());
+        Assertions.assertEquals(context, TraceContext.parse(context.traceparent()));
+    }
+}
@@ -0,0 +1,152 @@
+package code.with.vanilson.common.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CarLoadGenerator
+ * <p>
+ * Open-loop load against a running instance, used to compare platform and virtual request threads and the
+ * reactive stack (see {@code documentation/docs/virtual-threads.md} and {@code reactive-car-api.md}). Slow
+ * consumers read {@code GET /api/cars} through a throttled body subscriber so request threads stay parked on
+ * socket writes; probe clients hit {@code GET /api/cars/{id}} at a fixed rate and their latency is what gets
+ * reported. Not a test, run it with
+ * {@code java -cp target/test-classes code.with.vanilson.common.load.CarLoadGenerator [baseUrl] [slowClients]
+ * [probeRps] [seconds] [carId]}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-02
+ */
+public final class CarLoadGenerator {
+
+    private static final int SLOW_CHUNK_DELAY_MILLIS = 50;
+
+    private CarLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var baseUrl = args.length > 0 ? args[0] : "http://localhost:8081";
+        int slowClients = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int probeRps = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 60;
+        var carId = args.length > 4 ? args[4] : "1";
+
+        var client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+        var list = HttpRequest.newBuilder(URI.create(baseUrl + "/api/cars")).GET().build();
+        var byId = HttpRequest.newBuilder(URI.create(baseUrl + "/api/cars/" + carId))
+                .timeout(Duration.ofSeconds(30)).GET().build();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        var slowErrors = new AtomicLong();
+        for (int i = 0; i < slowClients; i++) {
+            slowLoop(client, list, deadline, slowErrors);
+        }
+
+        var latencies = new ConcurrentLinkedQueue<Long>();
+        var probeErrors = new AtomicLong();
+        var pending = new ConcurrentLinkedQueue<CompletableFuture<?>>();
+        long interval = TimeUnit.SECONDS.toNanos(1) / probeRps;
+        // Open loop: probes are fired on schedule whether or not earlier ones came back
+        for (long next = System.nanoTime(); next < deadline; next += interval) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            long sent = System.nanoTime();
+            pending.add(client.sendAsync(byId, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        if (failure != null || response.statusCode() != 200) {
+                            probeErrors.incrementAndGet();
+                        } else {
+                            latencies.add(System.nanoTime() - sent);
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .exceptionally(failure -> null)
+                .get(1, TimeUnit.MINUTES);
+
+        report(latencies.stream().mapToLong(Long::longValue).sorted().toArray(), probeErrors.get(), slowErrors.get());
+        System.exit(0);
+    }
+
+    private static void slowLoop(HttpClient client, HttpRequest request, long deadline, AtomicLong errors) {
+        if (System.nanoTime() >= deadline) {
+            return;
+        }
+        client.sendAsync(request, info -> new ThrottledSubscriber())
+                .whenComplete((response, failure) -> {
+                    if (failure != null || response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                    slowLoop(client, request, deadline, errors);
+                });
+    }
+
+    private static void report(long[] nanos, long probeErrors, long slowErrors) {
+        System.out.printf("probes ok=%d errors=%d, slow consumer errors=%d%n", nanos.length, probeErrors,
+                slowErrors);
+        if (nanos.length == 0) {
+            return;
+        }
+        System.out.printf("probe latency p50=%.1fms p99=%.1fms max=%.1fms%n",
+                percentile(nanos, 0.50) / 1e6, percentile(nanos, 0.99) / 1e6, nanos[nanos.length - 1] / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Requests one chunk at a time and pauses between them, so the server sees a client that cannot keep up.
+     */
+    private static final class ThrottledSubscriber implements HttpResponse.BodySubscriber<Void> {
+
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+
+        @Override
+        public CompletionStage<Void> getBody() {
+            return done;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            CompletableFuture.delayedExecutor(SLOW_CHUNK_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .execute(() -> subscription.request(1));
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+}
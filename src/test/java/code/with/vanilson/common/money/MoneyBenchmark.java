@@ -0,0 +1,87 @@
+package code.with.vanilson.common.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MoneyBenchmark
+ * <p>
+ * Prices a fleet: 23% VAT on each car, then a 5% discount, each rounded half-even to the cent, then the total. With
+ * {@link BigDecimal} prices as the cars had them, with {@link Money} and with the {@code long[]} forms. Scores are
+ * per fleet.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-13
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final BigDecimal VAT = new BigDecimal("1.23");
+    private static final BigDecimal DISCOUNT = new BigDecimal("0.95");
+
+    @Param({"10000"})
+    private int size;
+
+    private BigDecimal[] decimals;
+    private Money[] amounts;
+    private long[] minorUnits;
+    private long[] result;
+
+    @Setup
+    public void setUp() {
+        minorUnits = new SplittableRandom(50).longs(size, 100_000, 999_999).toArray();
+        decimals = new BigDecimal[size];
+        amounts = new Money[size];
+        for (int i = 0; i < size; i++) {
+            decimals[i] = BigDecimal.valueOf(minorUnits[i], 2);
+            amounts[i] = Money.ofMinor(minorUnits[i]);
+        }
+        result = new long[size];
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        var total = BigDecimal.ZERO;
+        for (var price : decimals) {
+            var gross = price.multiply(VAT).setScale(2, RoundingMode.HALF_EVEN);
+            total = total.add(gross.multiply(DISCOUNT).setScale(2, RoundingMode.HALF_EVEN));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money money() {
+        var total = Money.ofMinor(0);
+        for (var price : amounts) {
+            total = total.plus(price.times(123, 100, RoundingMode.HALF_EVEN).times(95, 100, RoundingMode.HALF_EVEN));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long minorUnitArrays() {
+        Money.times(minorUnits, 123, 100, RoundingMode.HALF_EVEN, result);
+        Money.times(result, 95, 100, RoundingMode.HALF_EVEN, result);
+        return Money.total(result);
+    }
+}
@@ -0,0 +1,210 @@
+package code.with.vanilson.common.money;
+
+import code.with.vanilson.common.car.CarRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.SplittableRandom;
+
+public class MoneyTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency JPY = Currency.getInstance("JPY");
+
+    @Test
+    public void timesRoundsAsBigDecimalDoes() {
+        var random = new SplittableRandom(50);
+        for (int i = 0; i < 20_000; i++) {
+            long minorUnits = i % 2 == 0 ? random.nextLong(-10_000_000, 10_000_000) : random.nextLong();
+            long numerator = random.nextLong(-1_000, 1_000);
+            long denominator = random.nextLong(1, 1_000);
+            var expected = BigDecimal.valueOf(minorUnits).multiply(BigDecimal.valueOf(numerator));
+            for (var rounding : RoundingMode.values()) {
+                var money = Money.ofMinor(minorUnits);
+                BigDecimal quotient;
+                try {
+                    quotient = expected.divide(BigDecimal.valueOf(denominator), 0, rounding);
+                } catch (ArithmeticException e) {
+                    Assertions.assertThrows(ArithmeticException.class,
+                            () -> money.times(numerator, denominator, rounding));
+                    continue;
+                }
+                if (quotient.unscaledValue().bitLength() > 63) {
+                    Assertions.assertThrows(ArithmeticException.class,
+                            () -> money.times(numerator, denominator, rounding));
+                } else {
+                    Assertions.assertEquals(quotient.longValueExact(),
+                            money.times(numerator, denominator, rounding).minorUnits(),
+                            () -> minorUnits + " * " + numerator + " / " + denominator + " " + rounding);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void batchTimesMatchesTheSingleAmounts() {
+        long[] prices = new SplittableRandom(50).longs(1_001, 100_000, 999_999).toArray();
+        long[] result = new long[prices.length];
+        Money.times(prices, 123, 100, RoundingMode.HALF_EVEN, result);
+        long total = 0;
+        for (int i = 0; i < prices.length; i++) {
+            Assertions.assertEquals(Money.ofMinor(prices[i]).times(123, 100, RoundingMode.HALF_EVEN).minorUnits(),
+                    result[i]);
+            total += result[i];
+        }
+        Assertions.assertEquals(total, Money.total(result));
+
+        long first = prices[0];
+        Money.times(prices, 95, 100, RoundingMode.HALF_EVEN, prices);
+        Assertions.assertEquals(Money.ofMinor(first).times(95, 100, RoundingMode.HALF_EVEN).minorUnits(), prices[0]);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Money.times(prices, 1, 0, RoundingMode.HALF_EVEN, prices));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Money.times(prices, 1, 1, RoundingMode.HALF_EVEN, new long[1]));
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.total(new long[]{Long.MAX_VALUE, 1}));
+    }
+
+    @Test
+    public void parseAndToPlainStringRoundTrip() {
+        var random = new SplittableRandom(50);
+        for (int i = 0; i < 20_000; i++) {
+            long minorUnits = i % 2 == 0 ? random.nextLong(-100_000, 100_000) : random.nextLong();
+            var money = Money.ofMinor(minorUnits);
+            var text = money.toPlainString();
+            Assertions.assertEquals(BigDecimal.valueOf(minorUnits, 2).toPlainString(), text);
+            Assertions.assertEquals(money, Money.parse(text));
+            Assertions.assertEquals(money, Money.of(new BigDecimal(text)));
+        }
+        Assertions.assertEquals("9999.99 EUR", Money.parse("9999.99").toString());
+        Assertions.assertEquals("-0.05", Money.parse("-.05").toPlainString());
+        Assertions.assertEquals(Money.ofMinor(500), Money.parse("+5"));
+        Assertions.assertEquals(Money.ofMinor(150), Money.parse("1.500"));
+        Assertions.assertEquals(Money.ofMinor(1_250_000), Money.parse("1.25E4"));
+        Assertions.assertEquals(Money.ofMinor(1_234, JPY), Money.parse("1234", JPY));
+        Assertions.assertEquals("1234", Money.ofMinor(1_234, JPY).toPlainString());
+        Assertions.assertEquals(Money.ofMinor(Long.MIN_VALUE), Money.parse("-92233720368547758.08"));
+    }
+
+    @Test
+    public void invalidAmountsAreRejected() {
+        for (var text : new String[]{"", "-", ".", "1,5", "1.2.3", "abc", "1e", "--1"}) {
+            Assertions.assertThrows(NumberFormatException.class, () -> Money.parse(text), text);
+        }
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.parse("9999.999"));
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.parse("1.5", JPY));
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.parse("92233720368547758.08"));
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("0.001")));
+        Assertions.assertEquals(Money.ofMinor(2),
+                Money.of(new BigDecimal("0.015"), Money.EUR, RoundingMode.HALF_EVEN));
+        Assertions.assertEquals(Money.ofMinor(2), Money.of(15, 3, Money.EUR, RoundingMode.CEILING));
+        Assertions.assertEquals(Money.ofMinor(150_000), Money.of(15, -2, Money.EUR, RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    public void arithmeticIsExact() {
+        var price = Money.parse("9999.99");
+        Assertions.assertEquals(Money.parse("19999.98"), price.plus(price));
+        Assertions.assertEquals(Money.parse("-0.01"), price.minus(Money.parse("10000")));
+        Assertions.assertEquals(Money.parse("29999.97"), price.times(3));
+        Assertions.assertEquals(Money.parse("12299.99"), price.times(123, 100, RoundingMode.HALF_EVEN));
+        Assertions.assertEquals(-1, price.negate().signum());
+        Assertions.assertTrue(price.negate().isNegative());
+        Assertions.assertTrue(price.minus(price).isZero());
+        Assertions.assertTrue(price.compareTo(Money.parse("10000")) < 0);
+        Assertions.assertEquals(new BigDecimal("9999.99"), price.toBigDecimal());
+
+        var max = Money.ofMinor(Long.MAX_VALUE);
+        Assertions.assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinor(1)));
+        Assertions.assertThrows(ArithmeticException.class, () -> max.times(2));
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MIN_VALUE).negate());
+        // The product overflows a long but the quotient does not
+        Assertions.assertEquals(Money.ofMinor(Long.MAX_VALUE / 3 * 2 + 1),
+                max.times(2, 3, RoundingMode.HALF_EVEN));
+    }
+
+    @Test
+    public void currenciesAreNotMixed() {
+        var euros = Money.parse("10");
+        var dollars = Money.parse("10", USD);
+        Assertions.assertNotEquals(euros, dollars);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> euros.plus(dollars));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> euros.compareTo(dollars));
+        Assertions.assertThrows(NullPointerException.class, () -> Money.ofMinor(1, null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Money.ofMinor(1, Currency.getInstance("XXX")));
+    }
+
+    @Test
+    public void jsonKeepsEurosAsPlainNumbers() throws Exception {
+        var mapper = new ObjectMapper();
+        Assertions.assertEquals("9999.99", mapper.writeValueAsString(Money.parse("9999.99")));
+        Assertions.assertEquals("-0.50", mapper.writeValueAsString(Money.parse("-0.5")));
+        Assertions.assertEquals("{\"amount\":12.30,\"currency\":\"USD\"}",
+                mapper.writeValueAsString(Money.parse("12.3", USD)));
+
+        Assertions.assertEquals(Money.parse("9999.99"), mapper.readValue("9999.99", Money.class));
+        Assertions.assertEquals(Money.parse("9999.99"), mapper.readValue("\" 9999.99 \"", Money.class));
+        Assertions.assertEquals(Money.parse("10"), mapper.readValue("10", Money.class));
+        Assertions.assertEquals(Money.parse("12.3", USD),
+                mapper.readValue("{\"currency\":\"USD\",\"amount\":\"12.30\"}", Money.class));
+        Assertions.assertEquals(Money.parse("12.3"), mapper.readValue("{\"amount\":12.3}", Money.class));
+
+        Assertions.assertThrows(InvalidFormatException.class, () -> mapper.readValue("9999.999", Money.class));
+        Assertions.assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"abc\"", Money.class));
+        Assertions.assertThrows(InvalidFormatException.class,
+                () -> mapper.readValue("{\"amount\":1,\"currency\":\"ABC\"}", Money.class));
+        Assertions.assertThrows(Exception.class, () -> mapper.readValue("{\"currency\":\"USD\"}", Money.class));
+
+        var cbor = new CBORMapper();
+        var dollars = Money.parse("12.3", USD);
+        Assertions.assertEquals(dollars, cbor.readValue(cbor.writeValueAsBytes(dollars), Money.class));
+        Assertions.assertEquals(Money.parse("9999.99"),
+                cbor.readValue(cbor.writeValueAsBytes(Money.parse("9999.99")), Money.class));
+    }
+
+    @Test
+    public void converterStoresEuroDecimals() {
+        var converter = new MoneyConverter();
+        Assertions.assertEquals(new BigDecimal("9999.99"), converter.convertToDatabaseColumn(Money.parse("9999.99")));
+        Assertions.assertEquals(Money.parse("9999.99"), converter.convertToEntityAttribute(new BigDecimal("9999.99")));
+        Assertions.assertEquals(Money.parse("5"), converter.convertToEntityAttribute(new BigDecimal("5")));
+        Assertions.assertNull(converter.convertToDatabaseColumn(null));
+        Assertions.assertNull(converter.convertToEntityAttribute(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> converter.convertToDatabaseColumn(Money.parse("1", USD)));
+    }
+
+    @Test
+    public void pricesKeepTheirMinimum() {
+        try (var factory = Validation.buildDefaultValidatorFactory()) {
+            var validator = factory.getValidator();
+            var request = new CarRequest("Volvo", "XC60", "AB-12-CD-5001", "SUV", 2020, 15000, Money.parse("0"));
+            Assertions.assertTrue(validator.validate(request).isEmpty());
+
+            request.setPrice(Money.parse("-0.01"));
+            var violations = validator.validate(request);
+            Assertions.assertEquals(1, violations.size());
+            Assertions.assertEquals("Price must be a positive number", violations.iterator().next().getMessage());
+        }
+    }
+
+    @Test
+    public void pricesInAnotherCurrencyAreRejected() {
+        try (var factory = Validation.buildDefaultValidatorFactory()) {
+            var validator = factory.getValidator();
+            var request = new CarRequest("Volvo", "XC60", "AB-12-CD-5001", "SUV", 2020, 15000,
+                    Money.parse("100", USD));
+
+            var violations = validator.validate(request);
+            Assertions.assertEquals(1, violations.size());
+            Assertions.assertEquals("Price must be in EUR", violations.iterator().next().getMessage());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package code.with.vanilson.common.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CoarseClockBenchmark
+ * <p>
+ * What an error response paid for its time fields, {@code LocalDateTime.now()} and a zone drawn from the shared
+ * {@code Random} of {@link TimeZoneUtil}, against the {@link CoarseClock} reads that replace them; and the
+ * {@code Date} header formatted per call against the one rendered per tick. Run with several threads to see the
+ * contention on the shared {@code Random}.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-09
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class CoarseClockBenchmark {
+
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final CoarseClock clock = new CoarseClock(Duration.ofMillis(10), zone);
+
+    @TearDown
+    public void tearDown() {
+        clock.close();
+    }
+
+    @Benchmark
+    public Object[] timestampPerCall() {
+        return new Object[]{TimeZoneUtil.getRandomTimeZone(), LocalDateTime.now()};
+    }
+
+    @Benchmark
+    public Object[] timestampCoarse() {
+        return new Object[]{zone.getId(), clock.now(zone)};
+    }
+
+    @Benchmark
+    public String httpDatePerCall() {
+        return CoarseClock.HTTP_DATE.format(Instant.now());
+    }
+
+    @Benchmark
+    public String httpDateCoarse() {
+        return clock.httpDate();
+    }
+}
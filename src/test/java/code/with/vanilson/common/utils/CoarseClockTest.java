@@ -0,0 +1,60 @@
+package code.with.vanilson.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+public class CoarseClockTest {
+
+    private static final ZoneId LISBON = ZoneId.of("Europe/Lisbon");
+
+    @Test
+    public void tickMovesTheTimeAndItsRenderings() throws InterruptedException {
+        try (var clock = new CoarseClock(Duration.ofMillis(5), LISBON)) {
+            long before = System.currentTimeMillis();
+            var first = clock.instant();
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (clock.millis() <= before + 20 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            var instant = clock.instant();
+            Assertions.assertTrue(instant.isAfter(first), instant + " after " + first);
+            Assertions.assertTrue(instant.toEpochMilli() <= System.currentTimeMillis());
+
+            // Renderings of one tick may be read from a newer one, compare within a second
+            var httpDate = Instant.from(DateTimeFormatter.RFC_1123_DATE_TIME.parse(clock.httpDate()));
+            Assertions.assertTrue(Duration.between(httpDate, clock.instant()).abs().getSeconds() <= 1);
+            Assertions.assertTrue(clock.httpDate().matches("[A-Z][a-z]{2}, \\d{2} [A-Z][a-z]{2} \\d{4} "
+                    + "\\d{2}:\\d{2}:\\d{2} GMT"), clock.httpDate());
+            var iso = Instant.parse(clock.isoInstant());
+            Assertions.assertTrue(Duration.between(iso, clock.instant()).abs().getSeconds() <= 1);
+        }
+    }
+
+    @Test
+    public void localTimeInTheClockZoneIsShared() {
+        try (var clock = new CoarseClock(Duration.ofHours(1), LISBON)) {
+            Assertions.assertSame(clock.now(LISBON), clock.now(ZoneId.of("Europe/Lisbon")));
+            var tokyo = ZoneId.of("Asia/Tokyo");
+            Assertions.assertEquals(LocalDateTime.ofInstant(clock.instant(), tokyo), clock.now(tokyo));
+        }
+    }
+
+    @Test
+    public void unknownZonesFallBackToTheClockZone() {
+        try (var clock = new CoarseClock(Duration.ofHours(1), LISBON)) {
+            Assertions.assertEquals(ZoneId.of("Asia/Tokyo"), clock.zone("Asia/Tokyo"));
+            Assertions.assertSame(clock.zone("Asia/Tokyo"), clock.zone("Asia/Tokyo"));
+            Assertions.assertEquals(ZoneId.of("+05:30"), clock.zone("+05:30"));
+            Assertions.assertEquals(LISBON, clock.zone("Mars/Olympus_Mons"));
+            Assertions.assertEquals(LISBON, clock.zone(" "));
+            Assertions.assertEquals(LISBON, clock.zone(null));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CoarseClock(Duration.ZERO, LISBON));
+    }
+}
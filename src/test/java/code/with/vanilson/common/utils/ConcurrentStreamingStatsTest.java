@@ -0,0 +1,109 @@
+package code.with.vanilson.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrentStreamingStatsTest {
+
+    @Test
+    public void snapshotsSeeEveryFinishedRecord() throws InterruptedException {
+        var stats = new ConcurrentStreamingStats();
+        int threads = 4;
+        int records = 100_000;
+        var start = new CountDownLatch(1);
+        var writers = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            writers.add(new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 1; i <= records; i++) {
+                    stats.record(thread * 1_000_000 + i);
+                }
+            }));
+        }
+        writers.forEach(Thread::start);
+        start.countDown();
+        long seen = 0;
+        while (writers.stream().anyMatch(Thread::isAlive)) {
+            var snapshot = stats.snapshot();
+            Assertions.assertTrue(snapshot.count() >= seen);
+            seen = snapshot.count();
+            if (seen > 0) {
+                Assertions.assertTrue(snapshot.min() >= 1 && snapshot.max() <= (threads - 1) * 1_000_000 + records);
+            }
+        }
+        for (var writer : writers) {
+            writer.join();
+        }
+        var snapshot = stats.snapshot();
+        Assertions.assertEquals((long) threads * records, snapshot.count());
+        double expected = 0;
+        for (int t = 0; t < threads; t++) {
+            expected += t * 1_000_000.0 * records + records * (records + 1.0) / 2;
+        }
+        Assertions.assertEquals(expected, snapshot.sum());
+        Assertions.assertEquals(1, snapshot.min());
+    }
+
+    @Test
+    public void busyWritersHandSnapshotsOver() throws InterruptedException {
+        var stats = new ConcurrentStreamingStats();
+        var running = new AtomicBoolean(true);
+        var writer = new Thread(() -> {
+            while (running.get()) {
+                stats.record(1.0);
+            }
+        });
+        writer.start();
+        try {
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+                long seen = 0;
+                for (int i = 0; i < 1_000; i++) {
+                    long count = stats.snapshot().count();
+                    Assertions.assertTrue(count >= seen);
+                    seen = count;
+                }
+            });
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+        var snapshot = stats.snapshot();
+        Assertions.assertEquals(snapshot.count(), snapshot.sum());
+    }
+
+    @Test
+    public void endedThreadsAreRetiredIntoTheTotals() throws InterruptedException {
+        var stats = new ConcurrentStreamingStats();
+        int threads = ConcurrentStreamingStats.RETIRE_EVERY + 10;
+        for (int t = 0; t < threads; t++) {
+            var thread = new Thread(() -> stats.record(2.5));
+            thread.start();
+            thread.join();
+        }
+        var remote = new StreamingStats();
+        remote.record(-1.0);
+        stats.merge(StreamingStats.fromBytes(remote.toBytes()));
+        stats.record(10.0);
+
+        var snapshot = stats.snapshot();
+        Assertions.assertEquals(threads + 2, snapshot.count());
+        Assertions.assertEquals(threads * 2.5 + 9.0, snapshot.sum());
+        Assertions.assertEquals(-1.0, snapshot.min());
+        Assertions.assertEquals(10.0, snapshot.max());
+        Assertions.assertEquals(2.5, snapshot.quantile(0.5), 2.5 * 0.004);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
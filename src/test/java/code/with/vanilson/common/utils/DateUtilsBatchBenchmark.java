@@ -0,0 +1,132 @@
+package code.with.vanilson.common.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.SplittableRandom;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtilsBatchBenchmark
+ * <p>
+ * The {@link Date} methods called once per element against their batch forms, over instants spread across five
+ * years (so a few dozen offset transitions) in a zone with summer time. Scores are per array: divide by
+ * {@code size} for the cost of one date. The larger size goes through the fork-join pool.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-08
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBatchBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    @Param({"Europe/Lisbon"})
+    private String zoneId;
+
+    private ZoneId zone;
+    private Date[] dates;
+    private long[] epochMillis;
+    private long[] endMillis;
+    private int[] epochDays;
+    private long[] longResult;
+    private boolean[] booleanResult;
+
+    @Setup
+    public void setUp() {
+        // The Date methods work in the default zone
+        TimeZone.setDefault(TimeZone.getTimeZone(zoneId));
+        zone = ZoneId.of(zoneId);
+        var random = new SplittableRandom(45);
+        dates = new Date[size];
+        epochMillis = new long[size];
+        endMillis = new long[size];
+        epochDays = new int[size];
+        for (int i = 0; i < size; i++) {
+            epochMillis[i] = random.nextLong(1_577_836_800_000L, 1_735_689_600_000L);
+            endMillis[i] = epochMillis[i] + random.nextLong(0L, 400 * 86_400_000L);
+            dates[i] = new Date(epochMillis[i]);
+        }
+        DateUtils.toEpochDays(epochMillis, zone, epochDays);
+        longResult = new long[size];
+        booleanResult = new boolean[size];
+    }
+
+    @Benchmark
+    public void addDaysDate(Blackhole blackhole) {
+        for (var date : dates) {
+            blackhole.consume(DateUtils.addDays(date, 30));
+        }
+    }
+
+    @Benchmark
+    public long[] addDaysBatch() {
+        DateUtils.addDays(epochMillis, 30, zone, longResult);
+        return longResult;
+    }
+
+    @Benchmark
+    public void getStartOfDayDate(Blackhole blackhole) {
+        for (var date : dates) {
+            blackhole.consume(DateUtils.getStartOfDay(date));
+        }
+    }
+
+    @Benchmark
+    public long[] getStartOfDayBatch() {
+        DateUtils.getStartOfDay(epochMillis, zone, longResult);
+        return longResult;
+    }
+
+    @Benchmark
+    public long[] getStartOfDayEpochDays() {
+        DateUtils.getStartOfDay(epochDays, zone, longResult);
+        return longResult;
+    }
+
+    @Benchmark
+    public void isWeekendDate(Blackhole blackhole) {
+        for (var date : dates) {
+            blackhole.consume(DateUtils.isWeekend(date));
+        }
+    }
+
+    @Benchmark
+    public boolean[] isWeekendBatch() {
+        DateUtils.isWeekend(epochMillis, zone, booleanResult);
+        return booleanResult;
+    }
+
+    @Benchmark
+    public void getDifferenceInDaysDate(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(DateUtils.getDifferenceInDays(dates[i], new Date(endMillis[i])));
+        }
+    }
+
+    @Benchmark
+    public long[] getDifferenceInDaysBatch() {
+        DateUtils.getDifferenceInDays(epochMillis, endMillis, longResult);
+        return longResult;
+    }
+}
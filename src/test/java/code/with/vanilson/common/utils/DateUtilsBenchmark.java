@@ -0,0 +1,103 @@
+package code.with.vanilson.common.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtilsBenchmark
+ * <p>
+ * Formatting and parsing {@code yyyy-MM-dd HH:mm:ss} in a zone: a {@link SimpleDateFormat} built per call, as
+ * {@link DateUtils} used to do, against the legacy {@link Date} methods now on cached formatters and the
+ * epoch-millisecond methods with the fixed-layout fast path. {@code dd/MM/yyyy HH:mm} has no fast path and measures
+ * the cached formatter alone.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-07
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss";
+    private static final String OTHER_PATTERN = "dd/MM/yyyy HH:mm";
+
+    @Param({"UTC", "Europe/Lisbon"})
+    private String zoneId;
+
+    private ZoneId zone;
+    private long epochMillis = 1_728_322_205_000L;
+    private String text;
+    private String otherText;
+
+    @Setup
+    public void setUp() {
+        zone = ZoneId.of(zoneId);
+        text = DateUtils.format(epochMillis, PATTERN, zone);
+        otherText = DateUtils.format(epochMillis, OTHER_PATTERN, zone);
+    }
+
+    @Benchmark
+    public String formatSimpleDateFormat() {
+        var format = new SimpleDateFormat(PATTERN);
+        format.setTimeZone(TimeZone.getTimeZone(zoneId));
+        return format.format(new Date(epochMillis += 1_000L));
+    }
+
+    @Benchmark
+    public String formatDateWithTimeZone() {
+        return DateUtils.formatDateWithTimeZone(new Date(epochMillis += 1_000L), PATTERN, zoneId);
+    }
+
+    @Benchmark
+    public String formatFastPath() {
+        return DateUtils.format(epochMillis += 1_000L, PATTERN, zone);
+    }
+
+    @Benchmark
+    public String formatCachedFormatter() {
+        return DateUtils.format(epochMillis += 1_000L, OTHER_PATTERN, zone);
+    }
+
+    @Benchmark
+    public Date parseSimpleDateFormat() throws ParseException {
+        var format = new SimpleDateFormat(PATTERN);
+        format.setTimeZone(TimeZone.getTimeZone(zoneId));
+        return format.parse(text);
+    }
+
+    @Benchmark
+    public Date parseDateWithTimeZone() throws ParseException {
+        return DateUtils.parseDateWithTimeZone(text, PATTERN, zoneId);
+    }
+
+    @Benchmark
+    public long parseFastPath() {
+        return DateUtils.parseEpochMillis(text, PATTERN, zone);
+    }
+
+    @Benchmark
+    public long parseCachedFormatter() {
+        return DateUtils.parseEpochMillis(otherText, OTHER_PATTERN, zone);
+    }
+}
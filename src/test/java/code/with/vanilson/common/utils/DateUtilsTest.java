@@ -0,0 +1,241 @@
+package code.with.vanilson.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.text.ParseException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.SplittableRandom;
+import java.util.TimeZone;
+
+public class DateUtilsTest {
+
+    private static final String[] FAST_PATTERNS = {"yyyy-MM-dd", "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss"};
+    private static final ZoneId[] ZONES = {ZoneOffset.UTC, ZoneOffset.ofHoursMinutes(5, 45),
+            ZoneOffset.ofHours(-12), ZoneId.of("Europe/Lisbon"), ZoneId.of("America/New_York"),
+            ZoneId.of("Australia/Lord_Howe"), ZoneId.of("Asia/Kolkata"), ZoneId.of("Etc/GMT+3")};
+
+    @Test
+    public void fastLayoutsMatchTheFormatter() {
+        var random = new SplittableRandom(44);
+        long min = Instant.parse("0001-01-02T00:00:00Z").toEpochMilli();
+        long max = Instant.parse("9999-12-30T00:00:00Z").toEpochMilli();
+        for (int i = 0; i < 20_000; i++) {
+            // Most samples near today, where the time zone rules change
+            long epochMillis = i % 4 == 0 ? random.nextLong(min, max)
+                    : random.nextLong(-2_000_000_000_000L, 4_000_000_000_000L);
+            for (var pattern : FAST_PATTERNS) {
+                var zone = ZONES[random.nextInt(ZONES.length)];
+                var formatter = DateTimeFormatter.ofPattern(pattern).withZone(zone);
+                var text = formatter.format(Instant.ofEpochMilli(epochMillis));
+                Assertions.assertEquals(text, DateUtils.format(epochMillis, pattern, zone), pattern + " " + zone);
+
+                var parsed = formatter.parse(text);
+                long expected = pattern.length() == 10
+                        ? LocalDate.from(parsed).atStartOfDay(zone).toInstant().toEpochMilli()
+                        : Instant.from(parsed).toEpochMilli();
+                Assertions.assertEquals(expected, DateUtils.parseEpochMillis(text, pattern, zone), text + " " + zone);
+            }
+        }
+    }
+
+    @Test
+    public void gapsAndOverlapsResolveLikeAtZone() {
+        var newYork = ZoneId.of("America/New_York");
+        for (var local : new String[]{"2024-03-10 02:30:00", "2024-11-03 01:30:00", "2024-11-03 02:00:00"}) {
+            long expected = LocalDateTime.parse(local.replace(' ', 'T')).atZone(newYork).toInstant().toEpochMilli();
+            Assertions.assertEquals(expected, DateUtils.parseEpochMillis(local, "yyyy-MM-dd HH:mm:ss", newYork));
+        }
+    }
+
+    @Test
+    public void unusualTextIsLeftToTheFormatter() {
+        var utc = ZoneOffset.UTC;
+        Assertions.assertEquals(Instant.parse("2024-02-29T00:00:00Z").toEpochMilli(),
+                DateUtils.parseEpochMillis("2024-02-30", "yyyy-MM-dd", utc));
+        Assertions.assertEquals(Instant.parse("2024-01-02T00:00:00Z").toEpochMilli(),
+                DateUtils.parseEpochMillis("2024-01-01 24:00:00", "yyyy-MM-dd HH:mm:ss", utc));
+        Assertions.assertEquals("+10000-01-01",
+                DateUtils.format(Instant.parse("+10000-01-01T00:00:00Z").toEpochMilli(), "yyyy-MM-dd", utc));
+        for (var text : new String[]{"2024-1-05", "2024-13-01", "2024-01-01T10:00:00", "0000-01-01", "2024-01-0x"}) {
+            Assertions.assertThrows(DateTimeParseException.class,
+                    () -> DateUtils.parseEpochMillis(text, "yyyy-MM-dd", utc), text);
+        }
+        Assertions.assertThrows(DateTimeParseException.class,
+                () -> DateUtils.parseEpochMillis("2024-01-01 10:61:00", "yyyy-MM-dd HH:mm:ss", utc));
+    }
+
+    @Test
+    public void otherPatternsUseACachedFormatter() {
+        var lisbon = ZoneId.of("Europe/Lisbon");
+        Assertions.assertSame(DateUtils.formatter("dd/MM/yyyy HH:mm", lisbon),
+                DateUtils.formatter("dd/MM/yyyy HH:mm", lisbon));
+        long epochMillis = Instant.parse("2024-07-01T09:15:00Z").toEpochMilli();
+        Assertions.assertEquals("01/07/2024 10:15", DateUtils.format(epochMillis, "dd/MM/yyyy HH:mm", lisbon));
+        Assertions.assertEquals(epochMillis, DateUtils.parseEpochMillis("01/07/2024 10:15", "dd/MM/yyyy HH:mm",
+                lisbon));
+        // An offset in the text wins over the zone
+        Assertions.assertEquals(Instant.parse("2024-07-01T05:15:00Z").toEpochMilli(),
+                DateUtils.parseEpochMillis("2024-07-01 10:15 +05:00", "yyyy-MM-dd HH:mm XXX", lisbon));
+        Assertions.assertEquals(Instant.parse("1970-01-01T09:30:00Z").toEpochMilli(),
+                DateUtils.parseEpochMillis("09:30", "HH:mm", ZoneOffset.UTC));
+    }
+
+    @Test
+    public void legacyDateMethodsKeepTheirBehaviour() throws ParseException {
+        var date = DateUtils.parseDateWithTimeZone("2024-10-07 18:30:05", "yyyy-MM-dd HH:mm:ss", "Europe/Lisbon");
+        Assertions.assertEquals(Instant.parse("2024-10-07T17:30:05Z"), date.toInstant());
+        Assertions.assertEquals("2024-10-07T17:30:05",
+                DateUtils.formatDateWithTimeZone(date, DateUtils.ISO_DATE_TIME_FORMAT, "UTC"));
+        // Unknown ids are GMT, as for TimeZone
+        Assertions.assertEquals("2024-10-07 17:30",
+                DateUtils.formatDateWithTimeZone(date, "yyyy-MM-dd HH:mm", "No/Such_Zone"));
+
+        // Text after the date is ignored, as SimpleDateFormat did
+        var start = DateUtils.parseDate("2024-10-07 and more");
+        Assertions.assertEquals("2024-10-07", DateUtils.formatDate(start));
+        Assertions.assertEquals(TimeZone.getDefault().toZoneId(), ZoneId.systemDefault());
+        Assertions.assertEquals(DateUtils.toDate(LocalDateTime.parse("2024-10-07T00:00:00")), start);
+        Assertions.assertNull(DateUtils.formatDate(null));
+
+        var error = Assertions.assertThrows(ParseException.class, () -> DateUtils.parseDate("07/10/2024"));
+        Assertions.assertEquals(0, error.getErrorOffset());
+        Assertions.assertInstanceOf(DateTimeParseException.class, error.getCause());
+        Assertions.assertEquals(DateTimeFormatter.ofPattern("EEEE").format(LocalDateTime.parse("2024-10-07T12:00")),
+                DateUtils.getDayOfWeek(new Date(DateUtils.toDate(LocalDateTime.parse("2024-10-07T12:00")).getTime())));
+    }
+
+    @Test
+    public void batchesMatchTheCalendarMethods() {
+        var random = new SplittableRandom(45);
+        for (var zone : ZONES) {
+            var timeZone = TimeZone.getTimeZone(zone);
+            var epochMillis = new long[2_000];
+            for (int i = 0; i < epochMillis.length; i++) {
+                // Around the transitions of the zone, and anywhere in the years TimeZone and ZoneRules agree on
+                epochMillis[i] = i % 2 == 0 ? nearTransition(zone, random)
+                        : random.nextLong(-2_177_452_800_000L, 2_082_758_400_000L);
+            }
+            for (int days : new int[]{0, 1, -1, 7, -30, 366}) {
+                var added = new long[epochMillis.length];
+                DateUtils.addDays(epochMillis, days, zone, added);
+                for (int i = 0; i < epochMillis.length; i++) {
+                    var calendar = calendar(timeZone, epochMillis[i]);
+                    calendar.add(Calendar.DAY_OF_MONTH, days);
+                    Assertions.assertEquals(calendar.getTimeInMillis(), added[i],
+                            zone + " " + Instant.ofEpochMilli(epochMillis[i]) + " + " + days);
+                }
+            }
+            var starts = new long[epochMillis.length];
+            var weekends = new boolean[epochMillis.length];
+            DateUtils.getStartOfDay(epochMillis, zone, starts);
+            DateUtils.isWeekend(epochMillis, zone, weekends);
+            for (int i = 0; i < epochMillis.length; i++) {
+                var calendar = calendar(timeZone, epochMillis[i]);
+                int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
+                Assertions.assertEquals(dayOfWeek == Calendar.SATURDAY || dayOfWeek == Calendar.SUNDAY, weekends[i]);
+                calendar.set(Calendar.HOUR_OF_DAY, 0);
+                calendar.set(Calendar.MINUTE, 0);
+                calendar.set(Calendar.SECOND, 0);
+                calendar.set(Calendar.MILLISECOND, 0);
+                Assertions.assertEquals(calendar.getTimeInMillis(), starts[i],
+                        zone + " " + Instant.ofEpochMilli(epochMillis[i]));
+            }
+        }
+    }
+
+    @Test
+    public void batchesInTheDefaultZoneMatchTheDateMethods() {
+        var zone = ZoneId.systemDefault();
+        var dates = new Date[]{new Date(0L), new Date(1_728_322_205_123L), new Date(-1_000_000_000_000L)};
+        var epochMillis = new long[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            epochMillis[i] = dates[i].getTime();
+        }
+        var added = new long[dates.length];
+        var starts = new long[dates.length];
+        var weekends = new boolean[dates.length];
+        var differences = new long[dates.length];
+        DateUtils.addDays(epochMillis, 3, zone, added);
+        DateUtils.getStartOfDay(epochMillis, zone, starts);
+        DateUtils.isWeekend(epochMillis, zone, weekends);
+        DateUtils.getDifferenceInDays(epochMillis, new long[]{-1L, 0L, 0L}, differences);
+        for (int i = 0; i < dates.length; i++) {
+            Assertions.assertEquals(DateUtils.addDays(dates[i], 3).getTime(), added[i]);
+            Assertions.assertEquals(DateUtils.getStartOfDay(dates[i]).getTime(), starts[i]);
+            Assertions.assertEquals(DateUtils.isWeekend(dates[i]), weekends[i]);
+        }
+        Assertions.assertArrayEquals(new long[]{0L, -20_003L, 11_574L}, differences);
+    }
+
+    @Test
+    public void epochDayBatchesFollowLocalDate() {
+        var lisbon = ZoneId.of("Europe/Lisbon");
+        var random = new SplittableRandom(46);
+        int size = DateUtils.PARALLEL_THRESHOLD + 1_234;
+        var epochDays = new int[size];
+        var ends = new int[size];
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = random.nextInt(-100_000, 100_000);
+            ends[i] = random.nextInt(-100_000, 100_000);
+        }
+        var starts = new long[size];
+        var weekends = new boolean[size];
+        var differences = new long[size];
+        var added = new int[size];
+        var roundTrip = new int[size];
+        DateUtils.getStartOfDay(epochDays, lisbon, starts);
+        DateUtils.isWeekend(epochDays, weekends);
+        DateUtils.getDifferenceInDays(epochDays, ends, differences);
+        DateUtils.addDays(epochDays, -45, added);
+        DateUtils.toEpochDays(starts, lisbon, roundTrip);
+        for (int i = 0; i < size; i++) {
+            var date = LocalDate.ofEpochDay(epochDays[i]);
+            // Calendar takes the later offset when midnight happens twice
+            Assertions.assertEquals(date.atStartOfDay(lisbon).withLaterOffsetAtOverlap().toInstant().toEpochMilli(),
+                    starts[i], date.toString());
+            Assertions.assertEquals(date.getDayOfWeek().compareTo(DayOfWeek.SATURDAY) >= 0, weekends[i]);
+            Assertions.assertEquals(ends[i] - epochDays[i], differences[i]);
+            Assertions.assertEquals(date.minusDays(45).toEpochDay(), added[i]);
+            Assertions.assertEquals(epochDays[i], roundTrip[i]);
+        }
+
+        // In place, and across the parallel chunks
+        var millis = new long[size];
+        for (int i = 0; i < size; i++) {
+            millis[i] = starts[i] + 36_000_000L;
+        }
+        var expected = new long[size];
+        DateUtils.getStartOfDay(millis, lisbon, expected);
+        DateUtils.getStartOfDay(millis, lisbon, millis);
+        Assertions.assertArrayEquals(starts, expected);
+        Assertions.assertArrayEquals(starts, millis);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> DateUtils.isWeekend(new int[3], new boolean[2]));
+    }
+
+    private static long nearTransition(ZoneId zone, SplittableRandom random) {
+        var instant = Instant.ofEpochMilli(random.nextLong(-2_177_452_800_000L, 2_082_758_400_000L));
+        var transition = zone.getRules().nextTransition(instant);
+        if (transition == null) {
+            return instant.toEpochMilli();
+        }
+        return transition.toEpochSecond() * 1000L + random.nextLong(-3 * 86_400_000L, 3 * 86_400_000L);
+    }
+
+    private static GregorianCalendar calendar(TimeZone timeZone, long epochMillis) {
+        var calendar = new GregorianCalendar(timeZone);
+        calendar.setTimeInMillis(epochMillis);
+        return calendar;
+    }
+}
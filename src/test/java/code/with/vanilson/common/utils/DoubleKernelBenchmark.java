@@ -0,0 +1,65 @@
+package code.with.vanilson.common.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DoubleKernelBenchmark
+ * <p>
+ * The {@link ScalarDoubleKernel} loops against the {@link VectorDoubleKernel} ones over one chunk of prices, the
+ * unit {@link NumbersUtil} hands to each fork-join task. The profile starts the forks with the vector module.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-11
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleKernelBenchmark {
+
+    @Param({"scalar", "vector"})
+    private String kernel;
+
+    private DoubleKernel loops;
+    private final double[] prices = new SplittableRandom(48).doubles(ArrayChunks.CHUNK, 500.0, 150_000.0).toArray();
+    private final double[] lanes = new double[2 * DoubleKernel.LANES];
+    private final double[] result = new double[ArrayChunks.CHUNK];
+
+    @Setup
+    public void setUp() {
+        loops = "vector".equals(kernel) ? new VectorDoubleKernel() : new ScalarDoubleKernel();
+    }
+
+    @Benchmark
+    public double[] sum() {
+        loops.sum(prices, 0, prices.length, lanes);
+        return lanes;
+    }
+
+    @Benchmark
+    public double max() {
+        return loops.extremum(prices, 0, prices.length, Double.NEGATIVE_INFINITY, true);
+    }
+
+    @Benchmark
+    public double[] percentage() {
+        loops.percentage(prices, 0, prices.length, 2_500_000.0, result);
+        return result;
+    }
+}
@@ -0,0 +1,111 @@
+package code.with.vanilson.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class DoubleKernelTest {
+
+    // Enough for the kernels to be compiled with the vector intrinsics partway through
+    private static final int RUNS = 20_000;
+
+    // Values where arithmetic gets interesting, mixed into random ones
+    private static final double[] SPECIAL = {
+            0.0, -0.0, 1.0, -1.0, 0.1, 100.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.MAX_VALUE, -Double.MAX_VALUE, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MIN_NORMAL, 1e100,
+            -1e100, 1e-300,
+    };
+
+    private final DoubleKernel scalar = new ScalarDoubleKernel();
+    private final DoubleKernel vector = new VectorDoubleKernel();
+
+    @Test
+    public void vectorKernelIsSelectedWhenTheModuleIsThere() {
+        // The build starts the test JVM with the module; without it the plain loops are used
+        var expected = ModuleLayer.boot().findModule(DoubleKernel.VECTOR_MODULE).isPresent()
+                && vector.accelerated() ? VectorDoubleKernel.class : ScalarDoubleKernel.class;
+        Assertions.assertEquals(expected, DoubleKernel.select().getClass());
+        Assertions.assertFalse(scalar.accelerated());
+    }
+
+    @Test
+    public void sumsMatchTheScalarLanes() {
+        var random = new SplittableRandom(48);
+        for (int run = 0; run < RUNS; run++) {
+            var values = values(random);
+            int from = random.nextInt(values.length + 1);
+            int to = random.nextInt(from, values.length + 1);
+            var expected = new double[2 * DoubleKernel.LANES];
+            var actual = new double[2 * DoubleKernel.LANES];
+            scalar.sum(values, from, to, expected);
+            vector.sum(values, from, to, actual);
+            assertSame(expected, actual, values);
+        }
+    }
+
+    @Test
+    public void extremaMatchTheScalarLoop() {
+        var random = new SplittableRandom(49);
+        for (int run = 0; run < RUNS; run++) {
+            var values = values(random);
+            int from = random.nextInt(values.length + 1);
+            int to = random.nextInt(from, values.length + 1);
+            double best = random.nextBoolean() ? Double.NEGATIVE_INFINITY : SPECIAL[random.nextInt(SPECIAL.length)];
+            for (boolean findMax : new boolean[]{true, false}) {
+                assertSame(new double[]{scalar.extremum(values, from, to, best, findMax)},
+                        new double[]{vector.extremum(values, from, to, best, findMax)}, values);
+            }
+        }
+    }
+
+    @Test
+    public void elementWiseLoopsMatchTheScalarOnes() {
+        var random = new SplittableRandom(50);
+        for (int run = 0; run < RUNS; run++) {
+            var values = values(random);
+            int from = random.nextInt(values.length + 1);
+            int to = random.nextInt(from, values.length + 1);
+            double operand = random.nextInt(4) == 0 ? SPECIAL[random.nextInt(SPECIAL.length)]
+                    : random.nextDouble(-1e6, 1e6);
+            var expected = new double[values.length];
+            var actual = new double[values.length];
+            scalar.multiply(values, from, to, operand, expected);
+            vector.multiply(values, from, to, operand, actual);
+            assertSame(expected, actual, values);
+            scalar.divide(values, from, to, operand, expected);
+            vector.divide(values, from, to, operand, actual);
+            assertSame(expected, actual, values);
+            scalar.percentage(values, from, to, operand, expected);
+            vector.percentage(values, from, to, operand, actual);
+            assertSame(expected, actual, values);
+        }
+    }
+
+    // Up to a few vectors and a tail, of prices, of wild magnitudes or of a handful of repeated values
+    private static double[] values(SplittableRandom random) {
+        var values = new double[random.nextInt(0, 80)];
+        int kind = random.nextInt(3);
+        for (int i = 0; i < values.length; i++) {
+            if (random.nextInt(10) == 0) {
+                values[i] = SPECIAL[random.nextInt(SPECIAL.length)];
+            } else if (kind == 0) {
+                values[i] = random.nextInt(1, 100_000_000) / 100.0;
+            } else if (kind == 1) {
+                values[i] = Math.scalb(random.nextDouble(-1, 1), random.nextInt(-1074, 1024));
+            } else {
+                values[i] = random.nextInt(-2, 3) * 0.5;
+            }
+        }
+        return values;
+    }
+
+    private static void assertSame(double[] expected, double[] actual, double[] values) {
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(actual[i]),
+                    () -> Arrays.toString(expected) + " != " + Arrays.toString(actual) + " for "
+                            + Arrays.toString(values));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package code.with.vanilson.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+public class IntKernelTest {
+
+    // Enough for the kernels to be compiled with the vector intrinsics partway through
+    private static final int RUNS = 20_000;
+
+    // Days where the arithmetic gets interesting, mixed into random ones
+    private static final int[] SPECIAL = {
+            0, 1, -1, 2, 3, -4, -5, 6, 7, -7, -8, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE - 3,
+            Integer.MIN_VALUE + 4, 2_147_483_641, -2_147_483_641,
+    };
+
+    private final IntKernel scalar = new ScalarIntKernel();
+    private final IntKernel vector = new VectorIntKernel();
+
+    @Test
+    public void vectorKernelIsSelectedWhenTheModuleIsThere() {
+        // The build starts the test JVM with the module; without it the plain loops are used
+        var expected = ModuleLayer.boot().findModule(DoubleKernel.VECTOR_MODULE).isPresent()
+                && vector.accelerated() ? VectorIntKernel.class : ScalarIntKernel.class;
+        Assertions.assertEquals(expected, IntKernel.select().getClass());
+        Assertions.assertFalse(scalar.accelerated());
+    }
+
+    @Test
+    public void loopsMatchTheScalarOnes() {
+        var random = new SplittableRandom(45);
+        for (int run = 0; run < RUNS; run++) {
+            var days = days(random);
+            var others = days(random, days.length);
+            int from = random.nextInt(days.length + 1);
+            int to = random.nextInt(from, days.length + 1);
+            int operand = random.nextInt(4) == 0 ? SPECIAL[random.nextInt(SPECIAL.length)]
+                    : random.nextInt(-1000, 1000);
+
+            var expectedDays = new int[days.length];
+            var actualDays = new int[days.length];
+            scalar.add(days, from, to, operand, expectedDays);
+            vector.add(days, from, to, operand, actualDays);
+            Assertions.assertArrayEquals(expectedDays, actualDays);
+
+            var expectedWeekends = new boolean[days.length];
+            var actualWeekends = new boolean[days.length];
+            scalar.isWeekend(days, from, to, expectedWeekends);
+            vector.isWeekend(days, from, to, actualWeekends);
+            Assertions.assertArrayEquals(expectedWeekends, actualWeekends);
+
+            var expectedDifferences = new long[days.length];
+            var actualDifferences = new long[days.length];
+            scalar.difference(days, others, from, to, expectedDifferences);
+            vector.difference(days, others, from, to, actualDifferences);
+            Assertions.assertArrayEquals(expectedDifferences, actualDifferences);
+        }
+    }
+
+    private static int[] days(SplittableRandom random) {
+        return days(random, random.nextInt(0, 80));
+    }
+
+    // Up to a few vectors and a tail, of report dates or of any int
+    private static int[] days(SplittableRandom random, int length) {
+        var days = new int[length];
+        boolean wide = random.nextBoolean();
+        for (int i = 0; i < days.length; i++) {
+            if (random.nextInt(10) == 0) {
+                days[i] = SPECIAL[random.nextInt(SPECIAL.length)];
+            } else {
+                days[i] = wide ? random.nextInt() : random.nextInt(-100_000, 100_000);
+            }
+        }
+        return days;
+    }
+}
@@ -0,0 +1,56 @@
+package code.with.vanilson.common.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MessageCatalogBenchmark
+ * <p>
+ * Cost of the 404 message of {@code GET /api/cars/{id}}: parsing the template on every call, as
+ * {@code MessageFormat.format} does, against the template compiled once by the {@link MessageCatalog}. The map
+ * lookup alone is the floor.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-06
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageCatalogBenchmark {
+
+    private static final String KEY = "car.not_found";
+
+    private final MessageCatalog catalog = MessageCatalog.shared();
+    private final String template = catalog.template(KEY, Locale.US);
+    private long id = 987_654L;
+
+    @Benchmark
+    public String messageFormat() {
+        return MessageFormat.format(template, id++);
+    }
+
+    @Benchmark
+    public String catalogFormat() {
+        return catalog.format(KEY, Locale.US, id++);
+    }
+
+    @Benchmark
+    public String catalogLookup() {
+        return catalog.template(KEY, Locale.US);
+    }
+}
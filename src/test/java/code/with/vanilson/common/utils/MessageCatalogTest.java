@@ -0,0 +1,95 @@
+package code.with.vanilson.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Properties;
+
+public class MessageCatalogTest {
+
+    private static final String BASENAME = "i18n/catalog-test";
+
+    private final MessageCatalog catalog = new MessageCatalog(BASENAME, getClass().getClassLoader());
+
+    @Test
+    public void formatsLikeMessageFormat() throws Exception {
+        var properties = new Properties();
+        try (var in = getClass().getClassLoader().getResourceAsStream(BASENAME + ".properties")) {
+            properties.load(in);
+        }
+        Object[][] arguments = {
+                {42L},
+                {1_234_567, "x"},
+                {-9_876_543_210L, null},
+                {Long.MIN_VALUE},
+                {new BigDecimal("1234.5"), 3.25},
+                {"text"},
+                {},
+        };
+        for (var locale : new Locale[]{Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("de", "CH"),
+                Locale.forLanguageTag("ar-EG"), Locale.forLanguageTag("hi-IN-u-nu-deva")}) {
+            for (var key : new String[]{"car.quoted", "car.typed"}) {
+                for (var args : arguments) {
+                    if (args.length == 0) {
+                        continue;
+                    }
+                    var format = new MessageFormat(properties.getProperty(key), locale);
+                    String expected;
+                    try {
+                        expected = format.format(args);
+                    } catch (IllegalArgumentException ex) {
+                        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> catalog.format(key, locale, args), key + " " + locale);
+                        continue;
+                    }
+                    Assertions.assertEquals(expected, catalog.format(key, locale, args), key + " " + locale);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void messagesWithoutArgumentsAreReturnedAsWritten() {
+        Assertions.assertEquals("It''s car '{0}' number {0}, twice: {1}{0}.",
+                catalog.format("car.quoted", Locale.US));
+        Assertions.assertEquals("It's car {0} number 7, twice: {1}7.", catalog.format("car.quoted", Locale.US, 7));
+        Assertions.assertNull(catalog.format("car.unknown", Locale.US, 7));
+        Assertions.assertEquals("Car {0 has no closing brace.", catalog.format("car.broken", Locale.US, 7));
+    }
+
+    @Test
+    public void localesFallBackToTheBaseFile() {
+        Assertions.assertEquals("La voiture avec l'ID 1\u202f234 est introuvable.",
+                catalog.format("car.not_found", Locale.FRANCE, 1234));
+        Assertions.assertEquals("The car with ID 1,234 was not found.",
+                catalog.format("car.not_found", Locale.forLanguageTag("en-GB"), 1234));
+        Assertions.assertEquals("The car with ID {0} was not found.",
+                catalog.template("car.not_found", Locale.CHINA));
+    }
+
+    @Test
+    public void implementsTheSpringMessageSourceContract() {
+        Assertions.assertEquals("The car with ID 7 was not found.",
+                catalog.getMessage("car.not_found", new Object[]{7}, Locale.US));
+        Assertions.assertThrows(NoSuchMessageException.class,
+                () -> catalog.getMessage("car.unknown", null, Locale.US));
+        Assertions.assertEquals("Default 7", catalog.getMessage("car.unknown", new Object[]{7}, "Default {0}",
+                Locale.US));
+
+        var resolvable = new DefaultMessageSourceResolvable(new String[]{"car.unknown", "car.not_found"},
+                new Object[]{new DefaultMessageSourceResolvable(new String[]{"car.unknown"}, "nested")});
+        Assertions.assertEquals("The car with ID nested was not found.", catalog.getMessage(resolvable, Locale.US));
+    }
+
+    @Test
+    public void sharedCatalogBacksMessageProvider() {
+        Assertions.assertEquals("Car ID 0 cannot be equal to zero or less.",
+                MessageProvider.getMessage("car.invalid_data", 0));
+        Assertions.assertEquals("Message not found for key: car.unknown", MessageProvider.getMessage("car.unknown"));
+    }
+}
@@ -0,0 +1,90 @@
+package code.with.vanilson.common.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NumbersUtilBenchmark
+ * <p>
+ * Price statistics over a fleet: the {@code List<Double>} forms, with the boxes spread over the heap as a list
+ * built over time leaves them, against the {@code double[]} and direct {@link DoubleBuffer} forms. Scores are per
+ * call; the larger size goes through the fork-join pool.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class NumbersUtilBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private List<Double> list;
+    private double[] array;
+    private DoubleBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(47);
+        array = random.doubles(size, 500.0, 150_000.0).toArray();
+        var boxes = new ArrayList<Double>(size);
+        for (double price : array) {
+            boxes.add(price);
+        }
+        // Reading the boxes in allocation order would flatter the list
+        Collections.shuffle(boxes, new java.util.Random(47));
+        list = boxes;
+        for (int i = 0; i < size; i++) {
+            array[i] = list.get(i);
+        }
+        buffer = ByteBuffer.allocateDirect(size * Double.BYTES).asDoubleBuffer().put(array).flip();
+    }
+
+    @Benchmark
+    public double sumList() {
+        return NumbersUtil.calculateSum(list);
+    }
+
+    @Benchmark
+    public double sumArray() {
+        return NumbersUtil.calculateSum(array);
+    }
+
+    @Benchmark
+    public double sumDirectBuffer() {
+        return NumbersUtil.calculateSum(buffer);
+    }
+
+    @Benchmark
+    public double maxList() {
+        return NumbersUtil.findMax(list);
+    }
+
+    @Benchmark
+    public double maxArray() {
+        return NumbersUtil.findMax(array);
+    }
+}
@@ -0,0 +1,142 @@
+package code.with.vanilson.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.DoubleStream;
+
+public class NumbersUtilTest {
+
+    @Test
+    public void sumsAreCompensated() {
+        var random = new SplittableRandom(47);
+        // Prices from cents to millions, large enough to go through the parallel chunks
+        var prices = new double[ArrayChunks.PARALLEL_THRESHOLD * 2 + 17];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = Math.scalb(random.nextInt(1, 100_000_000), random.nextInt(-20, 4)) / 100.0;
+        }
+        double exact = exactSum(prices);
+        double ulp = Math.ulp(exact);
+        Assertions.assertEquals(exact, NumbersUtil.calculateSum(prices), ulp);
+        Assertions.assertEquals(NumbersUtil.calculateSum(prices), NumbersUtil.calculateSum(prices));
+        Assertions.assertEquals(exact, NumbersUtil.calculateSum(DoubleBuffer.wrap(prices)), ulp);
+        Assertions.assertEquals(exact, NumbersUtil.calculateSum(direct(prices)), ulp);
+        Assertions.assertEquals(exact, NumbersUtil.calculateSum(DoubleStream.of(prices)), ulp);
+        Assertions.assertEquals(exact, NumbersUtil.calculateSum(DoubleStream.of(prices).parallel()), ulp);
+        Assertions.assertEquals(exact, NumbersUtil.calculateSum(Arrays.stream(prices).boxed().toList()), ulp);
+        Assertions.assertEquals(exact / prices.length, NumbersUtil.calculateAverage(prices), ulp);
+        Assertions.assertEquals(exact / prices.length, NumbersUtil.calculateAverage(DoubleStream.of(prices)), ulp);
+
+        Assertions.assertEquals(1.0, NumbersUtil.calculateSum(new double[]{1e100, 1.0, -1e100}));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY,
+                NumbersUtil.calculateSum(new double[]{Double.MAX_VALUE, Double.MAX_VALUE, 1.0}));
+        Assertions.assertTrue(Double.isNaN(NumbersUtil.calculateSum(
+                new double[]{Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})));
+    }
+
+    @Test
+    public void extremaFollowTheListRule() {
+        var random = new SplittableRandom(48);
+        double[][] cases = {
+                {Double.NaN, 3.0, 5.0},
+                {3.0, Double.NaN, 5.0, -1.0},
+                {-0.0, 0.0},
+                {0.0, -0.0},
+                {Double.NEGATIVE_INFINITY, Double.NaN},
+                {7.0},
+                large(random, false),
+                large(random, true),
+        };
+        for (var numbers : cases) {
+            var list = Arrays.stream(numbers).boxed().toList();
+            assertSame(NumbersUtil.findMax(list), NumbersUtil.findMax(numbers));
+            assertSame(NumbersUtil.findMin(list), NumbersUtil.findMin(numbers));
+            assertSame(NumbersUtil.findMax(list), NumbersUtil.findMax(direct(numbers)));
+            assertSame(NumbersUtil.findMin(list), NumbersUtil.findMin(DoubleBuffer.wrap(numbers)));
+            assertSame(NumbersUtil.findMax(list), NumbersUtil.findMax(DoubleStream.of(numbers).parallel()));
+            assertSame(NumbersUtil.findMin(list), NumbersUtil.findMin(DoubleStream.of(numbers)));
+        }
+    }
+
+    @Test
+    public void buffersAreReadFromTheirPosition() {
+        var buffer = DoubleBuffer.wrap(new double[]{100.0, 1.0, 2.0, 3.0, 100.0}, 1, 3).slice();
+        buffer.position(1);
+        Assertions.assertEquals(5.0, NumbersUtil.calculateSum(buffer));
+        Assertions.assertEquals(2.5, NumbersUtil.calculateAverage(buffer));
+        Assertions.assertEquals(3.0, NumbersUtil.findMax(buffer));
+        Assertions.assertEquals(2.0, NumbersUtil.findMin(buffer));
+        Assertions.assertEquals(1, buffer.position());
+    }
+
+    @Test
+    public void arrayConversionsMatchTheSingleOnes() {
+        var random = new SplittableRandom(49);
+        var prices = random.doubles(ArrayChunks.PARALLEL_THRESHOLD + 7, -1e6, 1e6).toArray();
+        prices[3] = Double.NaN;
+        prices[4] = -0.0;
+        var converted = new double[prices.length];
+        var decimals = new double[prices.length + 1];
+        var percentages = prices.clone();
+        NumbersUtil.convert(prices, 1.609344, converted);
+        NumbersUtil.percentageToDecimal(prices, decimals);
+        NumbersUtil.calculatePercentage(percentages, 250_000.0, percentages);
+        for (int i = 0; i < prices.length; i++) {
+            assertSame(NumbersUtil.convert(prices[i], 1.609344), converted[i]);
+            assertSame(NumbersUtil.percentageToDecimal(prices[i]), decimals[i]);
+            assertSame(NumbersUtil.calculatePercentage(prices[i], 250_000.0), percentages[i]);
+        }
+        Assertions.assertEquals(0.0, decimals[prices.length]);
+
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> NumbersUtil.calculatePercentage(prices, 0.0, converted));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> NumbersUtil.convert(prices, 2.0, new double[prices.length - 1]));
+    }
+
+    @Test
+    public void emptyInputsAreRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NumbersUtil.calculateSum(new double[0]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NumbersUtil.calculateAverage((double[]) null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NumbersUtil.findMax(DoubleBuffer.allocate(0)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NumbersUtil.findMin(DoubleStream.empty()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> NumbersUtil.calculateAverage(DoubleStream.empty()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NumbersUtil.calculateSum(List.of()));
+    }
+
+    // NaN at the start of the parallel chunks, the first value decides only when it is the first of all
+    private static double[] large(SplittableRandom random, boolean nanFirst) {
+        var numbers = random.doubles(ArrayChunks.PARALLEL_THRESHOLD + ArrayChunks.CHUNK + 5, -1e6, 1e6).toArray();
+        for (int i = nanFirst ? 0 : ArrayChunks.CHUNK; i < numbers.length; i += ArrayChunks.CHUNK) {
+            numbers[i] = Double.NaN;
+        }
+        return numbers;
+    }
+
+    private static DoubleBuffer direct(double[] numbers) {
+        var buffer = ByteBuffer.allocateDirect(numbers.length * Double.BYTES).asDoubleBuffer();
+        buffer.put(numbers).flip();
+        return buffer;
+    }
+
+    private static double exactSum(double[] numbers) {
+        var sum = BigDecimal.ZERO;
+        for (double number : numbers) {
+            sum = sum.add(new BigDecimal(number));
+        }
+        return sum.doubleValue();
+    }
+
+    // Same value, telling NaN and the zeros apart
+    private static void assertSame(double expected, double actual) {
+        Assertions.assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual),
+                expected + " != " + actual);
+    }
+}
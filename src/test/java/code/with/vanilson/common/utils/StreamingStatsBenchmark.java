@@ -0,0 +1,68 @@
+package code.with.vanilson.common.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StreamingStatsBenchmark
+ * <p>
+ * Recording request latencies from several threads into one {@link ConcurrentStreamingStats}, against one
+ * {@link StreamingStats} behind a lock, and what a snapshot costs the reporting thread.
+ *
+ * @author vamuhong
+ * @version 1.0
+ * @since 2024-10-12
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class StreamingStatsBenchmark {
+
+    private final ConcurrentStreamingStats concurrent = new ConcurrentStreamingStats();
+    private final StreamingStats locked = new StreamingStats();
+
+    @State(Scope.Thread)
+    public static class Latencies {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        double next() {
+            return -Math.log(random.nextDouble()) * 20;
+        }
+    }
+
+    @Benchmark
+    public void recordConcurrent(Latencies latencies) {
+        concurrent.record(latencies.next());
+    }
+
+    @Benchmark
+    public void recordLocked(Latencies latencies) {
+        double latency = latencies.next();
+        synchronized (locked) {
+            locked.record(latency);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public StreamingStats snapshot(Latencies latencies) {
+        concurrent.record(latencies.next());
+        return concurrent.snapshot();
+    }
+}
@@ -0,0 +1,107 @@
+package code.with.vanilson.common.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class StreamingStatsTest {
+
+    private static final double[] QUANTILES = {0, 0.01, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999, 1};
+
+    @Test
+    public void statisticsMatchTheWholeStream() {
+        var random = new SplittableRandom(49);
+        // Car prices, kilometres, latencies in seconds and a stream around zero
+        double[][] streams = {
+                random.ints(50_000, 50_000, 15_000_000).mapToDouble(cents -> cents / 100.0).toArray(),
+                random.doubles(20_000, 0, 400_000).toArray(),
+                random.doubles(30_000).map(uniform -> -Math.log(uniform) / 50).toArray(),
+                random.doubles(10_001, -1_000, 1_000).toArray(),
+        };
+        for (var values : streams) {
+            var stats = new StreamingStats();
+            for (double value : values) {
+                stats.record(value);
+            }
+            var sorted = values.clone();
+            Arrays.sort(sorted);
+            Assertions.assertEquals(values.length, stats.count());
+            Assertions.assertEquals(NumbersUtil.calculateSum(values), stats.sum(), Math.ulp(stats.sum()));
+            double mean = NumbersUtil.calculateAverage(values);
+            Assertions.assertEquals(mean, stats.mean(), 1e-9 * Math.abs(mean) + 1e-12);
+            double variance = Arrays.stream(values).map(value -> (value - mean) * (value - mean)).sum()
+                    / values.length;
+            Assertions.assertEquals(variance, stats.variance(), 1e-9 * variance);
+            Assertions.assertEquals(Math.sqrt(stats.variance()), stats.standardDeviation());
+            Assertions.assertEquals(sorted[0], stats.min());
+            Assertions.assertEquals(sorted[sorted.length - 1], stats.max());
+            for (double quantile : QUANTILES) {
+                double exact = sorted[(int) Math.max(0, Math.ceil(quantile * values.length) - 1)];
+                Assertions.assertEquals(exact, stats.quantile(quantile), Math.abs(exact) * 0.004,
+                        "quantile " + quantile);
+            }
+        }
+    }
+
+    @Test
+    public void mergedPartsMatchTheWhole() {
+        var random = new SplittableRandom(50);
+        var whole = new StreamingStats();
+        var parts = new StreamingStats[]{new StreamingStats(), new StreamingStats(), new StreamingStats()};
+        for (int i = 0; i < 30_000; i++) {
+            double latency = random.nextDouble(-5, 1_000) * random.nextDouble();
+            whole.record(latency);
+            parts[random.nextInt(parts.length)].record(latency);
+        }
+        var merged = new StreamingStats().merge(parts[0]).merge(new StreamingStats()).merge(parts[1]);
+        // Between nodes, as bytes
+        merged.merge(StreamingStats.fromBytes(parts[2].toBytes()));
+        Assertions.assertEquals(whole.count(), merged.count());
+        Assertions.assertEquals(whole.min(), merged.min());
+        Assertions.assertEquals(whole.max(), merged.max());
+        Assertions.assertEquals(whole.sum(), merged.sum(), Math.ulp(whole.sum()));
+        Assertions.assertEquals(whole.mean(), merged.mean(), 1e-12 * Math.abs(whole.mean()));
+        Assertions.assertEquals(whole.variance(), merged.variance(), 1e-9 * whole.variance());
+        for (double quantile : QUANTILES) {
+            Assertions.assertEquals(whole.quantile(quantile), merged.quantile(quantile));
+        }
+        Assertions.assertEquals(30_000 - parts[0].count(), parts[1].count() + parts[2].count());
+
+        var copy = StreamingStats.fromBytes(merged.toBytes());
+        Assertions.assertArrayEquals(merged.toBytes(), copy.toBytes());
+        copy.record(1e9);
+        Assertions.assertEquals(whole.max(), merged.max());
+    }
+
+    @Test
+    public void emptyAndInvalidInputs() {
+        var stats = new StreamingStats();
+        Assertions.assertEquals(0, stats.count());
+        Assertions.assertEquals(0.0, stats.sum());
+        Assertions.assertTrue(Double.isNaN(stats.mean()));
+        Assertions.assertTrue(Double.isNaN(stats.variance()));
+        Assertions.assertTrue(Double.isNaN(stats.min()));
+        Assertions.assertTrue(Double.isNaN(stats.quantile(0.5)));
+        Assertions.assertEquals(0, StreamingStats.fromBytes(stats.toBytes()).count());
+
+        stats.record(-0.0);
+        stats.record(42.0);
+        // The first and last ranks are the exact extrema
+        Assertions.assertEquals(-0.0, stats.quantile(0.5));
+        Assertions.assertEquals(42.0, stats.quantile(0.51));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> stats.record(Double.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> stats.record(Double.NEGATIVE_INFINITY));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> stats.quantile(1.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> stats.quantile(Double.NaN));
+        Assertions.assertEquals(2, stats.count());
+
+        var bytes = stats.toBytes();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> StreamingStats.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> StreamingStats.fromBytes(Arrays.copyOf(bytes, bytes.length + 1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StreamingStats.fromBytes(new byte[0]));
+    }
+}